@@ -64,6 +64,16 @@ public class Constants {
     public static final String MESSAGE_FOR_INVALID_MODE =
             "\"%s\" is not a supported argument for mode flag. The mode flag argument should be one of " +
                     "these \"client\", \"service\" or \"schema\"";
+    public static final String MESSAGE_FOR_INVALID_JOBS =
+            "\"%d\" is not a supported argument for jobs flag. The jobs flag argument should be a positive integer.";
+    public static final String MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS = "The projects \"%s\" and \"%s\" generate " +
+            "the sources into the same output directory. \nPlease rename one of the projects in the YAML file.";
+    public static final String MESSAGE_FOR_OFFLINE_AND_REFRESH_SCHEMA_FLAGS =
+            "The offline flag is incompatible with the refresh-schema flag.";
+    public static final String MESSAGE_FOR_LIGHTWEIGHT_SCHEMA_FLAG_MISUSE =
+            "The lightweight-schema flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_FAILED_PROJECT = "Client generation failed for project \"%s\".\n%s";
+    public static final String MESSAGE_FOR_FAILED_PROJECTS = "Client generation failed for %d out of %d projects.";
 
     // GraphQL config file extensions supported
     public static final String YAML_EXTENSION = ".yaml";
@@ -26,6 +26,7 @@ import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
 import io.ballerina.graphql.generator.client.pojo.Extension;
@@ -33,6 +34,7 @@ import io.ballerina.graphql.generator.service.GraphqlServiceProject;
 import io.ballerina.graphql.generator.service.diagnostic.ServiceDiagnosticMessages;
 import io.ballerina.graphql.generator.service.exception.ServiceGenerationException;
 import io.ballerina.graphql.generator.service.generator.ServiceCodeGenerator;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.schema.diagnostic.DiagnosticMessages;
 import io.ballerina.graphql.schema.exception.SchemaFileGenerationException;
 import io.ballerina.graphql.schema.generator.SdlSchemaGenerator;
@@ -52,17 +54,29 @@ import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.graphql.cmd.Constants.BAL_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.GRAPHQL_EXTENSION;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_CONFIGURATION_FILE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_FAILED_PROJECT;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_FAILED_PROJECTS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_FILE_EXTENSION;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_JOBS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_MODE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_LIGHTWEIGHT_SCHEMA_FLAG_MISUSE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISMATCH_MODE_AND_FILE_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISSING_INPUT_ARGUMENT;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_OFFLINE_AND_REFRESH_SCHEMA_FLAGS;
 import static io.ballerina.graphql.cmd.Constants.YAML_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.YML_EXTENSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODE_CLIENT;
@@ -110,6 +124,24 @@ public class GraphqlCmd implements BLauncherCmd {
             description = "Inform the generator to generate records types where ever possible")
     private boolean useRecordsForObjectsFlag;
 
+    @CommandLine.Option(names = {"--jobs"},
+            description = "Number of GraphQL projects to validate and generate concurrently in the client mode. " +
+                    "If this is not provided, the projects are processed one after another.")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"--offline"},
+            description = "Use only the cached introspection results of the GraphQL schema URLs in the client mode.")
+    private boolean offlineFlag;
+
+    @CommandLine.Option(names = {"--refresh-schema"},
+            description = "Introspect the GraphQL schema URLs again in the client mode, ignoring the cached results.")
+    private boolean refreshSchemaFlag;
+
+    @CommandLine.Option(names = {"--lightweight-schema"},
+            description = "Validate and generate the clients from the parsed GraphQL schema without building an " +
+                    "executable schema. The queries are validated with a reduced set of rules.")
+    private boolean lightweightSchemaFlag;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -211,6 +243,18 @@ public class GraphqlCmd implements BLauncherCmd {
         if (useRecordsForObjectsFlag && !(filePath.endsWith(GRAPHQL_EXTENSION))) {
             throw new CmdException(String.format(Constants.MESSAGE_FOR_USE_RECORDS_FOR_OBJECTS_FLAG_MISUSE, mode));
         }
+
+        if (jobs < 1) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_JOBS, jobs));
+        }
+
+        if (offlineFlag && refreshSchemaFlag) {
+            throw new CmdException(MESSAGE_FOR_OFFLINE_AND_REFRESH_SCHEMA_FLAGS);
+        }
+
+        if (lightweightSchemaFlag && !(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(MESSAGE_FOR_LIGHTWEIGHT_SCHEMA_FLAG_MISUSE, mode));
+        }
     }
 
     private boolean validInputFileExtension(String filePath) {
@@ -265,25 +309,164 @@ public class GraphqlCmd implements BLauncherCmd {
     /**
      * Generate the client according to the given configurations.
      *
+     * @throws CmdException        when the projects cannot be generated concurrently
      * @throws ParseException      when a parsing related error occurs
      * @throws IOException         If an I/O error occurs
      * @throws ValidationException when validation related error occurs
      * @throws ClientCodeGenerationException when a code generation error occurs
      */
     private void generateClient(String filePath)
-            throws ParseException, IOException, ValidationException, ClientCodeGenerationException {
+            throws CmdException, ParseException, IOException, ValidationException, ClientCodeGenerationException {
         Config config = readConfig(filePath);
         ConfigValidator.getInstance().validate(config);
         List<GraphqlClientProject> projects = populateProjects(config);
+        IntrospectionCache introspectionCache = new IntrospectionCache(IntrospectionCache.getDefaultCacheDirectory(),
+                IntrospectionCache.DEFAULT_TTL, offlineFlag, refreshSchemaFlag);
+        if (jobs > 1 && projects.size() > 1) {
+            generateClientsConcurrently(projects, introspectionCache);
+            return;
+        }
         for (GraphqlClientProject project : projects) {
-            Utils.validateGraphqlProject(project);
-            QueryValidator.getInstance().validate(project);
+            validateClientProject(project, introspectionCache);
         }
         for (GraphqlProject project : projects) {
             this.clientCodeGenerator.generate(project);
         }
     }
 
+    /**
+     * Validates and generates the given projects concurrently, using up to {@code jobs} threads.
+     * As in the sequential generation, every project is validated before any is generated and the first failing
+     * validation in the order of the projects in the GraphQL config file is thrown. The generation failures are
+     * reported per project in that order.
+     *
+     * @param projects           the list of instances of the GraphQL projects
+     * @param introspectionCache the introspection cache of the schema URLs
+     * @throws CmdException        when the projects write to the same output directory or a project generation fails
+     * @throws ValidationException when validation related error occurs
+     * @throws IOException         If an I/O error occurs
+     */
+    private void generateClientsConcurrently(List<GraphqlClientProject> projects,
+                                             IntrospectionCache introspectionCache)
+            throws CmdException, ValidationException, IOException {
+        validateOutputPaths(projects);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(jobs, projects.size()));
+        try {
+            List<Future<?>> validations = new ArrayList<>();
+            for (GraphqlClientProject project : projects) {
+                validations.add(executorService.submit(() -> {
+                    validateClientProject(project, introspectionCache);
+                    return null;
+                }));
+            }
+            for (Future<?> validation : validations) {
+                try {
+                    validation.get();
+                } catch (ExecutionException e) {
+                    throwValidationFailure(e.getCause());
+                }
+            }
+
+            List<Future<?>> generations = new ArrayList<>();
+            for (GraphqlClientProject project : projects) {
+                generations.add(executorService.submit(() -> {
+                    this.clientCodeGenerator.generate(project);
+                    return null;
+                }));
+            }
+            int failedProjects = 0;
+            for (int i = 0; i < projects.size(); i++) {
+                try {
+                    generations.get(i).get();
+                } catch (ExecutionException e) {
+                    failedProjects++;
+                    outStream.println(String.format(MESSAGE_FOR_FAILED_PROJECT, projects.get(i).getName(),
+                            getFailureMessage(e.getCause())));
+                }
+            }
+            if (failedProjects > 0) {
+                throw new CmdException(String.format(MESSAGE_FOR_FAILED_PROJECTS, failedProjects, projects.size()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CmdException(e.getMessage());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Throws the failure of a concurrent project validation as it is thrown by the sequential validation.
+     *
+     * @param failure      the failure of the project validation
+     * @throws CmdException        when the failure is not a validation or an I/O error
+     * @throws ValidationException when the failure is a validation error
+     * @throws IOException         when the failure is an I/O error
+     */
+    private static void throwValidationFailure(Throwable failure)
+            throws CmdException, ValidationException, IOException {
+        if (failure instanceof ValidationException) {
+            throw (ValidationException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new CmdException(getFailureMessage(failure), failure);
+    }
+
+    /**
+     * Returns the message of a failure, or its string representation when it has no message.
+     *
+     * @param failure      the failure
+     * @return the message of the failure
+     */
+    private static String getFailureMessage(Throwable failure) {
+        return failure.getMessage() != null ? failure.getMessage() : failure.toString();
+    }
+
+    /**
+     * Validates the schema and the query documents of the given project. With the lightweight-schema flag, the
+     * project is validated without building an executable schema.
+     *
+     * @param project            the instance of the GraphQL project
+     * @param introspectionCache the introspection cache of the schema URLs
+     * @throws ValidationException when a validation error occurs
+     * @throws IOException         If an I/O error occurs
+     */
+    private void validateClientProject(GraphqlClientProject project, IntrospectionCache introspectionCache)
+            throws ValidationException, IOException {
+        if (lightweightSchemaFlag) {
+            Utils.validateGraphqlProjectLightweight(project, introspectionCache);
+        } else {
+            Utils.validateGraphqlProject(project, introspectionCache);
+        }
+        QueryValidator.getInstance().validate(project);
+    }
+
+    /**
+     * Validates that no two projects generate the sources into the same output directory. The root project generates
+     * the sources into the output path and the others into their module directory, whose names are compared ignoring
+     * the case, as they map to the same directory on case-insensitive file systems.
+     *
+     * @param projects     the list of instances of the GraphQL projects
+     * @throws CmdException when two projects generate the sources into the same output directory
+     */
+    private void validateOutputPaths(List<GraphqlClientProject> projects) throws CmdException {
+        Map<String, String> outputDirectories = new HashMap<>();
+        for (GraphqlClientProject project : projects) {
+            Path outputPath = Paths.get(project.getOutputPath()).toAbsolutePath().normalize();
+            Path moduleDirectoryPath = CodeGeneratorUtils.getModuleDirectoryPath(project.getName(), outputPath);
+            String outputDirectory = outputPath.resolve(outputPath.relativize(moduleDirectoryPath).toString()
+                    .toLowerCase(Locale.ENGLISH)).toString();
+            String conflictingProject = outputDirectories.putIfAbsent(outputDirectory, project.getName());
+            if (conflictingProject != null) {
+                throw new CmdException(String.format(MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS, conflictingProject,
+                        project.getName()));
+            }
+        }
+    }
+
     private void generateService(String filePath)
             throws IOException, ValidationException, ServiceGenerationException {
         File graphqlFile = new File(filePath);
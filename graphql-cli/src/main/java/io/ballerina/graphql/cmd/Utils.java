@@ -18,12 +18,14 @@
 
 package io.ballerina.graphql.cmd;
 
+import graphql.GraphQLError;
 import graphql.introspection.IntrospectionResultToSchema;
 import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.SchemaTypeChecker;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.errors.SchemaProblem;
 import io.ballerina.graphql.cmd.pojo.Config;
@@ -31,6 +33,7 @@ import io.ballerina.graphql.exception.SDLValidationException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.Introspector;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Default;
@@ -56,6 +59,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
@@ -93,26 +97,60 @@ public class Utils {
      */
     public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions)
             throws IntospectionException, SchemaProblem, IOException {
+        return getGraphQLSchemaDocument(schema, extensions, null);
+    }
+
+    /**
+     * Returns the `GraphQLSchema` instance for a given GraphQL schema file or schema URL, introspecting the schema URL
+     * through the given introspection cache.
+     *
+     * @param schema                                the schema value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, or {@code null} to always introspect
+     * @return                                      the `GraphQLSchema` instance
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions,
+                                                         IntrospectionCache introspectionCache)
+            throws IntospectionException, SchemaProblem, IOException {
+        TypeDefinitionRegistry typeRegistry = getTypeDefinitionRegistry(schema, extensions, introspectionCache);
+        SchemaGenerator schemaGenerator = new SchemaGenerator();
+        GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeRegistry,
+                RuntimeWiring.MOCKED_WIRING);
+        return graphQLSchema;
+    }
+
+    /**
+     * Returns the parsed `TypeDefinitionRegistry` instance for a given GraphQL schema file or schema URL, without
+     * building an executable schema from it.
+     *
+     * @param schema                                the schema value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, or {@code null} to always introspect
+     * @return                                      the `TypeDefinitionRegistry` instance
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    public static TypeDefinitionRegistry getTypeDefinitionRegistry(String schema, Extension extensions,
+                                                                   IntrospectionCache introspectionCache)
+            throws IntospectionException, SchemaProblem, IOException {
         Document introspectSchema = null;
         if (schema.startsWith(URL_RECOGNIZER)) {
             Map<String, Object> introspectionResult =
-                    Introspector.getInstance().getIntrospectionResult(schema, extensions);
+                    Introspector.getInstance().getIntrospectionResult(schema, extensions, introspectionCache);
             IntrospectionResultToSchema introspectionResultToSchema = new IntrospectionResultToSchema();
             introspectSchema = introspectionResultToSchema.createSchemaDefinition(introspectionResult);
         }
 
         SchemaParser schemaParser = new SchemaParser();
-        SchemaGenerator schemaGenerator = new SchemaGenerator();
-        TypeDefinitionRegistry typeRegistry;
         if (introspectSchema != null) {
-            typeRegistry = schemaParser.buildRegistry(introspectSchema);
-        } else {
-            String sdlInput = extractSchemaContent(schema);
-            typeRegistry = schemaParser.parse(sdlInput);
+            return schemaParser.buildRegistry(introspectSchema);
         }
-        GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeRegistry,
-                RuntimeWiring.MOCKED_WIRING);
-        return graphQLSchema;
+        String sdlInput = extractSchemaContent(schema);
+        return schemaParser.parse(sdlInput);
     }
 
     /**
@@ -178,6 +216,20 @@ public class Utils {
      * @throws IOException         If an I/O error occurs
      */
     public static void validateGraphqlProject(GraphqlProject project) throws ValidationException, IOException {
+        validateGraphqlProject(project, null);
+    }
+
+    /**
+     * Validates the GraphQL schema (SDL) of the given project, introspecting a schema URL through the given
+     * introspection cache.
+     *
+     * @param project            the instance of the Graphql project
+     * @param introspectionCache the introspection cache, or {@code null} to always introspect
+     * @throws ValidationException when a validation error occurs
+     * @throws IOException         If an I/O error occurs
+     */
+    public static void validateGraphqlProject(GraphqlProject project, IntrospectionCache introspectionCache)
+            throws ValidationException, IOException {
         String schema = project.getSchema();
 
         Extension extensions = null;
@@ -187,7 +239,7 @@ public class Utils {
         }
 
         try {
-            GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schema, extensions);
+            GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schema, extensions, introspectionCache);
             project.setGraphQLSchema(graphQLSchema);
         } catch (IntospectionException e) {
             throw new ValidationException(e.getMessage(), project.getName());
@@ -195,4 +247,35 @@ public class Utils {
             throw new SDLValidationException("GraphQL SDL validation failed.", e.getErrors(), project.getName());
         }
     }
+
+    /**
+     * Validates the GraphQL schema (SDL) of the given client project without building an executable schema.
+     * The schema goes through the same type checks as an executable schema, but the client generation only gets
+     * the index of the schema, which is built straight from the parsed schema. This saves most of the schema
+     * construction time of very large schemas.
+     *
+     * @param project            the instance of the Graphql client project
+     * @param introspectionCache the introspection cache, or {@code null} to always introspect
+     * @throws ValidationException when a validation error occurs
+     * @throws IOException         If an I/O error occurs
+     */
+    public static void validateGraphqlProjectLightweight(GraphqlClientProject project,
+                                                         IntrospectionCache introspectionCache)
+            throws ValidationException, IOException {
+        try {
+            TypeDefinitionRegistry typeRegistry =
+                    getTypeDefinitionRegistry(project.getSchema(), project.getExtensions(), introspectionCache);
+            // The checks `SchemaGenerator.makeExecutableSchema` runs before building the executable schema
+            List<GraphQLError> errors = new SchemaTypeChecker().checkTypeRegistry(typeRegistry,
+                    RuntimeWiring.MOCKED_WIRING);
+            if (!errors.isEmpty()) {
+                throw new SchemaProblem(errors);
+            }
+            project.setTypeDefinitionRegistry(typeRegistry);
+        } catch (IntospectionException e) {
+            throw new ValidationException(e.getMessage(), project.getName());
+        } catch (SchemaProblem e) {
+            throw new SDLValidationException("GraphQL SDL validation failed.", e.getErrors(), project.getName());
+        }
+    }
 }
@@ -49,13 +49,9 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT
  * This class is used to validate the GraphQL configuration file.
  */
 public class ConfigValidator {
-    private static ConfigValidator configValidator = null;
-    private List<GraphqlClientProject> projects = new ArrayList<>();
+    private static final ConfigValidator configValidator = new ConfigValidator();
 
     public static ConfigValidator getInstance() {
-        if (configValidator == null) {
-            configValidator = new ConfigValidator();
-        }
         return configValidator;
     }
 
@@ -67,26 +63,28 @@ public class ConfigValidator {
      * @throws IOException                          If an I/O error occurs
      */
     public void validate(Config config) throws ValidationException, IOException {
-        populateProjects(config);
-        for (GraphqlClientProject project : this.projects) {
+        for (GraphqlClientProject project : populateProjects(config)) {
             validateProject(project);
         }
     }
 
     /**
-     * Populate the projects with information given in the GraphQL config file.
+     * Populate the projects with information given in the GraphQL config file. Each call returns a new list, so that
+     * a validation only validates the projects of its own config file.
      *
      * @param config                                the instance of the Graphql config file
+     * @return                                      the list of instances of the GraphQL projects
      * @throws ValidationException                  when a validation error occurs
      */
-    private void populateProjects(Config config) throws ValidationException {
+    List<GraphqlClientProject> populateProjects(Config config) throws ValidationException {
+        List<GraphqlClientProject> graphqlClientProjects = new ArrayList<>();
         String schema = config.getSchema();
         List<String> documents = config.getDocuments();
         Extension extensions = config.getExtensions();
         Map<String, Project> projects = config.getProjects();
 
         if (schema != null || documents != null || extensions != null) {
-            this.projects.add(new GraphqlClientProject(ROOT_PROJECT_NAME, schema, documents, extensions));
+            graphqlClientProjects.add(new GraphqlClientProject(ROOT_PROJECT_NAME, schema, documents, extensions));
         }
 
         if (projects != null) {
@@ -94,12 +92,13 @@ public class ConfigValidator {
                 if (projects.get(projectName) == null) {
                     throw new ValidationException(MESSAGE_FOR_EMPTY_PROJECT, projectName);
                 }
-                this.projects.add(new GraphqlClientProject(projectName,
+                graphqlClientProjects.add(new GraphqlClientProject(projectName,
                         projects.get(projectName).getSchema(),
                         projects.get(projectName).getDocuments(),
                         projects.get(projectName).getExtensions()));
             }
         }
+        return graphqlClientProjects;
     }
 
     /**
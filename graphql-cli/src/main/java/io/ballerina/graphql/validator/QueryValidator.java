@@ -19,46 +19,70 @@
 package io.ballerina.graphql.validator;
 
 import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Node;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.TypeName;
+import graphql.language.VariableDefinition;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.TypeUtil;
 import graphql.validation.ValidationError;
+import graphql.validation.ValidationErrorType;
 import graphql.validation.Validator;
 import io.ballerina.graphql.exception.QueryValidationException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
+import io.ballerina.graphql.generator.client.generator.graphql.Utils;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
 
 /**
  * This class is used to validate the GraphQL query files.
  */
 public class QueryValidator {
-    private static QueryValidator queryValidator = null;
+    private static final QueryValidator queryValidator = new QueryValidator();
 
     public static QueryValidator getInstance() {
-        if (queryValidator == null) {
-            queryValidator = new QueryValidator();
-        }
         return queryValidator;
     }
 
     /**
-     * Validates the GraphQL query files (documents) of the given project.
+     * Validates the GraphQL query files (documents) of the given project. A project validated without an executable
+     * schema is validated against the index of its schema instead.
      *
      * @param project                               the instance of the Graphql project
      * @throws ValidationException                  when a validation error occurs
      * @throws IOException                          If an I/O error occurs
      */
     public void validate(GraphqlClientProject project) throws ValidationException, IOException {
-        List<String> documents = project.getDocuments();
+        DocumentRegistry documentRegistry = project.getDocumentRegistry();
         GraphQLSchema graphQLSchema = project.getGraphQLSchema();
         String projectName = project.getName();
 
-        for (String document : documents) {
+        for (String document : documentRegistry.getDocuments()) {
             try {
-                validateDocument(graphQLSchema, document, projectName);
+                if (graphQLSchema == null && project.getSchemaIndex() != null) {
+                    validateDocument(project.getSchemaIndex(), documentRegistry.getDocument(document), projectName);
+                    continue;
+                }
+                validateDocument(graphQLSchema, documentRegistry.getDocument(document), projectName);
             } catch (QueryValidationException e) {
                 throw new ValidationException(e.getMessage());
             }
@@ -69,15 +93,12 @@ public class QueryValidator {
      * Validates a GraphQL query file (document) with the given GraphQL schema (SDL).
      *
      * @param graphQLSchema                         the GraphQL schema instance
-     * @param document                              the GraphQL query document value
+     * @param parsedDocument                        the parsed GraphQL query document
      * @param projectName                           the name of the project
      * @throws QueryValidationException             If a GraphQL queries related error occurs
-     * @throws IOException                          If an I/O error occurs
      */
-    private void validateDocument(GraphQLSchema graphQLSchema, String document, String projectName)
-            throws QueryValidationException, IOException {
-        Document parsedDocument = Utils.getGraphQLQueryDocument(document);
-
+    private void validateDocument(GraphQLSchema graphQLSchema, Document parsedDocument, String projectName)
+            throws QueryValidationException {
         Validator validator = new Validator();
         List<ValidationError> validationErrors = validator.validateDocument(graphQLSchema, parsedDocument,
                 Locale.getDefault());
@@ -85,4 +106,117 @@ public class QueryValidator {
             throw new QueryValidationException("Graph query validation failed.", validationErrors, projectName);
         }
     }
+
+    /**
+     * Validates a GraphQL query file (document) with the index of the GraphQL schema (SDL). Only the rules the client
+     * generation relies on are checked: the selected fields and the fragments must be defined, object fields must
+     * have a selection and the variable types must be known.
+     *
+     * @param schemaIndex                           the index of the GraphQL schema
+     * @param parsedDocument                        the parsed GraphQL query document
+     * @param projectName                           the name of the project
+     * @throws QueryValidationException             If a GraphQL queries related error occurs
+     */
+    private void validateDocument(SchemaIndex schemaIndex, Document parsedDocument, String projectName)
+            throws QueryValidationException {
+        Map<String, FragmentDefinition> fragmentDefinitions = new HashMap<>();
+        for (FragmentDefinition fragmentDefinition : parsedDocument.getDefinitionsOfType(FragmentDefinition.class)) {
+            fragmentDefinitions.put(fragmentDefinition.getName(), fragmentDefinition);
+        }
+        List<ValidationError> validationErrors = new ArrayList<>();
+        for (OperationDefinition operationDefinition :
+                parsedDocument.getDefinitionsOfType(OperationDefinition.class)) {
+            for (VariableDefinition variableDefinition : operationDefinition.getVariableDefinitions()) {
+                String variableTypeName = TypeUtil.unwrapAll(variableDefinition.getType()).getName();
+                if (!isInputType(schemaIndex, variableTypeName)) {
+                    validationErrors.add(createValidationError(ValidationErrorType.UnknownType, variableDefinition,
+                            String.format("Unknown type '%s'", variableTypeName)));
+                }
+            }
+            String rootTypeName;
+            if (operationDefinition.getOperation() == OperationDefinition.Operation.QUERY) {
+                rootTypeName = schemaIndex.getQueryTypeName();
+            } else if (operationDefinition.getOperation() == OperationDefinition.Operation.MUTATION) {
+                rootTypeName = schemaIndex.getMutationTypeName();
+            } else {
+                rootTypeName = schemaIndex.getSubscriptionTypeName();
+            }
+            // A root type without fields is not defined in the schema, as object types need at least one field
+            if (schemaIndex.getObjectTypeFieldsMap(rootTypeName).isEmpty()) {
+                validationErrors.add(createValidationError(ValidationErrorType.UnknownType, operationDefinition,
+                        String.format("Schema is not configured for %ss",
+                                operationDefinition.getOperation().name().toLowerCase(Locale.ENGLISH))));
+                continue;
+            }
+            validateSelectionSet(schemaIndex, operationDefinition.getSelectionSet(), rootTypeName,
+                    fragmentDefinitions, new HashSet<>(), validationErrors);
+        }
+        if (validationErrors.size() > 0) {
+            throw new QueryValidationException("Graph query validation failed.", validationErrors, projectName);
+        }
+    }
+
+    private void validateSelectionSet(SchemaIndex schemaIndex, SelectionSet selectionSet, String typeName,
+                                      Map<String, FragmentDefinition> fragmentDefinitions,
+                                      Set<String> visitedFragments, List<ValidationError> validationErrors) {
+        Map<String, FieldType> fieldsMap = schemaIndex.getObjectTypeFieldsMap(typeName);
+        // The index only holds the fields of object types, so selections on interfaces and unions are not checked
+        if (fieldsMap.isEmpty()) {
+            return;
+        }
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field) {
+                Field field = (Field) selection;
+                if (field.getName().startsWith("__")) {
+                    continue;
+                }
+                FieldType fieldType = fieldsMap.get(escapeIdentifier(field.getName()));
+                if (fieldType == null) {
+                    validationErrors.add(createValidationError(ValidationErrorType.FieldUndefined, field,
+                            String.format("Field '%s' in type '%s' is undefined", field.getName(), typeName)));
+                    continue;
+                }
+                boolean isObjectType = !schemaIndex.getObjectTypeFieldsMap(fieldType.getName()).isEmpty();
+                if (field.getSelectionSet() != null) {
+                    validateSelectionSet(schemaIndex, field.getSelectionSet(), fieldType.getName(),
+                            fragmentDefinitions, visitedFragments, validationErrors);
+                } else if (isObjectType) {
+                    validationErrors.add(createValidationError(ValidationErrorType.SubselectionRequired, field,
+                            String.format("Sub selection required for type '%s' of field '%s'",
+                                    fieldType.getName(), field.getName())));
+                }
+            } else if (selection instanceof FragmentSpread) {
+                FragmentSpread fragmentSpread = (FragmentSpread) selection;
+                FragmentDefinition fragmentDefinition = fragmentDefinitions.get(fragmentSpread.getName());
+                if (fragmentDefinition == null) {
+                    validationErrors.add(createValidationError(ValidationErrorType.UndefinedFragment,
+                            fragmentSpread, String.format("Undefined fragment '%s'", fragmentSpread.getName())));
+                } else if (visitedFragments.add(fragmentSpread.getName())) {
+                    validateSelectionSet(schemaIndex, fragmentDefinition.getSelectionSet(),
+                            fragmentDefinition.getTypeCondition().getName(), fragmentDefinitions, visitedFragments,
+                            validationErrors);
+                }
+            } else if (selection instanceof InlineFragment) {
+                InlineFragment inlineFragment = (InlineFragment) selection;
+                TypeName typeCondition = inlineFragment.getTypeCondition();
+                validateSelectionSet(schemaIndex, inlineFragment.getSelectionSet(),
+                        typeCondition != null ? typeCondition.getName() : typeName, fragmentDefinitions,
+                        visitedFragments, validationErrors);
+            }
+        }
+    }
+
+    private boolean isInputType(SchemaIndex schemaIndex, String typeName) {
+        return Utils.isPrimitiveScalarType(typeName) || schemaIndex.isCustomScalarType(typeName) ||
+                schemaIndex.isEnumType(typeName) || schemaIndex.isInputObjectType(typeName);
+    }
+
+    private ValidationError createValidationError(ValidationErrorType validationErrorType, Node<?> node,
+                                                  String description) {
+        return ValidationError.newValidationError()
+                .validationErrorType(validationErrorType)
+                .sourceLocation(node.getSourceLocation())
+                .description(description)
+                .build();
+    }
 }
@@ -47,3 +47,571 @@ type DataResponse record {|
    map<json?> __extensions?;
    OperationResponse ...;
 |};
+
+# Creates the HTTP client which sends the GraphQL requests the GraphQL client can not send, with the configurations of
+# the GraphQL client.
+#
+# + serviceUrl - URL of the target service
+# + clientConfig - Configurations of the GraphQL client
+# + http2PriorKnowledge - Whether to send the requests over HTTP/2 without the HTTP/1.1 upgrade
+# + return - Returns the HTTP client or error at failure of client initialization
+isolated function getHttpClient(string serviceUrl, graphql:ClientConfiguration clientConfig,
+                                boolean http2PriorKnowledge = false) returns http:Client|graphql:ClientError {
+    do {
+        http:ClientConfiguration httpClientConfig = check clientConfig.cloneWithType();
+        if http2PriorKnowledge {
+            httpClientConfig.httpVersion = http:HTTP_2_0;
+            httpClientConfig.http2Settings = {http2PriorKnowledge: true};
+        }
+        http:Client httpClient = check new (serviceUrl, httpClientConfig);
+        return httpClient;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function postGraphqlRequest(http:Client httpClient, json payload, map<string|string[]>? headers)
+                                     returns json|error {
+    http:Response response = check httpClient->post("", payload, headers);
+    return response.getJsonPayload();
+}
+
+# Returns the errors in a GraphQL response as a `graphql:ServerError`, the same way the GraphQL client does.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns error if the GraphQL response has errors
+isolated function handleGraphqlErrors(json graphqlResponse) returns graphql:ClientError? {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes a GraphQL operation as an automatic persisted query. The operation is first sent with the SHA-256 hash of
+# the query string only, and sent again along with the query string if the GraphQL API has not persisted it yet. If
+# the GraphQL API does not support persisted queries, the operation is sent again with the query string only.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + sha256Hash - SHA-256 hash of the query string
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + headers - Headers to be sent with the request
+# + return - Returns the GraphQL response or error at failure of the operation
+isolated function executePersistedQuery(http:Client httpClient, string sha256Hash, string query,
+                                        map<anydata> variables, map<string|string[]>? headers = ())
+                                        returns json|graphql:ClientError {
+    map<json> extensions = {"persistedQuery": {"version": 1, "sha256Hash": sha256Hash}};
+    json graphqlResponse;
+    do {
+        json variablesJson = variables.toJson();
+        graphqlResponse = check postGraphqlRequest(httpClient,
+                                                   {"variables": variablesJson, "extensions": extensions}, headers);
+        PersistedQueryError? persistedQueryError = getPersistedQueryError(graphqlResponse);
+        if persistedQueryError == "PersistedQueryNotFound" {
+            graphqlResponse = check postGraphqlRequest(httpClient,
+                    {"query": query, "variables": variablesJson, "extensions": extensions}, headers);
+        } else if persistedQueryError == "PersistedQueryNotSupported" {
+            graphqlResponse = check postGraphqlRequest(httpClient, {"query": query, "variables": variablesJson},
+                                                       headers);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    check handleGraphqlErrors(graphqlResponse);
+    return graphqlResponse;
+}
+
+# Represents the errors a GraphQL API responds with to an automatic persisted query it can not execute.
+type PersistedQueryError "PersistedQueryNotFound"|"PersistedQueryNotSupported";
+
+# Returns the error a GraphQL API responded with to an automatic persisted query, if the GraphQL API has not persisted
+# the query yet or does not support persisted queries.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns the persisted query error, or `()` if the GraphQL response has none
+isolated function getPersistedQueryError(json graphqlResponse) returns PersistedQueryError? {
+    if graphqlResponse !is map<json> {
+        return ();
+    }
+    json errors = graphqlResponse["errors"];
+    if errors !is json[] {
+        return ();
+    }
+    foreach json graphqlError in errors {
+        if graphqlError !is map<json> {
+            continue;
+        }
+        json message = graphqlError["message"];
+        json errorExtensions = graphqlError["extensions"];
+        json code = ();
+        if errorExtensions is map<json> {
+            code = errorExtensions["code"];
+        }
+        if message == "PersistedQueryNotFound" || code == "PERSISTED_QUERY_NOT_FOUND" {
+            return "PersistedQueryNotFound";
+        }
+        if message == "PersistedQueryNotSupported" || code == "PERSISTED_QUERY_NOT_SUPPORTED" {
+            return "PersistedQueryNotSupported";
+        }
+    }
+    return ();
+}
+
+# Represents a GraphQL operation of a batch request.
+#
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + targetType - Type of the operation response
+public type BatchOperation record {|
+    string query;
+    map<anydata> variables;
+    typedesc<BatchOperationResponse> targetType;
+|};
+
+# Represents the data representation of the response of an operation in a batch request.
+#
+# + __extensions - Meta information of the GraphQL API call
+public type BatchOperationResponse record {|
+    map<json?> __extensions?;
+    record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|() ...;
+|};
+
+# Executes a batch of GraphQL operations with a single HTTP request carrying a JSON array of the operations, and binds
+# the response of each operation to its response type.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + operations - Operations of the batch
+# + headers - Headers to be sent with the request
+# + return - Returns the responses in the order of the operations or error at failure of any operation
+isolated function performBatchRequest(http:Client httpClient, BatchOperation[] operations,
+                                      map<string|string[]>? headers = ())
+                                      returns BatchOperationResponse[]|graphql:ClientError {
+    json[] payload = from BatchOperation batchOperation in operations
+        select {"query": batchOperation.query, "variables": batchOperation.variables.toJson()};
+    json[] graphqlResponses;
+    do {
+        graphqlResponses = check (check postGraphqlRequest(httpClient, payload, headers)).ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    if graphqlResponses.length() != operations.length() {
+        return error graphql:RequestError(string `GraphQL Client Error: expected ${operations.length()} responses ` +
+                                          string `for the batch, but received ${graphqlResponses.length()}`);
+    }
+    BatchOperationResponse[] responses = [];
+    foreach int i in 0 ..< operations.length() {
+        check handleGraphqlErrors(graphqlResponses[i]);
+        responses.push(check performDataBinding(graphqlResponses[i], operations[i].targetType));
+    }
+    return responses;
+}
+
+# Coalesces the identical GraphQL queries sent concurrently, so that the queries with the same query string and
+# variables share a single in-flight request and its response, whichever way the request is sent.
+isolated class QueryCoalescer {
+    private final map<InFlightQuery> inFlightQueries = {};
+
+    # Executes the GraphQL query, or waits for the identical query in flight and returns its response.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + query - Query string of the operation
+    # + variables - Variables of the operation
+    # + headers - Headers to be sent with the request
+    # + httpClient - HTTP client of the GraphQL API, for the queries sent with HTTP GET requests or as persisted queries
+    # + sha256Hash - SHA-256 hash of the query string, to send the query as an automatic persisted query
+    # + return - Returns the GraphQL response or error at failure of the operation
+    isolated function execute(graphql:Client graphqlClient, string query, readonly & map<anydata> variables,
+                              (readonly & map<string|string[]>)? headers = (), http:Client? httpClient = (),
+                              string? sha256Hash = ()) returns json|graphql:ClientError {
+        string key = query + variables.toString();
+        InFlightQuery inFlightQuery;
+        lock {
+            InFlightQuery? existingQuery = self.inFlightQueries[key];
+            if existingQuery is InFlightQuery {
+                inFlightQuery = existingQuery;
+            } else {
+                inFlightQuery = new;
+                self.inFlightQueries[key] = inFlightQuery;
+            }
+        }
+        json|graphql:ClientError graphqlResponse = inFlightQuery.getResponse(graphqlClient, query, variables, headers,
+                                                                             httpClient, sha256Hash);
+        lock {
+            if self.inFlightQueries[key] === inFlightQuery {
+                _ = self.inFlightQueries.remove(key);
+            }
+        }
+        return graphqlResponse;
+    }
+}
+
+# Represents a GraphQL query in flight. The first caller sends the request while holding the lock, and the callers
+# coming while the request is in flight wait on the lock and get the same response.
+isolated class InFlightQuery {
+    private boolean completed = false;
+    private (readonly & json)|graphql:ClientError graphqlResponse = ();
+
+    isolated function getResponse(graphql:Client graphqlClient, string query, readonly & map<anydata> variables,
+                                  (readonly & map<string|string[]>)? headers, http:Client? httpClient,
+                                  string? sha256Hash) returns json|graphql:ClientError {
+        lock {
+            if !self.completed {
+                json|graphql:ClientError graphqlResponse = executeQuery(graphqlClient, httpClient, query, variables,
+                                                                        headers, sha256Hash);
+                self.graphqlResponse = graphqlResponse is json ? graphqlResponse.cloneReadOnly() : graphqlResponse;
+                self.completed = true;
+            }
+            return self.graphqlResponse;
+        }
+    }
+}
+
+# Represents a cached GraphQL response.
+#
+# + key - Cache key of the response
+# + response - GraphQL response
+# + expiresAt - Monotonic time in seconds at which the response expires
+type ResponseCacheEntry readonly & record {|
+    string key;
+    json response;
+    decimal expiresAt;
+|};
+
+# A bounded least recently used cache of the GraphQL responses, which expire after the TTL of their operation.
+isolated class ResponseCache {
+    private final int capacity;
+    # Entries in the order of their last use, as a map keeps the insertion order
+    private final map<ResponseCacheEntry> entries = {};
+
+    isolated function init(int capacity) {
+        self.capacity = capacity;
+    }
+
+    # Returns the cached response of the given key, if it has not expired.
+    #
+    # + key - Cache key of the response
+    # + return - Returns the GraphQL response or `()` if the response is not cached
+    isolated function get(string key) returns json {
+        lock {
+            ResponseCacheEntry? entry = self.entries[key];
+            if entry is () {
+                return;
+            }
+            _ = self.entries.remove(key);
+            if entry.expiresAt <= time:monotonicNow() {
+                return;
+            }
+            self.entries[key] = entry;
+            return entry.response;
+        }
+    }
+
+    # Caches the response of the given key, evicting the least recently used entry if the cache is full.
+    #
+    # + key - Cache key of the response
+    # + response - GraphQL response
+    # + ttl - Time to live of the response in seconds
+    isolated function put(string key, json response, decimal ttl) {
+        ResponseCacheEntry entry = {key, response: response.cloneReadOnly(), expiresAt: time:monotonicNow() + ttl};
+        lock {
+            _ = self.entries.removeIfHasKey(key);
+            if self.entries.length() >= self.capacity {
+                string? eldestKey = ();
+                foreach ResponseCacheEntry eldestEntry in self.entries {
+                    eldestKey = eldestEntry.key;
+                    break;
+                }
+                if eldestKey is string {
+                    _ = self.entries.remove(eldestKey);
+                }
+            }
+            self.entries[key] = entry;
+        }
+    }
+}
+
+# Returns the key of the cached response of a GraphQL query, which is the operation name and the canonical form of
+# the variables.
+#
+# + operationName - Name of the operation
+# + variables - Variables of the operation
+# + return - Returns the cache key of the response
+isolated function getResponseCacheKey(string operationName, map<anydata> variables) returns string {
+    return operationName + getCanonicalJsonString(variables.toJson());
+}
+
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] members = from string key in value.keys().sort()
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...members) + "}";
+    }
+    if value is json[] {
+        string[] members = from json member in value select getCanonicalJsonString(member);
+        return "[" + string:'join(",", ...members) + "]";
+    }
+    return value.toJsonString();
+}
+
+# Executes a GraphQL query with an HTTP GET request carrying the query string and the variables as URL-encoded query
+# parameters, so that the HTTP caches and CDNs in between can serve the query. When the SHA-256 hash of the query
+# string is given, the query is sent as an automatic persisted query, with the query string only when the GraphQL API
+# has not persisted it yet, and without the hash when the GraphQL API does not support persisted queries.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + headers - Headers to be sent with the request
+# + sha256Hash - SHA-256 hash of the query string
+# + return - Returns the GraphQL response or error at failure of the operation
+isolated function executeGetQuery(http:Client httpClient, string query, map<anydata> variables,
+                                  map<string|string[]>? headers = (), string? sha256Hash = ())
+                                  returns json|graphql:ClientError {
+    json graphqlResponse;
+    do {
+        string queryParam = string `query=${check url:encode(query, "UTF-8")}`;
+        string variablesParam = string `variables=${check url:encode(variables.toJsonString(), "UTF-8")}`;
+        if sha256Hash is () {
+            graphqlResponse = check httpClient->get(string `?${queryParam}&${variablesParam}`, headers);
+        } else {
+            map<json> extensions = {"persistedQuery": {"version": 1, "sha256Hash": sha256Hash}};
+            string extensionsParam = string `extensions=${check url:encode(extensions.toJsonString(), "UTF-8")}`;
+            graphqlResponse = check httpClient->get(string `?${variablesParam}&${extensionsParam}`, headers);
+            PersistedQueryError? persistedQueryError = getPersistedQueryError(graphqlResponse);
+            if persistedQueryError == "PersistedQueryNotFound" {
+                graphqlResponse = check httpClient->get(string `?${queryParam}&${variablesParam}&${extensionsParam}`,
+                                                        headers);
+            } else if persistedQueryError == "PersistedQueryNotSupported" {
+                graphqlResponse = check httpClient->get(string `?${queryParam}&${variablesParam}`, headers);
+            }
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    check handleGraphqlErrors(graphqlResponse);
+    return graphqlResponse;
+}
+
+# Iterates the nodes of a Relay connection. The next page of the connection is fetched only when the nodes of the
+# previous page are consumed, so that a single page of the connection is held in memory at a time.
+isolated class ConnectionNodeIterator {
+    private final graphql:Client graphqlClient;
+    private final string query;
+    private final readonly & map<anydata> variables;
+    private final string connectionKey;
+    private final string cursorVariable;
+    private final (readonly & map<string|string[]>)? headers;
+    private final map<json>[] nodes = [];
+    private string? cursor;
+    private boolean hasNextPage = true;
+
+    # Initializes the iterator with the query paginating through the connection.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + query - Query string of the operation
+    # + variables - Variables of the operation
+    # + connectionKey - Key of the connection in the data of the GraphQL response
+    # + cursorVariable - Name of the variable given to the `after` argument of the connection
+    # + headers - Headers to be sent with the requests
+    isolated function init(graphql:Client graphqlClient, string query, map<anydata> variables, string connectionKey,
+                           string cursorVariable, map<string|string[]>? headers = ()) {
+        self.graphqlClient = graphqlClient;
+        self.query = query;
+        self.variables = variables.cloneReadOnly();
+        self.connectionKey = connectionKey;
+        self.cursorVariable = cursorVariable;
+        self.headers = headers.cloneReadOnly();
+        anydata cursor = variables[cursorVariable];
+        self.cursor = cursor is string ? cursor : ();
+    }
+
+    # Returns the next node of the connection, fetching the next page of the connection if needed.
+    #
+    # + return - Returns the next node, `()` at the end of the connection or error at failure of the operation
+    public isolated function next() returns record {| map<json> value; |}|error? {
+        lock {
+            while self.nodes.length() == 0 && self.hasNextPage {
+                map<anydata> variables = {...self.variables};
+                variables[self.cursorVariable] = self.cursor;
+                json graphqlResponse = check self.graphqlClient->executeWithType(self.query, variables,
+                                                                                  headers = self.headers);
+                check handleGraphqlErrors(graphqlResponse);
+                map<json> data = check (check graphqlResponse.data).ensureType();
+                json connection = data[self.connectionKey];
+                if connection is () {
+                    self.hasNextPage = false;
+                    break;
+                }
+                json edges = check connection.edges;
+                if edges is json[] {
+                    foreach json edge in edges {
+                        json node = edge is map<json> ? edge["node"] : ();
+                        if node is map<json> {
+                            self.nodes.push(node);
+                        }
+                    }
+                }
+                string? endCursor = check (check connection.pageInfo.endCursor).ensureType();
+                boolean hasNextPage = check (check connection.pageInfo.hasNextPage).ensureType();
+                self.cursor = endCursor;
+                self.hasNextPage = hasNextPage && endCursor is string;
+            }
+            if self.nodes.length() == 0 {
+                return ();
+            }
+            return {value: self.nodes.shift().clone()};
+        }
+    }
+}
+
+# Configurations of the WebSocket connections of the GraphQL subscriptions.
+public type SubscriptionConfig record {|
+    # URL of the WebSocket endpoint of the GraphQL API. Defaults to the service URL with the `ws` or `wss` scheme
+    string? url = ();
+    # The maximum time to wait (in seconds) for the next message of a subscription. `-1` waits forever
+    decimal readTimeout = -1;
+    # The maximum size (in bytes) of a message of a subscription
+    int maxFrameSize = 65536;
+|};
+
+# Returns the configurations of the WebSocket connections of the GraphQL subscriptions, with the URL of the WebSocket
+# endpoint derived from the service URL if not given.
+#
+# + serviceUrl - URL of the target service
+# + config - Configurations of the WebSocket connections
+# + return - Returns the configurations of the WebSocket connections
+isolated function getSubscriptionConfig(string serviceUrl, SubscriptionConfig config)
+                                       returns readonly & SubscriptionConfig {
+    string url = serviceUrl;
+    if serviceUrl.startsWith("https://") {
+        url = "wss://" + serviceUrl.substring(8);
+    } else if serviceUrl.startsWith("http://") {
+        url = "ws://" + serviceUrl.substring(7);
+    }
+    return {...config, url: config.url ?: url}.cloneReadOnly();
+}
+
+# Opens a WebSocket connection with the `graphql-transport-ws` protocol and subscribes to a GraphQL subscription.
+#
+# + config - Configurations of the WebSocket connection
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + headers - Headers to be sent with the handshake request
+# + return - Returns the iterator of the responses of the subscription or error at failure of the subscription
+isolated function startSubscription(readonly & SubscriptionConfig config, string query, map<anydata> variables,
+                                    map<string|string[]>? headers = ())
+                                    returns SubscriptionIterator|graphql:ClientError {
+    do {
+        map<string> customHeaders = {};
+        if headers is map<string|string[]> {
+            foreach [string, string|string[]] [name, value] in headers.entries() {
+                customHeaders[name] = value is string ? value : string:'join(",", ...value);
+            }
+        }
+        websocket:Client wsClient = check new (check config.url.ensureType(string), {
+            subProtocols: ["graphql-transport-ws"],
+            customHeaders: customHeaders,
+            readTimeout: config.readTimeout,
+            maxFrameSize: config.maxFrameSize
+        });
+        check wsClient->writeMessage({"type": "connection_init"});
+        while true {
+            json message = check wsClient->readMessage();
+            string messageType = check message.'type;
+            if messageType == "connection_ack" {
+                break;
+            }
+            if messageType == "ping" {
+                check wsClient->writeMessage({"type": "pong"});
+            } else if messageType != "pong" {
+                check wsClient->close();
+                return error graphql:RequestError(
+                    string `Unexpected message before the connection acknowledgement: ${messageType}`);
+            }
+        }
+        check wsClient->writeMessage({
+            "id": "1",
+            "type": "subscribe",
+            "payload": {"query": query, "variables": variables.toJson()}
+        });
+        return new SubscriptionIterator(wsClient);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Iterates the responses of a GraphQL subscription over a `graphql-transport-ws` WebSocket connection. The next
+# message is read from the connection only when the next response is requested, so that no response is buffered at
+# the client and a slow consumer pushes back on the GraphQL API through the flow control of the connection.
+isolated class SubscriptionIterator {
+    private final websocket:Client wsClient;
+    private boolean completed = false;
+
+    # Initializes the iterator with the WebSocket connection of the subscription.
+    #
+    # + wsClient - WebSocket client of the subscription
+    isolated function init(websocket:Client wsClient) {
+        self.wsClient = wsClient;
+    }
+
+    # Returns the next response of the subscription, reading the next message of the WebSocket connection.
+    #
+    # + return - Returns the next response, `()` at the completion of the subscription or error at failure of the
+    # subscription
+    public isolated function next() returns record {| json value; |}|error? {
+        lock {
+            while !self.completed {
+                do {
+                    json message = check self.wsClient->readMessage();
+                    string messageType = check message.'type;
+                    if messageType == "next" {
+                        json payload = check message.payload;
+                        check handleGraphqlErrors(payload);
+                        return {value: payload.cloneReadOnly()};
+                    } else if messageType == "ping" {
+                        check self.wsClient->writeMessage({"type": "pong"});
+                    } else if messageType == "error" {
+                        // The subscription is already ended by the server
+                        self.completed = true;
+                        graphql:ErrorDetail[] errors = check (check message.payload).cloneWithType();
+                        fail error graphql:ServerError("GraphQL Server Error", data = (), errors = errors.clone(),
+                                                       extensions = ());
+                    } else if messageType == "complete" {
+                        self.completed = true;
+                        check self.wsClient->close();
+                    }
+                } on fail var e {
+                    // A failed subscription is stopped and its connection closed, as it is not read any further
+                    if !self.completed {
+                        self.completed = true;
+                        error? completeResult = self.wsClient->writeMessage({"id": "1", "type": "complete"});
+                    }
+                    error? closeResult = self.wsClient->close();
+                    return e;
+                }
+            }
+            return ();
+        }
+    }
+
+    # Stops the subscription and closes the WebSocket connection.
+    #
+    # + return - Returns error at failure of closing the connection
+    public isolated function close() returns error? {
+        lock {
+            if self.completed {
+                return;
+            }
+            self.completed = true;
+            check self.wsClient->writeMessage({"id": "1", "type": "complete"});
+            check self.wsClient->close();
+        }
+    }
+}
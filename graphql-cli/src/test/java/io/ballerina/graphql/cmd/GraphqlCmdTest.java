@@ -34,9 +34,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_CONFIGURATION_FILE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_FILE_EXTENSION;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_JOBS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_MODE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISSING_INPUT_ARGUMENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_MISSING_SCHEMA_FILE;
@@ -384,6 +386,123 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test successful graphql command execution with concurrently generated projects")
+    public void testExecuteWithProjectsConcurrently() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-multiple-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--jobs", "2"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        try {
+            graphqlCmd.execute();
+
+            Path expectedClientFile = resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"));
+            Path expectedTypesFile = resourceDir.resolve(Paths.get("expectedGenCode", "types.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+            String expectedTypesContent = readContent(expectedTypesFile);
+
+            for (String projectName : new String[]{"country", "countries"}) {
+                Path clientFile = this.tmpDir.resolve(Paths.get("modules", projectName, "client.bal"));
+                Path typesFile = this.tmpDir.resolve(Paths.get("modules", projectName, "types.bal"));
+                if (Files.exists(clientFile) && Files.exists(typesFile)) {
+                    Assert.assertEquals(expectedClientContent, readContent(clientFile));
+                    Assert.assertEquals(expectedTypesContent, readContent(typesFile));
+                } else {
+                    Assert.fail("Code generation failed. : " + readOutput(true));
+                }
+            }
+        } catch (BLauncherException | IOException e) {
+            String output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
+    @Test(description = "Test graphql command execution with projects generated into the same output directory")
+    public void testExecuteWithConflictingProjectsConcurrently() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-conflicting-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--jobs", "2"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS, "country",
+                    "Country")));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
+    @Test(description = "Test graphql command execution with an invalid project besides the other projects")
+    public void testExecuteWithInvalidProjectConcurrently() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-project.yaml"));
+        Path outputPath = this.tmpDir.resolve("invalid-project");
+        String[][] argsList = {
+                {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString()},
+                {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--jobs", "2"}
+        };
+        for (String[] args : argsList) {
+            GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+            new CommandLine(graphqlCmd).parseArgs(args);
+
+            String output = "";
+            try {
+                graphqlCmd.execute();
+                output = readOutput(true);
+                // Every project is validated before any is generated, with or without the jobs argument
+                Assert.assertTrue(output.contains("Graph query validation failed."));
+                Assert.assertFalse(Files.exists(outputPath.resolve(Paths.get("modules", "country", "client.bal"))));
+            } catch (BLauncherException | IOException e) {
+                output = e.toString();
+                Assert.fail(output);
+            }
+        }
+    }
+
+    @Test(description = "Test graphql command execution with a project named Root besides the other projects")
+    public void testExecuteWithProjectNamedRoot() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-project-named-root.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertFalse(output.contains(String.format(MESSAGE_FOR_CONFLICTING_OUTPUT_PATHS, "country",
+                    "Root")));
+            Assert.assertTrue(Files.exists(this.tmpDir.resolve(Paths.get("modules", "Root", "client.bal"))));
+            Assert.assertTrue(Files.exists(this.tmpDir.resolve(Paths.get("modules", "country", "client.bal"))));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
+    @Test(description = "Test graphql command execution with invalid jobs argument")
+    public void testExecuteWithInvalidJobsArgument() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--jobs", "0"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_INVALID_JOBS, 0)));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
     @Test(description = "Test successful graphql command execution with schema URL in config file", enabled = false)
     public void testExecuteWithSchemaUrl() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-schema-url.yaml"));
@@ -18,22 +18,55 @@
 
 package io.ballerina.graphql.cmd;
 
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.StreamingJson;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
 
@@ -41,6 +74,8 @@ import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
  * This class is used to test the functionality of the GraphQL introspector.
  */
 public class IntrospectorTest extends GraphqlTest {
+    private static final Log log = LogFactory.getLog(IntrospectorTest.class);
+    private static final int LARGE_INTROSPECTION_RESULT_SIZE = 20 * 1024 * 1024;
 
     @Test(description = "Test successful introspection")
     public void testGetIntrospectionResult()
@@ -85,4 +120,338 @@ public class IntrospectorTest extends GraphqlTest {
             Assert.fail("Error while introspecting. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the reuse of a cached introspection result within the TTL")
+    public void testGetIntrospectionResultFromCache() throws Exception {
+        try (StubGraphqlServer server = new StubGraphqlServer(getIntrospectionResponse(), "\"v1\"")) {
+            IntrospectionCache introspectionCache =
+                    new IntrospectionCache(this.tmpDir.resolve("cache-within-ttl"), Duration.ofHours(1), false, false);
+            Map<String, Object> introspectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+            Map<String, Object> cachedIntrospectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+
+            Assert.assertEquals(cachedIntrospectionResult, introspectionResult);
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the revalidation of an expired cached introspection result with the entity tag")
+    public void testGetIntrospectionResultWithRevalidation() throws Exception {
+        try (StubGraphqlServer server = new StubGraphqlServer(getIntrospectionResponse(), "\"v1\"")) {
+            IntrospectionCache introspectionCache =
+                    new IntrospectionCache(this.tmpDir.resolve("cache-revalidation"), Duration.ZERO, false, false);
+            Map<String, Object> introspectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+            Map<String, Object> revalidatedIntrospectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+
+            Assert.assertEquals(revalidatedIntrospectionResult, introspectionResult);
+            Assert.assertEquals(server.getRequestCount(), 2);
+            Assert.assertEquals(server.getNotModifiedCount(), 1);
+
+            IntrospectionCache refreshedCache =
+                    new IntrospectionCache(this.tmpDir.resolve("cache-revalidation"), Duration.ZERO, false, true);
+            Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, refreshedCache);
+            Assert.assertEquals(server.getRequestCount(), 3);
+            Assert.assertEquals(server.getNotModifiedCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the revalidation of an expired cached introspection result failing the precondition")
+    public void testGetIntrospectionResultWithFailedRevalidation() throws Exception {
+        try (StubGraphqlServer server = new StubGraphqlServer(getIntrospectionResponse(), "\"v1\"", 412)) {
+            IntrospectionCache introspectionCache = new IntrospectionCache(
+                    this.tmpDir.resolve("cache-failed-revalidation"), Duration.ZERO, false, false);
+            Map<String, Object> introspectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+            Map<String, Object> refetchedIntrospectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+
+            Assert.assertEquals(refetchedIntrospectionResult, introspectionResult);
+            Assert.assertEquals(server.getRequestCount(), 3);
+            Assert.assertEquals(server.getPreconditionFailedCount(), 1);
+
+            // The entity tag is dropped after the failed revalidation, so the next one is a plain introspection
+            Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+            Assert.assertEquals(server.getRequestCount(), 4);
+            Assert.assertEquals(server.getPreconditionFailedCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the introspection in the offline mode")
+    public void testGetIntrospectionResultOffline() throws Exception {
+        try (StubGraphqlServer server = new StubGraphqlServer(getIntrospectionResponse(), null)) {
+            IntrospectionCache offlineCache =
+                    new IntrospectionCache(this.tmpDir.resolve("cache-offline"), Duration.ofHours(1), true, false);
+            try {
+                Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, offlineCache);
+                Assert.fail("The offline introspection should fail without a cached introspection result.");
+            } catch (IntospectionException e) {
+                Assert.assertTrue(e.getMessage().contains("offline mode"));
+            }
+
+            IntrospectionCache introspectionCache =
+                    new IntrospectionCache(this.tmpDir.resolve("cache-offline"), Duration.ZERO, false, false);
+            Map<String, Object> introspectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, introspectionCache);
+            Map<String, Object> offlineIntrospectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null, offlineCache);
+
+            Assert.assertEquals(offlineIntrospectionResult, introspectionResult);
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the removal of the temporary file of a cache entry which cannot be moved in place")
+    public void testPutIntrospectionResultWithFailedMove() throws Exception {
+        Path cacheDirectory = this.tmpDir.resolve("cache-failed-move");
+        IntrospectionCache introspectionCache = new IntrospectionCache(cacheDirectory, Duration.ofHours(1), false,
+                false);
+        Map<String, Object> introspectionResult = Map.of("__schema", Map.of("types", List.of()));
+        introspectionCache.put("http://localhost:9090/graphql", null, introspectionResult, null);
+        List<Path> cacheFiles = listFiles(cacheDirectory);
+        Assert.assertEquals(cacheFiles.size(), 1);
+
+        // A non-empty directory in place of the cache entry makes the atomic move fail
+        Path cacheFile = cacheFiles.get(0);
+        Files.delete(cacheFile);
+        Files.createDirectories(cacheFile.resolve("entry"));
+        introspectionCache.put("http://localhost:9090/graphql", null, introspectionResult, null);
+
+        Assert.assertEquals(listFiles(cacheDirectory), List.of(cacheFile));
+        Assert.assertNull(introspectionCache.get("http://localhost:9090/graphql", null));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @Test(description = "Test the streaming parsing of a large introspection result")
+    public void testGetLargeIntrospectionResult() throws Exception {
+        String introspectionResponse = getLargeIntrospectionResponse();
+        Map<String, Object> expectedIntrospectionResult =
+                new JSONObject(introspectionResponse).getJSONObject("data").toMap();
+        try (StubGraphqlServer server = new StubGraphqlServer(introspectionResponse, null)) {
+            Map<String, Object> introspectionResult =
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null);
+            Assert.assertEquals(introspectionResult, expectedIntrospectionResult);
+        }
+    }
+
+    @Test(description = "Benchmark the peak heap usage of the streaming parsing of a large introspection result",
+            groups = {"benchmark"})
+    public void benchmarkLargeIntrospectionResultHeapUsage() throws Exception {
+        String introspectionResponse = getLargeIntrospectionResponse();
+        try (StubGraphqlServer server = new StubGraphqlServer(introspectionResponse, null)) {
+            long peakHeapUsage = getPeakHeapUsage(() ->
+                    Introspector.getInstance().getIntrospectionResult(server.getUrl(), null));
+            long bufferedPeakHeapUsage = getPeakHeapUsage(() ->
+                    new JSONObject(introspectionResponse).getJSONObject("data").toMap());
+            log.info(String.format("Peak heap usage for a %d MB introspection result: streaming %d MB, " +
+                            "buffered %d MB", introspectionResponse.length() >> 20, peakHeapUsage >> 20,
+                    bufferedPeakHeapUsage >> 20));
+
+            // The buffered parsing holds both the JSONObject and the map of the result, the streaming one only the map
+            Assert.assertTrue(peakHeapUsage * 4 < bufferedPeakHeapUsage * 3, String.format(
+                    "The streaming parsing peaked at %d bytes, not a quarter below the %d bytes of the buffered one",
+                    peakHeapUsage, bufferedPeakHeapUsage));
+        }
+    }
+
+    @Test(description = "Test the reading of valid JSON numbers")
+    public void testReadJsonNumbers() throws IOException {
+        Object numbers = StreamingJson.read(new StringReader(
+                "[0, -1, 12345678901, 123456789012345678901234, 1.5, -0.25E-2, 1e3, 1.00000000000000000001]"));
+        Assert.assertEquals(numbers, List.of(0, -1, 12345678901L, new BigInteger("123456789012345678901234"), 1.5,
+                -0.0025, 1000.0, new BigDecimal("1.00000000000000000001")));
+    }
+
+    @Test(description = "Test the rejection of invalid JSON numbers", dataProvider = "invalidJsonNumbers")
+    public void testReadInvalidJsonNumbers(String document, String expectedMessage) {
+        try {
+            StreamingJson.read(new StringReader(document));
+            Assert.fail("The invalid JSON number should be rejected: " + document);
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), expectedMessage);
+        }
+    }
+
+    @DataProvider(name = "invalidJsonNumbers")
+    public Object[][] getInvalidJsonNumbers() {
+        return new Object[][]{
+                {"[01]", "Expected ',' or ']' '1' in the JSON document at offset 2."},
+                {"[1.]", "Invalid number, expected a digit ']' in the JSON document at offset 3."},
+                {"[-]", "Invalid number, expected a digit ']' in the JSON document at offset 2."},
+                {"[--1]", "Invalid number, expected a digit '-' in the JSON document at offset 2."},
+                {"[1e+]", "Invalid number, expected a digit ']' in the JSON document at offset 4."},
+                {"[1.5.2]", "Expected ',' or ']' '.' in the JSON document at offset 4."},
+                {"{\"a\": 1x}", "Expected ',' or '}' 'x' in the JSON document at offset 7."},
+                {"1e", "Invalid number, expected a digit at the end of the JSON document at offset 2."}
+        };
+    }
+
+    private static long getPeakHeapUsage(Callable<Object> task) throws Exception {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+                heapPools.add(memoryPool);
+            }
+        }
+        Object result = task.call();
+        long peakHeapUsage = 0;
+        for (MemoryPoolMXBean memoryPool : heapPools) {
+            peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+        }
+        Assert.assertNotNull(result);
+        return peakHeapUsage;
+    }
+
+    /**
+     * Builds an introspection response of about 20 MB by repeating the types of the test schema under new names.
+     */
+    @SuppressWarnings("unchecked")
+    private String getLargeIntrospectionResponse() throws Exception {
+        Map<String, Object> introspectionResponse =
+                (Map<String, Object>) StreamingJson.read(new StringReader(getIntrospectionResponse()));
+        Map<String, Object> schema =
+                (Map<String, Object>) ((Map<String, Object>) introspectionResponse.get("data")).get("__schema");
+        List<Object> types = (List<Object>) schema.get("types");
+        List<Object> baseTypes = new ArrayList<>(types);
+        StringWriter baseTypesWriter = new StringWriter();
+        StreamingJson.write(baseTypes, baseTypesWriter);
+        int copies = LARGE_INTROSPECTION_RESULT_SIZE / baseTypesWriter.getBuffer().length();
+        for (int copy = 0; copy < copies; copy++) {
+            for (Object baseType : baseTypes) {
+                Map<String, Object> type = new LinkedHashMap<>((Map<String, Object>) baseType);
+                type.put("name", type.get("name") + "Copy" + copy);
+                types.add(type);
+            }
+        }
+        StringWriter introspectionResponseWriter = new StringWriter();
+        StreamingJson.write(introspectionResponse, introspectionResponseWriter);
+        return introspectionResponseWriter.toString();
+    }
+
+    private String getIntrospectionResponse() throws IntospectionException, IOException {
+        GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(
+                this.resourceDir.resolve(Paths.get("specs", "schema.graphql")).toString(), null);
+        ExecutionResult executionResult =
+                GraphQL.newGraphQL(graphQLSchema).build().execute(IntrospectionQuery.INTROSPECTION_QUERY);
+        return new JSONObject(executionResult.toSpecification()).toString();
+    }
+
+    /**
+     * Minimal HTTP server answering every request with a given GraphQL introspection response.
+     * A request carrying the entity tag of the response in the If-None-Match header is answered with the given
+     * revalidation status, 304 by default or 412 as servers honouring the precondition of a POST request do.
+     */
+    private static class StubGraphqlServer implements AutoCloseable {
+        private final ServerSocket serverSocket;
+        private final byte[] responseBody;
+        private final String etag;
+        private final int revalidationStatus;
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicInteger notModifiedCount = new AtomicInteger();
+        private final AtomicInteger preconditionFailedCount = new AtomicInteger();
+
+        StubGraphqlServer(String responseBody, String etag) throws IOException {
+            this(responseBody, etag, 304);
+        }
+
+        StubGraphqlServer(String responseBody, String etag, int revalidationStatus) throws IOException {
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+            this.etag = etag;
+            this.revalidationStatus = revalidationStatus;
+            Thread serverThread = new Thread(this::serve);
+            serverThread.setDaemon(true);
+            serverThread.start();
+        }
+
+        String getUrl() {
+            return "http://localhost:" + serverSocket.getLocalPort() + "/graphql";
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+        int getNotModifiedCount() {
+            return notModifiedCount.get();
+        }
+
+        int getPreconditionFailedCount() {
+            return preconditionFailedCount.get();
+        }
+
+        private void serve() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    handle(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) throws IOException {
+            InputStream inputStream = socket.getInputStream();
+            int contentLength = 0;
+            String ifNoneMatch = null;
+            // Skips the request line, as every request is answered the same way
+            readLine(inputStream);
+            String line;
+            while (!(line = readLine(inputStream)).isEmpty()) {
+                int separatorIndex = line.indexOf(':');
+                String name = line.substring(0, separatorIndex).trim().toLowerCase(Locale.ENGLISH);
+                String value = line.substring(separatorIndex + 1).trim();
+                if (name.equals("content-length")) {
+                    contentLength = Integer.parseInt(value);
+                } else if (name.equals("if-none-match")) {
+                    ifNoneMatch = value;
+                }
+            }
+            inputStream.readNBytes(contentLength);
+            requestCount.incrementAndGet();
+
+            OutputStream outputStream = socket.getOutputStream();
+            if (etag != null && etag.equals(ifNoneMatch) && revalidationStatus == 412) {
+                preconditionFailedCount.incrementAndGet();
+                outputStream.write(("HTTP/1.1 412 Precondition Failed\r\nContent-Length: 0\r\n" +
+                        "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            } else if (etag != null && etag.equals(ifNoneMatch)) {
+                notModifiedCount.incrementAndGet();
+                outputStream.write(("HTTP/1.1 304 Not Modified\r\nETag: " + etag + "\r\nContent-Length: 0\r\n" +
+                        "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            } else {
+                outputStream.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n" +
+                        (etag != null ? "ETag: " + etag + "\r\n" : "") +
+                        "Content-Length: " + responseBody.length + "\r\nConnection: close\r\n\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+                outputStream.write(responseBody);
+            }
+            outputStream.flush();
+        }
+
+        private static String readLine(InputStream inputStream) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int character;
+            while ((character = inputStream.read()) != -1 && character != '\n') {
+                if (character != '\r') {
+                    line.append((char) character);
+                }
+            }
+            return line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
 }
@@ -18,25 +18,65 @@
 
 package io.ballerina.graphql.generator;
 
+import graphql.schema.GraphQLSchema;
+import io.ballerina.graphql.cmd.Utils;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.StreamingJson;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+import io.ballerina.graphql.generator.utils.GeneratorContext;
+import io.ballerina.graphql.generator.utils.SrcFilePojo;
+import io.ballerina.graphql.validator.QueryValidator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * This class is used to test the functionality of the GraphQL code generator.
  */
 public class ClientCodeGeneratorTest extends GraphqlTest {
+    private static final Log log = LogFactory.getLog(ClientCodeGeneratorTest.class);
+    private static final int LARGE_SCHEMA_SIZE = 200;
+    private static final int[] BENCHMARK_SCHEMA_SIZES = {1000, 10000, 50000};
+    private static final String PERSISTED_QUERY_NOT_SUPPORTED_RESPONSE = "{\"errors\":[{\"message\":" +
+            "\"PersistedQueryNotSupported\",\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_SUPPORTED\"}}]}";
+    private static final String COUNTRY_RESPONSE = "{\"data\":{\"country\":{\"capital\":\"Colombo\"," +
+            "\"name\":\"Sri Lanka\"}},\"extensions\":{\"cost\":1}}";
+    private static final String COUNTRIES_RESPONSE = "{\"data\":{\"countries\":[{\"name\":\"Sri Lanka\"," +
+            "\"continent\":{\"countries\":[{\"name\":\"India\"},{\"name\":\"Sri Lanka\"}]}}]}," +
+            "\"extensions\":{\"cost\":2}}";
 
     @Test(description = "Test the functionality of the GraphQL code generator")
     public void testGenerate() throws CmdException, IOException, ParseException, ValidationException {
@@ -53,4 +93,336 @@ public class ClientCodeGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the parallel generation of the client source files")
+    public void testGenerateBalSourcesInParallel() throws Exception {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (GraphqlClientProject project : projects) {
+                ClientCodeGenerator sequentialGenerator = new ClientCodeGenerator();
+                List<SrcFilePojo> expectedSources =
+                        sequentialGenerator.generateBalSources(project, GeneratorContext.CLI);
+
+                ClientCodeGenerator parallelGenerator = new ClientCodeGenerator();
+                parallelGenerator.setExecutorService(executorService);
+                List<SrcFilePojo> actualSources = parallelGenerator.generateBalSources(project, GeneratorContext.CLI);
+
+                Assert.assertEquals(actualSources.size(), expectedSources.size());
+                for (int i = 0; i < expectedSources.size(); i++) {
+                    Assert.assertEquals(actualSources.get(i).getType(), expectedSources.get(i).getType());
+                    Assert.assertEquals(actualSources.get(i).getFileName(), expectedSources.get(i).getFileName());
+                    Assert.assertEquals(actualSources.get(i).getContent(), expectedSources.get(i).getContent());
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test the generation of the persisted queries manifest alongside the client source files")
+    public void testGenerateBalSourcesWithPersistedQueriesManifest() throws Exception {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-persisted-queries.yaml")).toString(),
+                this.tmpDir);
+        GraphqlClientProject project = projects.get(0);
+        List<SrcFilePojo> sources = new ClientCodeGenerator().generateBalSources(project, GeneratorContext.CLI);
+
+        SrcFilePojo manifestFile = sources.get(sources.size() - 1);
+        Assert.assertEquals(manifestFile.getType(), SrcFilePojo.GenFileType.MANIFEST);
+        Assert.assertEquals(manifestFile.getFileName(), "persisted-queries.json");
+
+        Map<?, ?> manifest = (Map<?, ?>) StreamingJson.read(new StringReader(manifestFile.getContent()));
+        List<String> operationNames = new ArrayList<>();
+        for (String document : project.getDocumentRegistry().getDocuments()) {
+            for (ExtendedOperationDefinition queryDefinition :
+                    project.getDocumentRegistry().getQueryReader(document).getExtendedOperationDefinitions()) {
+                operationNames.add(queryDefinition.getName());
+                Map<?, ?> persistedQuery = (Map<?, ?>) manifest.get(queryDefinition.getName());
+                Assert.assertEquals(persistedQuery.get("query"), queryDefinition.getQueryString());
+                Assert.assertEquals(persistedQuery.get("hash"),
+                        CodeGeneratorUtils.getPersistedQueryHash(queryDefinition.getQueryString()));
+            }
+        }
+        Assert.assertEquals(new ArrayList<>(manifest.keySet()), operationNames);
+        Assert.assertEquals(((Map<?, ?>) manifest.get("country")).get("hash"),
+                "41e808bf92851298cfd11830c46266e47a8af3a387246eee65c5940e3e56c7d9");
+
+        List<GraphqlClientProject> defaultProjects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(), this.tmpDir);
+        for (SrcFilePojo source : new ClientCodeGenerator().generateBalSources(defaultProjects.get(0),
+                GeneratorContext.CLI)) {
+            Assert.assertNotEquals(source.getType(), SrcFilePojo.GenFileType.MANIFEST);
+        }
+    }
+
+    @Test(description = "Test the persisted queries manifest of projects with duplicate and anonymous operations")
+    public void testGenerateBalSourcesWithInvalidPersistedQueries() throws Exception {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(this.resourceDir.resolve(
+                Paths.get("specs", "graphql-config-with-invalid-persisted-queries.yaml")).toString(), this.tmpDir);
+        Map<String, String> expectedMessages = Map.of(
+                "duplicated", "The project \"duplicated\" has more than one operation named \"country\"",
+                "anonymous", "The project \"anonymous\" has an anonymous operation");
+        Assert.assertEquals(projects.size(), expectedMessages.size());
+        for (GraphqlClientProject project : projects) {
+            try {
+                new ClientCodeGenerator().generateBalSources(project, GeneratorContext.CLI);
+                Assert.fail("The persisted queries manifest should be rejected for " + project.getName());
+            } catch (ClientCodeGenerationException e) {
+                Assert.assertTrue(e.getMessage().startsWith(expectedMessages.get(project.getName())),
+                        e.getMessage());
+            }
+        }
+    }
+
+    @Test(description = "Test the client generation from a schema validated without building an executable schema")
+    public void testGenerateBalSourcesWithLightweightSchema() throws Exception {
+        for (String configFile : new String[]{"graphql.config.yaml", "graphql-config-to-test-arguments.yaml"}) {
+            String configPath = this.resourceDir.resolve(Paths.get("specs", configFile)).toString();
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(configPath, this.tmpDir);
+            List<GraphqlClientProject> lightweightProjects =
+                    TestUtils.populateProjects(TestUtils.readConfig(configPath), this.tmpDir);
+            for (int i = 0; i < projects.size(); i++) {
+                GraphqlClientProject lightweightProject = lightweightProjects.get(i);
+                Utils.validateGraphqlProjectLightweight(lightweightProject, null);
+                QueryValidator.getInstance().validate(lightweightProject);
+                Assert.assertNull(lightweightProject.getGraphQLSchema());
+
+                List<SrcFilePojo> expectedSources =
+                        new ClientCodeGenerator().generateBalSources(projects.get(i), GeneratorContext.CLI);
+                List<SrcFilePojo> actualSources =
+                        new ClientCodeGenerator().generateBalSources(lightweightProject, GeneratorContext.CLI);
+                Assert.assertEquals(actualSources.size(), expectedSources.size());
+                for (int j = 0; j < expectedSources.size(); j++) {
+                    Assert.assertEquals(actualSources.get(j).getFileName(), expectedSources.get(j).getFileName());
+                    Assert.assertEquals(actualSources.get(j).getContent(), expectedSources.get(j).getContent());
+                }
+            }
+        }
+    }
+
+    @Test(description = "Test the generated client against a GraphQL API which does not support persisted queries")
+    public void testPersistedQueriesNotSupported() throws Exception {
+        AtomicInteger persistedQueryCount = new AtomicInteger();
+        AtomicInteger queryCount = new AtomicInteger();
+        // The GraphQL API rejects every request carrying the persisted query extension
+        try (GraphqlStubServer server = new GraphqlStubServer(request -> {
+            if (request.has("extensions")) {
+                persistedQueryCount.incrementAndGet();
+                return PERSISTED_QUERY_NOT_SUPPORTED_RESPONSE;
+            }
+            queryCount.incrementAndGet();
+            return COUNTRY_RESPONSE;
+        })) {
+            Assert.assertTrue(runGeneratedClient("graphql-config-with-persisted-queries.yaml", "persistedQueries",
+                    server));
+            // The hash is sent first, and the query string is sent without the hash once the hash is rejected
+            Assert.assertEquals(persistedQueryCount.get(), 1);
+            Assert.assertEquals(queryCount.get(), 1);
+        }
+    }
+
+    @Test(description = "Test the binding of the GraphQL responses to the response types of the generated client")
+    public void testResponseBinding() throws Exception {
+        try (GraphqlStubServer server = new GraphqlStubServer(request ->
+                request.getString("query").startsWith("query countries") ? COUNTRIES_RESPONSE : COUNTRY_RESPONSE)) {
+            // The main function fails unless the data of the responses is bound, while the extensions are dropped
+            Assert.assertTrue(runGeneratedClient("graphql.config.yaml", "responseBinding", server));
+        }
+    }
+
+    @Test(description = "Test the binding of the GraphQL responses with the extensions to the response types of the " +
+            "generated client")
+    public void testResponseBindingWithResponseExtensions() throws Exception {
+        try (GraphqlStubServer server = new GraphqlStubServer(request -> COUNTRY_RESPONSE)) {
+            // The main function fails unless the extensions of the response are bound along with its data
+            Assert.assertTrue(runGeneratedClient("graphql-config-with-response-extensions.yaml",
+                    "responseExtensions", server));
+        }
+    }
+
+    /**
+     * Generates the client of the given GraphQL config into a Ballerina package along with the main function of the
+     * package in the generated clients resources, and runs the main function against the given GraphQL API.
+     */
+    private boolean runGeneratedClient(String configFile, String packageName, GraphqlStubServer server)
+            throws Exception {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", configFile)).toString(), this.tmpDir);
+        Path projectDir = this.tmpDir.resolve(packageName);
+        List<SrcFilePojo> sources = new ClientCodeGenerator().generateBalSources(projects.get(0), GeneratorContext.CLI);
+        TestUtils.writeSources(sources, projectDir);
+        Path projectResourceDir = this.resourceDir.resolve(Paths.get("generatedClients", packageName));
+        Files.copy(projectResourceDir.resolve("Ballerina.toml"), projectDir.resolve("Ballerina.toml"));
+        Files.copy(projectResourceDir.resolve("main.bal"), projectDir.resolve("main.bal"));
+
+        List<String> args = new ArrayList<>(List.of("run", "--offline", "--", server.getUrl()));
+        return TestUtils.executeGraphql(TestUtils.DISTRIBUTION_FILE_NAME, projectDir, args);
+    }
+
+    @Test(description = "Test the index of a large schema built with and without an executable schema")
+    public void testLightweightSchemaIndex() throws Exception {
+        Path schemaPath = this.tmpDir.resolve("schema-with-" + LARGE_SCHEMA_SIZE + "-types.graphql");
+        Files.writeString(schemaPath, getLargeSchema(LARGE_SCHEMA_SIZE));
+        GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schemaPath.toString(), null);
+        SchemaIndex schemaIndex = SchemaIndex.getInstance(graphQLSchema);
+
+        GraphqlClientProject project = new GraphqlClientProject("largeSchema", schemaPath.toString(),
+                new ArrayList<>(), null, this.tmpDir.toString());
+        Utils.validateGraphqlProjectLightweight(project, null);
+        SchemaIndex lightweightSchemaIndex = project.getSchemaIndex();
+
+        Assert.assertTrue(lightweightSchemaIndex.getObjectTypeNames().contains("Type" + (LARGE_SCHEMA_SIZE - 1)));
+        Assert.assertEquals(lightweightSchemaIndex.getObjectTypeNames(), schemaIndex.getObjectTypeNames());
+        Assert.assertEquals(lightweightSchemaIndex.getInputObjectTypeNames(), schemaIndex.getInputObjectTypeNames());
+        Assert.assertEquals(lightweightSchemaIndex.getEnumTypeNames(), schemaIndex.getEnumTypeNames());
+        for (String objectTypeName : schemaIndex.getObjectTypeNames()) {
+            Map<String, FieldType> fieldsMap = schemaIndex.getObjectTypeFieldsMap(objectTypeName);
+            Map<String, FieldType> lightweightFieldsMap =
+                    lightweightSchemaIndex.getObjectTypeFieldsMap(objectTypeName);
+            Assert.assertEquals(lightweightFieldsMap.keySet(), fieldsMap.keySet());
+            for (Map.Entry<String, FieldType> field : fieldsMap.entrySet()) {
+                Assert.assertEquals(lightweightFieldsMap.get(field.getKey()).getTokens(),
+                        field.getValue().getTokens());
+            }
+        }
+    }
+
+    @Test(description = "Benchmark the schema processing with and without building an executable schema",
+            groups = {"benchmark"})
+    public void benchmarkLightweightSchemaProcessing() throws Exception {
+        for (int schemaSize : BENCHMARK_SCHEMA_SIZES) {
+            Path schemaPath = this.tmpDir.resolve("schema-with-" + schemaSize + "-types.graphql");
+            Files.writeString(schemaPath, getLargeSchema(schemaSize));
+
+            long startTime = System.nanoTime();
+            GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schemaPath.toString(), null);
+            SchemaIndex schemaIndex = SchemaIndex.getInstance(graphQLSchema);
+            long executableSchemaTime = System.nanoTime() - startTime;
+
+            GraphqlClientProject project = new GraphqlClientProject("benchmark", schemaPath.toString(),
+                    new ArrayList<>(), null, this.tmpDir.toString());
+            startTime = System.nanoTime();
+            Utils.validateGraphqlProjectLightweight(project, null);
+            SchemaIndex lightweightSchemaIndex = project.getSchemaIndex();
+            long lightweightSchemaTime = System.nanoTime() - startTime;
+
+            log.info(String.format("Schema processing time for %d types: executable schema %d ms, " +
+                    "lightweight schema %d ms", schemaSize, executableSchemaTime / 1000000,
+                    lightweightSchemaTime / 1000000));
+            Assert.assertEquals(lightweightSchemaIndex.getObjectTypeNames(), schemaIndex.getObjectTypeNames());
+            Assert.assertTrue(lightweightSchemaTime < executableSchemaTime, String.format(
+                    "The lightweight schema of %d types took %d ms, not less than the %d ms of the executable one",
+                    schemaSize, lightweightSchemaTime / 1000000, executableSchemaTime / 1000000));
+        }
+    }
+
+    /**
+     * Builds a schema with the given number of object types, each referring to an enum type and another object type.
+     */
+    private static String getLargeSchema(int objectTypeCount) {
+        StringBuilder schema = new StringBuilder("type Query {\n");
+        for (int i = 0; i < Math.min(objectTypeCount, 1000); i++) {
+            schema.append("  type").append(i).append("(id: ID!, filter: Filter").append(i).append("): Type")
+                    .append(i).append("\n");
+        }
+        schema.append("}\n");
+        for (int i = 0; i < objectTypeCount; i++) {
+            schema.append("type Type").append(i).append(" { id: ID! name: String tags: [String!] next: Type")
+                    .append(i % 10).append(" kind: Kind").append(i % 50).append(" }\n");
+            if (i < 1000) {
+                schema.append("input Filter").append(i).append(" { id: ID name: String }\n");
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            schema.append("enum Kind").append(i).append(" { A B C }\n");
+        }
+        return schema.toString();
+    }
+
+    /**
+     * A GraphQL API stub, which answers every GraphQL request with the response the given handler returns for it.
+     */
+    private static class GraphqlStubServer implements AutoCloseable {
+        private final ServerSocket serverSocket;
+        private final Function<JSONObject, String> handler;
+
+        GraphqlStubServer(Function<JSONObject, String> handler) throws IOException {
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.handler = handler;
+            Thread serverThread = new Thread(this::serve);
+            serverThread.setDaemon(true);
+            serverThread.start();
+        }
+
+        String getUrl() {
+            return "http://localhost:" + serverSocket.getLocalPort() + "/graphql";
+        }
+
+        private void serve() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    handle(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) throws IOException {
+            InputStream inputStream = socket.getInputStream();
+            int contentLength = 0;
+            boolean chunked = false;
+            readLine(inputStream);
+            String line;
+            while (!(line = readLine(inputStream)).isEmpty()) {
+                int separatorIndex = line.indexOf(':');
+                String name = line.substring(0, separatorIndex).trim().toLowerCase(Locale.ENGLISH);
+                String value = line.substring(separatorIndex + 1).trim();
+                if (name.equals("content-length")) {
+                    contentLength = Integer.parseInt(value);
+                } else if (name.equals("transfer-encoding")) {
+                    chunked = value.equalsIgnoreCase("chunked");
+                }
+            }
+            byte[] body = chunked ? readChunkedBody(inputStream) : inputStream.readNBytes(contentLength);
+            String responseBody = handler.apply(new JSONObject(new String(body, StandardCharsets.UTF_8)));
+
+            byte[] responseBytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " +
+                    responseBytes.length + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            outputStream.write(responseBytes);
+            outputStream.flush();
+        }
+
+        private static byte[] readChunkedBody(InputStream inputStream) throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            int chunkSize;
+            while ((chunkSize = Integer.parseInt(readLine(inputStream).trim(), 16)) > 0) {
+                body.write(inputStream.readNBytes(chunkSize));
+                readLine(inputStream);
+            }
+            readLine(inputStream);
+            return body.toByteArray();
+        }
+
+        private static String readLine(InputStream inputStream) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int character;
+            while ((character = inputStream.read()) != -1 && character != '\n') {
+                if (character != '\r') {
+                    line.append((char) character);
+                }
+            }
+            return line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.service.GraphqlServiceProject;
+import io.ballerina.graphql.generator.utils.GeneratorContext;
+import io.ballerina.graphql.generator.utils.SrcFilePojo;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class is used to test the concurrent use of a shared GraphQL generator engine.
+ */
+public class GeneratorEngineTest extends GraphqlTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int ITERATIONS = 50;
+
+    @Test(description = "Test the concurrent client and service generation with a shared generator engine")
+    public void testConcurrentGeneration() throws Exception {
+        GraphqlClientProject clientProject = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir).get(0);
+        GraphqlServiceProject serviceProject = TestUtils.getValidatedMockServiceProject(
+                this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid",
+                        "SchemaWithMultipleObjectsApi.graphql")).toString(),
+                this.tmpDir);
+
+        GeneratorEngine generatorEngine = new GeneratorEngine();
+        List<String> expectedClientSources =
+                getContents(generatorEngine.generateClientSources(clientProject, GeneratorContext.CLI));
+        List<String> expectedServiceSources = getContents(generatorEngine.generateServiceSources(serviceProject));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                tasks.add(() -> getContents(generatorEngine.generateClientSources(clientProject,
+                        GeneratorContext.CLI)));
+                tasks.add(() -> getContents(generatorEngine.generateServiceSources(serviceProject)));
+            }
+            List<Future<List<String>>> futures = executorService.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                List<String> expectedSources = i % 2 == 0 ? expectedClientSources : expectedServiceSources;
+                Assert.assertEquals(futures.get(i).get(), expectedSources);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static List<String> getContents(List<SrcFilePojo> sourceFiles) {
+        List<String> contents = new ArrayList<>();
+        for (SrcFilePojo sourceFile : sourceFiles) {
+            contents.add(sourceFile.getFileName() + ":" + sourceFile.getContent());
+        }
+        return contents;
+    }
+}
@@ -18,7 +18,6 @@
 
 package io.ballerina.graphql.generator.ballerina;
 
-import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
@@ -29,7 +28,10 @@ import io.ballerina.graphql.generator.client.exception.ClientGenerationException
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -52,15 +54,17 @@ public class ClientGeneratorTest extends GraphqlTest {
                     this.tmpDir);
 
             Extension extensions = projects.get(0).getExtensions();
-            List<String> documents = projects.get(0).getDocuments();
-            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
 
             AuthConfig authConfig = new AuthConfig();
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
             String generatedClientContent = ClientGenerator.getInstance().
-                    generateSrc(documents, schema, authConfig, GeneratorContext.CLI)
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
                     .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
 
             Path expectedClientFile =
@@ -84,15 +88,17 @@ public class ClientGeneratorTest extends GraphqlTest {
                     this.tmpDir);
 
             Extension extensions = projects.get(0).getExtensions();
-            List<String> documents = projects.get(0).getDocuments();
-            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
 
             AuthConfig authConfig = new AuthConfig();
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
             String generatedClientContent = ClientGenerator.getInstance().
-                    generateSrc(documents, schema, authConfig, GeneratorContext.CLI)
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
                     .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
 
             Path expectedClientFile =
@@ -117,15 +123,17 @@ public class ClientGeneratorTest extends GraphqlTest {
                     this.tmpDir);
 
             Extension extensions = projects.get(0).getExtensions();
-            List<String> documents = projects.get(0).getDocuments();
-            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
 
             AuthConfig authConfig = new AuthConfig();
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
             String generatedClientContent = ClientGenerator.getInstance().
-                    generateSrc(documents, schema, authConfig, GeneratorContext.CLI)
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
                     .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
 
             Path expectedClientFile =
@@ -150,15 +158,17 @@ public class ClientGeneratorTest extends GraphqlTest {
                     this.tmpDir);
 
             Extension extensions = projects.get(0).getExtensions();
-            List<String> documents = projects.get(0).getDocuments();
-            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
 
             AuthConfig authConfig = new AuthConfig();
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
             String generatedClientContent = ClientGenerator.getInstance().
-                    generateSrc(documents, schema, authConfig, GeneratorContext.CLI)
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
                     .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
 
             Path expectedClientFile =
@@ -172,4 +182,424 @@ public class ClientGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the client code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the successful generation of client code with query string constants")
+    public void testGenerateSrcWithQueryConstants()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-query-constants.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "queryConstants",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with persisted queries")
+    public void testGenerateSrcWithPersistedQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "persistedQueries",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with batching")
+    public void testGenerateSrcWithBatching()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-batching.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "batching",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with request coalescing")
+    public void testGenerateSrcWithRequestCoalescing()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-request-coalescing.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "requestCoalescing",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with request coalescing of persisted queries")
+    public void testGenerateSrcWithCoalescedPersistedQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-coalesced-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "coalescedPersistedQueries",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with response cache")
+    public void testGenerateSrcWithResponseCache()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-response-cache.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "responseCache",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with cached persisted queries")
+    public void testGenerateSrcWithCachedPersistedQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-cached-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "cachedPersistedQueries",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with GET queries")
+    public void testGenerateSrcWithGetQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-get-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "getQueries",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with the extensions of the responses")
+    public void testGenerateSrcWithResponseExtensions()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-response-extensions.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "responseExtensions",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with performance options")
+    public void testGenerateSrcWithPerformance()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-performance.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    extensions.getGeneration(), extensions.getPerformance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "performance",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with Relay connection streams")
+    public void testGenerateSrcWithRelayConnections()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-relay-connections.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "relayConnections",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with subscriptions")
+    public void testGenerateSrcWithSubscriptions()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-subscriptions.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context = GenerationContext.from(projects.get(0).getDocumentRegistry(),
+                    new Generation(), new Performance());
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(projects.get(0).getDocumentRegistry(), projects.get(0).getSchemaIndex(),
+                            authConfig, context, GeneratorContext.CLI)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "subscriptions",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
 }
@@ -28,7 +28,10 @@ import io.ballerina.graphql.generator.client.exception.ConfigTypesGenerationExce
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ConfigTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -57,7 +60,8 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig)
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -88,7 +92,8 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig)
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -119,7 +124,8 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig)
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -150,7 +156,8 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig)
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -183,7 +190,8 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig)
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -198,4 +206,102 @@ public class ConfigTypesGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the config types code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the functionality of the GraphQL config types code generator with persisted queries")
+    public void testGenerateSrcWithPersistedQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedConfigTypesFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "persistedQueries",
+                            "config_types.bal"));
+            String expectedConfigTypesContent = readContent(expectedConfigTypesFile);
+
+            Assert.assertEquals(expectedConfigTypesContent, generatedConfigTypesContent);
+
+        } catch (ConfigTypesGenerationException e) {
+            Assert.fail("Error while generating the config types code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL config types code generator with performance options")
+    public void testGenerateSrcWithPerformance()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-performance.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), extensions.getPerformance(), false, false);
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedConfigTypesFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "performance",
+                            "config_types.bal"));
+            String expectedConfigTypesContent = readContent(expectedConfigTypesFile);
+
+            Assert.assertEquals(expectedConfigTypesContent, generatedConfigTypesContent);
+
+        } catch (ConfigTypesGenerationException e) {
+            Assert.fail("Error while generating the config types code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL config types code generator with subscriptions")
+    public void testGenerateSrcWithSubscriptions()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-subscriptions.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            String generatedConfigTypesContent = ConfigTypesGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext(new Generation(), new Performance(), false, true))
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedConfigTypesFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "subscriptions",
+                            "config_types.bal"));
+            String expectedConfigTypesContent = readContent(expectedConfigTypesFile);
+
+            Assert.assertEquals(expectedConfigTypesContent, generatedConfigTypesContent);
+
+        } catch (ConfigTypesGenerationException e) {
+            Assert.fail("Error while generating the config types code. " + e.getMessage());
+        }
+    }
 }
@@ -13,8 +13,10 @@ import io.ballerina.graphql.generator.client.Utils;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.FunctionBodyGenerator;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,7 +49,7 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
         AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
         FunctionBodyNode initFunctionBodyNode =
-                FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig);
+                FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig, new GenerationContext());
         String generatedInitFunctionBody = initFunctionBodyNode.toString().replaceAll("\\s+", "");
         Assert.assertEquals(expectedInitFunctionBody, generatedInitFunctionBody);
     }
@@ -73,8 +75,8 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
 
         ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
 
-        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
-                generateRemoteFunctionBody(queryOperation1Definition, schema, authConfig);
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().generateRemoteFunctionBody(
+                queryOperation1Definition, null, SchemaIndex.getInstance(schema), authConfig, new GenerationContext());
         String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
         Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
     }
@@ -101,8 +103,8 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
 
         ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
 
-        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
-                generateRemoteFunctionBody(queryOperation1Definition, schema, authConfig);
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().generateRemoteFunctionBody(
+                queryOperation1Definition, null, SchemaIndex.getInstance(schema), authConfig, new GenerationContext());
         String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
         Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
     }
@@ -129,8 +131,8 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
 
         ExtendedOperationDefinition queryOperation2Definition = queryReader.getExtendedOperationDefinitions().get(1);
 
-        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
-                generateRemoteFunctionBody(queryOperation2Definition, schema, authConfig);
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().generateRemoteFunctionBody(
+                queryOperation2Definition, null, SchemaIndex.getInstance(schema), authConfig, new GenerationContext());
         String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
         Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
     }
@@ -157,8 +159,8 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
 
         ExtendedOperationDefinition queryOperation3Definition = queryReader.getExtendedOperationDefinitions().get(2);
 
-        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
-                generateRemoteFunctionBody(queryOperation3Definition, schema, authConfig);
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().generateRemoteFunctionBody(
+                queryOperation3Definition, null, SchemaIndex.getInstance(schema), authConfig, new GenerationContext());
         String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
         Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
     }
@@ -249,27 +251,27 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
         return new Object[][]{
                 {"graphql.config.yaml", "{stringquery=string`query country($code:ID!){country(code:$code)" +
                         "{capital name}}`;map<anydata>variables={\"code\":code};" +
-                        "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);" +
-                        "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}"},
+                        "record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables);return graphqlResponse.data;}"},
                 {"graphql-config-with-auth-apikeys-config.yaml", "{stringquery=string`query country($code:ID!)" +
                         "{country(code:$code){capital name}}`;map<anydata>variables={\"code\":code};" +
                         "map<any>headerValues={\"Header1\":self.apiKeysConfig.header1,\"Header2\":" +
                         "self.apiKeysConfig.header2};map<string|string[]>httpHeaders=getMapForHeaders(headerValues);" +
-                        "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables," +
-                        "headers=httpHeaders);" +
-                        "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}"},
+                        "record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);" +
+                        "return graphqlResponse.data;}"},
                 {"graphql-config-with-auth-client-config.yaml", "{stringquery=string`query country($code:ID!)" +
                         "{country(code:$code){capital name}}`;map<anydata>variables={\"code\":code};" +
-                        "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);" +
-                        "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}"},
+                        "record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables);return graphqlResponse.data;}"},
                 {"graphql-config-with-auth-apikeys-and-client-config.yaml", "{stringquery=string`query " +
                         "country($code:ID!){country(code:$code){capital name}}`;" +
                         "map<anydata>variables={\"code\":code};map<any>headerValues={\"Header1\":" +
                         "self.apiKeysConfig.header1,\"Header2\":self.apiKeysConfig.header2};" +
                         "map<string|string[]>httpHeaders=getMapForHeaders(headerValues);" +
-                        "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables," +
-                        "headers=httpHeaders);" +
-                        "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}"}
+                        "record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);" +
+                        "return graphqlResponse.data;}"}
         };
     }
 
@@ -285,9 +287,9 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
                         "map<anydata>variables={\"argument9\":argument9,\"argument5\":argument5," +
                         "\"argument6\":argument6,\"argument7\":argument7,\"argument8\":argument8," +
                         "\"argument1\":argument1,\"argument2\":argument2,\"argument3\":argument3," +
-                        "\"argument4\":argument4};jsongraphqlResponse=checkself.graphqlClient->" +
-                        "executeWithType(query,variables);return<Operation1Response> " +
-                        "check performDataBinding(graphqlResponse, Operation1Response);}"}
+                        "\"argument4\":argument4};" +
+                        "record {|Operation1Response data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables);return graphqlResponse.data;}"}
         };
     }
 
@@ -298,9 +300,9 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
                         "$argument1:CustomInput,$argument2:[CustomInput],$argument3:[CustomInput!])" +
                         "{operation2(argument1:$argument1,argument2:$argument2,argument3:$argument3)" +
                         "{field1 field2}}`;map<anydata>variables={\"argument1\":argument1," +
-                        "\"argument2\":argument2,\"argument3\":argument3};jsongraphqlResponse=" +
-                        "checkself.graphqlClient->executeWithType(query,variables);" +
-                        "return<Operation2Response> check performDataBinding(graphqlResponse, Operation2Response);}"}
+                        "\"argument2\":argument2,\"argument3\":argument3};" +
+                        "record {|Operation2Response data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables);return graphqlResponse.data;}"}
         };
     }
 
@@ -310,9 +312,9 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
                 {"graphql-config-to-test-arguments.yaml", "{stringquery=string`query operation3(" +
                         "$argument1:CustomInput!,$argument2:CustomInput){operation3(argument1:$argument1," +
                         "argument2:$argument2){field1 field2}}`;map<anydata>variables={\"argument1\":argument1," +
-                        "\"argument2\":argument2};jsongraphqlResponse=checkself.graphqlClient->" +
-                        "executeWithType(query,variables);return<Operation3Response> " +
-                        "check performDataBinding(graphqlResponse, Operation3Response);}"}
+                        "\"argument2\":argument2};" +
+                        "record {|Operation3Response data; map<json?> extensions?;|} graphqlResponse = " +
+                        "check self.graphqlClient->executeWithType(query, variables);return graphqlResponse.data;}"}
         };
     }
 }
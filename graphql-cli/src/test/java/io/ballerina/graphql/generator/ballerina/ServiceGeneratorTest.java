@@ -27,11 +27,14 @@ import io.ballerina.graphql.generator.service.exception.ServiceGenerationExcepti
 import io.ballerina.graphql.generator.service.generator.ServiceGenerator;
 import io.ballerina.graphql.generator.service.generator.ServiceTypesGenerator;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import static io.ballerina.graphql.common.TestUtils.writeContentTo;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SERVICE_FILE_NAME;
@@ -98,4 +101,45 @@ public class ServiceGeneratorTest extends GraphqlTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @Test(description = "Test that single pass formatting produces the same output as the double pass",
+            dataProvider = "validSchemaFileNames")
+    public void testSinglePassFormattingMatchesDoublePass(String fileName) {
+        try {
+            GraphqlServiceProject project = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", fileName))
+                            .toString(), this.tmpDir);
+            GraphQLSchema graphQLSchema = project.getGraphQLSchema();
+
+            String[] doublePassContent = generateServiceSources(fileName, graphQLSchema, false);
+            String[] singlePassContent = generateServiceSources(fileName, graphQLSchema, true);
+            Assert.assertEquals(singlePassContent[0], doublePassContent[0]);
+            Assert.assertEquals(singlePassContent[1], doublePassContent[1]);
+        } catch (ServiceGenerationException | IOException | ValidationException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @DataProvider(name = "validSchemaFileNames")
+    public Object[][] getValidSchemaFileNames() {
+        File[] schemaFiles = this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid")).toFile()
+                .listFiles((dir, name) -> name.endsWith(".graphql"));
+        Assert.assertNotNull(schemaFiles);
+        return Arrays.stream(schemaFiles).map(file -> new Object[]{file.getName()}).toArray(Object[][]::new);
+    }
+
+    private String[] generateServiceSources(String fileName, GraphQLSchema graphQLSchema,
+                                            boolean singlePassFormatting) throws ServiceGenerationException {
+        ServiceTypesGenerator serviceTypesGenerator = new ServiceTypesGenerator();
+        serviceTypesGenerator.setFileName(fileName);
+        serviceTypesGenerator.setSinglePassFormatting(singlePassFormatting);
+        String typesContent = serviceTypesGenerator.generateSrc(graphQLSchema);
+
+        ServiceGenerator serviceGenerator = new ServiceGenerator();
+        serviceGenerator.setFileName(fileName);
+        serviceGenerator.setMethodDeclarations(serviceTypesGenerator.getServiceMethodDeclarations());
+        serviceGenerator.setSinglePassFormatting(singlePassFormatting);
+        String serviceContent = serviceGenerator.generateSrc();
+        return new String[]{typesContent, serviceContent};
+    }
 }
@@ -66,6 +66,32 @@ public class ServiceTypesGeneratorTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test the reuse of a service types generator for different schemas")
+    public void testGenerateSrcWithReusedGenerator() {
+        try {
+            GraphqlServiceProject firstProject = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid",
+                            "SchemaWithMultipleObjectsApi.graphql")).toString(), this.tmpDir);
+            GraphqlServiceProject secondProject = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid",
+                            "SchemaWithSingleObjectApi.graphql")).toString(), this.tmpDir);
+
+            ServiceTypesGenerator freshGenerator = new ServiceTypesGenerator();
+            freshGenerator.setFileName("SchemaWithSingleObjectApi");
+            String expectedServiceTypesContent = freshGenerator.generateSrc(secondProject.getGraphQLSchema());
+
+            ServiceTypesGenerator reusedGenerator = new ServiceTypesGenerator();
+            reusedGenerator.setFileName("SchemaWithMultipleObjectsApi");
+            reusedGenerator.generateSrc(firstProject.getGraphQLSchema());
+            reusedGenerator.setFileName("SchemaWithSingleObjectApi");
+            String generatedServiceTypesContent = reusedGenerator.generateSrc(secondProject.getGraphQLSchema());
+
+            Assert.assertEquals(generatedServiceTypesContent, expectedServiceTypesContent);
+        } catch (ValidationException | IOException | ServiceGenerationException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     @Test(groups = {"service-type-for-objects"})
     public void testGenerateSrcForSchemaWithMultipleObjectTypes() {
         String fileName = "SchemaWithMultipleObjectsApi";
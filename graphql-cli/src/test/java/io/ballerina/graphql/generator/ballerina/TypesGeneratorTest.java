@@ -92,4 +92,74 @@ public class TypesGeneratorTest {
         String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
         TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
     }
+
+    @Test(description = "Generate the node records of Relay connections")
+    public void getConnectionNodeRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(
+                RES_DIR.resolve("specs/graphql-config-with-relay-connections.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments());
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/client/relayConnections/types.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+    }
+
+    @Test(description = "Generate the response records of subscriptions")
+    public void getSubscriptionResponseRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(
+                RES_DIR.resolve("specs/graphql-config-with-subscriptions.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments());
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/client/subscriptions/types.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+    }
+
+    @Test(description = "Generate the query response records with the extensions field")
+    public void getQueryResponseRecordsWithResponseExtensions() throws IOException, ParseException, CmdException,
+            ValidationException, ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(
+                RES_DIR.resolve("specs/graphql-config-with-response-extensions.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getSchemaIndex(),
+                projects.get(0).getDocumentRegistry(), projects.get(0).getExtensions().getGeneration());
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/client/responseExtensions/types.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+    }
+
+    @Test(description = "Report the subscription root fields undefined in the schema",
+            expectedExceptions = ClientTypesGenerationException.class,
+            expectedExceptionsMessageRegExp = "Field 'productDeleted' of the subscription .* is undefined.*")
+    public void getUndefinedSubscriptionResponseRecords() throws IOException, ParseException, CmdException,
+            ValidationException, ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(
+                RES_DIR.resolve("specs/graphql-config-with-invalid-subscriptions.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+        }
+        ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments());
+    }
 }
@@ -10,7 +10,11 @@ import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
+import io.ballerina.graphql.generator.utils.TemplateCache;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -39,7 +43,7 @@ public class UtilsGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig)
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -70,7 +74,7 @@ public class UtilsGeneratorTest extends GraphqlTest {
             AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
             AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
-            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig)
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, new GenerationContext())
                     .trim().replaceAll("\\s+", "")
                     .replaceAll(System.lineSeparator(), "");
 
@@ -85,4 +89,341 @@ public class UtilsGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the utils code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test that the utils template is parsed once and reused across generations")
+    public void testUtilsTemplateIsCached() throws IOException {
+        Assert.assertSame(TemplateCache.getModulePartNode(TemplateCache.UTILS_TEMPLATE),
+                TemplateCache.getModulePartNode(TemplateCache.UTILS_TEMPLATE));
+        Assert.assertTrue(TemplateCache.getModulePartNode(TemplateCache.UTILS_TEMPLATE).toSourceCode()
+                .contains("performDataBinding"));
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with persisted queries")
+    public void testGenerateSrcWithPersistedQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "persistedQueries",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with batching")
+    public void testGenerateSrcWithBatching()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-batching.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "batching",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with request coalescing")
+    public void testGenerateSrcWithRequestCoalescing()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-request-coalescing.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "requestCoalescing",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with coalesced persisted queries")
+    public void testGenerateSrcWithCoalescedPersistedQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-coalesced-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "coalescedPersistedQueries",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with response cache")
+    public void testGenerateSrcWithResponseCache()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-response-cache.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "responseCache",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with cached persisted queries")
+    public void testGenerateSrcWithCachedPersistedQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-cached-persisted-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "cachedPersistedQueries",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with GET queries")
+    public void testGenerateSrcWithGetQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-get-queries.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "getQueries",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with the extensions of the " +
+            "responses")
+    public void testGenerateSrcWithResponseExtensions()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-response-extensions.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            GenerationContext context =
+                    new GenerationContext(extensions.getGeneration(), new Performance(), false, false);
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, context)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "responseExtensions",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with Relay connection streams")
+    public void testGenerateSrcWithRelayConnections()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-relay-connections.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext(new Generation(), new Performance(), true, false))
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "relayConnections",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with subscriptions")
+    public void testGenerateSrcWithSubscriptions()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-subscriptions.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance()
+                    .generateSrc(authConfig, new GenerationContext(new Generation(), new Performance(), false, true))
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "subscriptions",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
 }
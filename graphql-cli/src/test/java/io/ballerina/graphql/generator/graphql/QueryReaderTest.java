@@ -19,11 +19,14 @@
 package io.ballerina.graphql.generator.graphql;
 
 import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.Utils;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
@@ -37,7 +40,11 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -72,7 +79,46 @@ public class QueryReaderTest extends GraphqlTest {
         }
     }
 
+    @Test
+    public void testDocumentRegistryReusesParsedDocuments()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs",
+                        "graphql-config-to-test-arguments.yaml")).toString(),
+                this.tmpDir);
+
+        DocumentRegistry documentRegistry = projects.get(0).getDocumentRegistry();
+        String document = projects.get(0).getDocuments().get(0);
+
+        // The document has already been parsed during the query validation
+        Document queryDocument = documentRegistry.getDocument(document);
+        assertSame(documentRegistry.getDocument(document), queryDocument);
+        assertSame(documentRegistry.getQueryReader(document), documentRegistry.getQueryReader(document));
+    }
+
     @Test
     public void testGetExtendedFragmentDefinitions() {
     }
+
+    @Test
+    public void testFragmentIndexAndDependencies() {
+        Document queryDocument = Parser.parse("query country { country(code: \"LK\") { ...countryFields } } " +
+                "fragment countryFields on Country { name continent { ...continentFields } } " +
+                "fragment continentFields on Continent { name countries { ... on Country { ...languageFields } } } " +
+                "fragment languageFields on Country { languages { name } } " +
+                "fragment unusedFields on Country { code }");
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        assertEquals(queryReader.getExtendedFragmentDefinitions().size(), 4);
+        assertEquals(queryReader.getExtendedFragmentDefinition("continentFields").getOperationType(), "Continent");
+        assertNull(queryReader.getExtendedFragmentDefinition("undefinedFields"));
+        assertEquals(queryReader.getFragmentDependencies("countryFields"), Set.of("continentFields"));
+        assertEquals(queryReader.getFragmentDependencies("continentFields"), Set.of("languageFields"));
+        assertTrue(queryReader.getFragmentDependencies("unusedFields").isEmpty());
+
+        OperationDefinition operationDefinition =
+                queryDocument.getDefinitionsOfType(OperationDefinition.class).get(0);
+        assertEquals(queryReader.getReachableFragmentNames(operationDefinition.getSelectionSet()),
+                Set.of("countryFields", "continentFields", "languageFields"));
+    }
 }
@@ -25,6 +25,7 @@ import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import org.apache.commons.logging.Log;
@@ -37,6 +38,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -146,4 +150,52 @@ public class SpecReaderTest extends GraphqlTest {
             assertTrue(expectedEnumTypes.contains(generatedEnumType));
         }
     }
+
+    @Test
+    public void testSchemaIndexIsSharedPerSchema()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        SchemaIndex schemaIndex = projects.get(0).getSchemaIndex();
+        assertSame(SchemaIndex.getInstance(schema), schemaIndex);
+        assertSame(SpecReader.getObjectTypeFieldsMap(schema, "Country"),
+                schemaIndex.getObjectTypeFieldsMap("Country"));
+    }
+
+    @Test
+    public void testSchemaIndexTypeClassification()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        SchemaIndex schemaIndex = projects.get(0).getSchemaIndex();
+        assertTrue(schemaIndex.isCustomScalarType("Upload"));
+        assertFalse(schemaIndex.isCustomScalarType("String"));
+        assertTrue(schemaIndex.isEnumType("CacheControlScope"));
+        assertFalse(schemaIndex.isEnumType("__TypeKind"));
+        assertEquals(schemaIndex.getBallerinaTypeName("Upload"), "anydata");
+        assertEquals(schemaIndex.getBallerinaTypeName("CacheControlScope"), "string");
+        assertEquals(schemaIndex.getBallerinaTypeName("ID"), "string");
+        assertEquals(schemaIndex.getBallerinaTypeName("Country"), "Country");
+        assertTrue(schemaIndex.getObjectTypeFieldsMap("UnknownType").isEmpty());
+    }
+
+    @Test
+    public void testSchemaIndexMemoizesFieldsMaps() throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        SchemaIndex schemaIndex = SchemaIndex.getInstance(projects.get(0).getGraphQLSchema());
+        Map<String, FieldType> fieldsMap = schemaIndex.getObjectTypeFieldsMap("Language");
+        long hitCount = schemaIndex.getFieldsMapHitCount();
+        long missCount = schemaIndex.getFieldsMapMissCount();
+        assertTrue(missCount > 0);
+        assertSame(schemaIndex.getObjectTypeFieldsMap("Language"), fieldsMap);
+        assertSame(schemaIndex.getObjectTypeFieldsMap("Language"), fieldsMap);
+        assertTrue(schemaIndex.getObjectTypeFieldsMap("UnknownType").isEmpty());
+        assertEquals(schemaIndex.getFieldsMapHitCount(), hitCount + 2);
+        assertEquals(schemaIndex.getFieldsMapMissCount(), missCount);
+    }
 }
@@ -18,7 +18,11 @@
 
 package io.ballerina.graphql.generator.graphql.components;
 
+import graphql.language.AstPrinter;
+import graphql.language.Definition;
 import graphql.language.Document;
+import graphql.language.FragmentDefinition;
+import graphql.language.OperationDefinition;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
@@ -35,21 +39,26 @@ import io.ballerina.graphql.generator.client.generator.graphql.components.Extend
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 /**
  * This class is used to test the functionality of the GraphQL query reader ExtendedOperationDefinition class.
  */
 public class ExtendedOperationDefinitionTest extends GraphqlTest {
+    private static final Log log = LogFactory.getLog(ExtendedOperationDefinitionTest.class);
 
     @Test
     public void testGetOperationType() throws ValidationException, CmdException, IOException, ParseException {
@@ -219,4 +228,41 @@ public class ExtendedOperationDefinitionTest extends GraphqlTest {
                 "argument6:$argument6,argument7:$argument7,argument8:$argument8,argument9:$argument9){field1 field2}}";
         Assert.assertEquals(generatedQueryString, expectedQueryString);
     }
+
+    @Test
+    public void testGetQueryStringWithReachableFragmentsOnly() throws IOException {
+        Document queryDocument = Utils.getGraphQLQueryDocument(this.resourceDir.resolve(Paths.get("specs", "queries",
+                "typesGenTests", "fragment-examples.graphql")).toString());
+        QueryReader queryReader = new QueryReader(queryDocument);
+        List<FragmentDefinition> fragmentDefinitions = queryDocument.getDefinitionsOfType(FragmentDefinition.class);
+
+        int prunedPayloadSize = 0;
+        int unprunedPayloadSize = 0;
+        for (ExtendedOperationDefinition operationDefinition : queryReader.getExtendedOperationDefinitions()) {
+            String queryString = operationDefinition.getQueryString();
+            prunedPayloadSize += queryString.length();
+
+            // The query string as it was built before, with every fragment of the query file
+            List<Definition> definitions = new ArrayList<>(fragmentDefinitions);
+            definitions.add(queryDocument.getDefinitionsOfType(OperationDefinition.class).stream()
+                    .filter(definition -> definition.getName().equals(operationDefinition.getName()))
+                    .findFirst().get());
+            unprunedPayloadSize +=
+                    AstPrinter.printAstCompact(Document.newDocument().definitions(definitions).build()).length();
+        }
+        log.info(String.format("Query strings payload size with every fragment: %d, with reachable fragments only: " +
+                "%d", unprunedPayloadSize, prunedPayloadSize));
+        assertTrue(prunedPayloadSize < unprunedPayloadSize);
+
+        List<ExtendedOperationDefinition> operationDefinitions = queryReader.getExtendedOperationDefinitions();
+        String fragmentExample1QueryString = operationDefinitions.get(0).getQueryString();
+        assertTrue(fragmentExample1QueryString.contains("fragment countryFields on Country"));
+        assertFalse(fragmentExample1QueryString.contains("fragment countryFields2 on Country"));
+        assertFalse(fragmentExample1QueryString.contains("fragment countryFields3 on Country"));
+        String fragmentExample3QueryString = operationDefinitions.get(2).getQueryString();
+        assertTrue(fragmentExample3QueryString.contains("fragment countryFields3 on Country"));
+        assertFalse(fragmentExample3QueryString.contains("fragment countryFields on Country"));
+        String inlineFragmentExample1QueryString = operationDefinitions.get(3).getQueryString();
+        assertFalse(inlineFragmentExample1QueryString.contains("fragment "));
+    }
 }
@@ -20,7 +20,13 @@ package io.ballerina.graphql.validator;
 
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.graphql.cmd.GraphqlCmd;
+import io.ballerina.graphql.cmd.pojo.Config;
 import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.exception.CmdException;
+import io.ballerina.graphql.exception.ParseException;
+import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.testng.Assert;
@@ -30,6 +36,7 @@ import picocli.CommandLine;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_SCHEMA_URL;
 
@@ -61,6 +68,44 @@ public class ConfigValidatorTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test that repeated validations do not carry over the projects of previous validations")
+    public void testRepeatedValidations() throws CmdException, IOException, ParseException, ValidationException {
+        Config config = TestUtils.readConfig(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml")).toString());
+        ConfigValidator configValidator = ConfigValidator.getInstance();
+
+        List<GraphqlClientProject> firstProjects = configValidator.populateProjects(config);
+        for (int i = 0; i < 10; i++) {
+            configValidator.validate(config);
+        }
+        List<GraphqlClientProject> lastProjects = configValidator.populateProjects(config);
+
+        Assert.assertNotSame(lastProjects, firstProjects);
+        Assert.assertEquals(lastProjects.size(), config.getProjects().size());
+        Assert.assertEquals(lastProjects.size(), firstProjects.size());
+    }
+
+    @Test(description = "Test that a failed validation does not affect the following validations")
+    public void testValidationAfterInvalidConfig() throws CmdException, IOException, ParseException {
+        Config invalidConfig = TestUtils.readConfig(this.resourceDir.resolve(
+                Paths.get("specs", "graphql-config-with-invalid-schema-path.yaml")).toString());
+        Config validConfig = TestUtils.readConfig(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml")).toString());
+        ConfigValidator configValidator = ConfigValidator.getInstance();
+
+        try {
+            configValidator.validate(invalidConfig);
+            Assert.fail("The validation of an invalid config file should fail.");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Invalid file path"));
+        }
+        try {
+            configValidator.validate(validConfig);
+        } catch (ValidationException e) {
+            Assert.fail("The validation of a valid config file failed after an invalid one. " + e.getMessage());
+        }
+    }
+
 //    @Test(description = "Test graphql command execution with invalid schema path",
 //            dependsOnMethods = "testValidateWithInvalidSchemaUrl")
 //    public void testValidateWithInvalidSchemaPath() {
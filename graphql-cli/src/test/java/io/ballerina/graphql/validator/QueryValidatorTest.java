@@ -51,4 +51,40 @@ public class QueryValidatorTest extends GraphqlTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @Test(description = "Test graphql command execution with invalid query file and the lightweight schema flag")
+    public void testValidateWithLightweightSchema() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-query-file.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--lightweight-schema"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertTrue(output.contains("Graph query validation failed."));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with invalid subscription file and the lightweight schema flag")
+    public void testValidateSubscriptionsWithLightweightSchema() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-subscriptions.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--lightweight-schema"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertTrue(output.contains("Graph query validation failed."));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(e.getMessage());
+        }
+    }
 }
@@ -51,4 +51,22 @@ public class SDLValidatorTest extends GraphqlTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @Test(description = "Test graphql command execution with invalid local SDL and the lightweight schema flag")
+    public void testValidateWithInvalidLocalSdlAndLightweightSchema() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-local-sdl.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--lightweight-schema"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        String output = "";
+        try {
+            graphqlCmd.execute();
+            output = readOutput(true);
+            Assert.assertTrue(output.contains("GraphQL SDL validation failed."));
+        } catch (BLauncherException | IOException e) {
+            output = e.toString();
+            Assert.fail(e.getMessage());
+        }
+    }
 }
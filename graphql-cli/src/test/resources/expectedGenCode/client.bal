@@ -38,25 +38,25 @@ public isolated client class GraphqlClient {
     remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
         string query = string `query country($code:ID!) {country(code:$code) {capital name}}`;
         map<anydata> variables = {"code": code};
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
-        return <CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);
+        record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
     }
     remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
         string query = string `query countries($filter:CountryFilterInput) {countries(filter:$filter) {name continent {countries {name}}}}`;
         map<anydata> variables = {"filter": filter};
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
-        return <CountriesResponse> check performDataBinding(graphqlResponse, CountriesResponse);
+        record {|CountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
     }
     remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
         string query = string `query combinedQuery($code:ID!,$filter:CountryFilterInput) {country(code:$code) {name} countries(filter:$filter) {name continent {countries {continent {name}}}}}`;
         map<anydata> variables = {"filter": filter, "code": code};
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
-        return <CombinedQueryResponse> check performDataBinding(graphqlResponse, CombinedQueryResponse);
+        record {|CombinedQueryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
     }
     remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
         string query = string `query neighbouringCountries {countries(filter:{code:{eq:"LK"}}) {name continent {countries {name}}}}`;
         map<anydata> variables = {};
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
-        return <NeighbouringCountriesResponse> check performDataBinding(graphqlResponse, NeighbouringCountriesResponse);
+        record {|NeighbouringCountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
     }
 }
@@ -35,11 +35,7 @@ isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse
                                     returns DataResponse|graphql:RequestError {
     do {
         map<json> responseMap = <map<json>>graphqlResponse;
-        json responseData = responseMap.get("data");
-        if (responseMap.hasKey("extensions")) {
-            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
-        }
-        DataResponse response = check responseData.cloneWithType(targetType);
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
         return response;
     } on fail var e {
         return error graphql:RequestError("GraphQL Client Error", e);
@@ -0,0 +1,88 @@
+import ballerina/graphql;
+import ballerina/http;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    final http:Client httpClient;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+        self.httpClient = check getHttpClient(serviceUrl, graphqlClientConfig);
+    }
+    remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
+        string query = string `query country($code:ID!) {country(code:$code) {capital name}}`;
+        map<anydata> variables = {"code": code};
+        record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
+        string query = string `query countries($filter:CountryFilterInput) {countries(filter:$filter) {name continent {countries {name}}}}`;
+        map<anydata> variables = {"filter": filter};
+        record {|CountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
+        string query = string `query combinedQuery($code:ID!,$filter:CountryFilterInput) {country(code:$code) {name} countries(filter:$filter) {name continent {countries {continent {name}}}}}`;
+        map<anydata> variables = {"filter": filter, "code": code};
+        record {|CombinedQueryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
+        string query = string `query neighbouringCountries {countries(filter:{code:{eq:"LK"}}) {name continent {countries {name}}}}`;
+        map<anydata> variables = {};
+        record {|NeighbouringCountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    public isolated function countryBatchOperation(string code) returns BatchOperation {
+        string query = string `query country($code:ID!) {country(code:$code) {capital name}}`;
+        map<anydata> variables = {"code": code};
+        return {query: query, variables: variables, targetType: CountryResponse};
+    }
+    public isolated function countriesBatchOperation(CountryFilterInput? filter = ()) returns BatchOperation {
+        string query = string `query countries($filter:CountryFilterInput) {countries(filter:$filter) {name continent {countries {name}}}}`;
+        map<anydata> variables = {"filter": filter};
+        return {query: query, variables: variables, targetType: CountriesResponse};
+    }
+    public isolated function combinedQueryBatchOperation(string code, CountryFilterInput? filter = ()) returns BatchOperation {
+        string query = string `query combinedQuery($code:ID!,$filter:CountryFilterInput) {country(code:$code) {name} countries(filter:$filter) {name continent {countries {continent {name}}}}}`;
+        map<anydata> variables = {"filter": filter, "code": code};
+        return {query: query, variables: variables, targetType: CombinedQueryResponse};
+    }
+    public isolated function neighbouringCountriesBatchOperation() returns BatchOperation {
+        string query = string `query neighbouringCountries {countries(filter:{code:{eq:"LK"}}) {name continent {countries {name}}}}`;
+        map<anydata> variables = {};
+        return {query: query, variables: variables, targetType: NeighbouringCountriesResponse};
+    }
+    remote isolated function executeBatch(BatchOperation[] operations) returns BatchOperationResponse[]|graphql:ClientError {
+        return performBatchRequest(self.httpClient, operations);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+import ballerina/graphql;
+import ballerina/http;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Creates the HTTP client which sends the GraphQL requests the GraphQL client can not send, with the configurations of
+# the GraphQL client.
+#
+# + serviceUrl - URL of the target service
+# + clientConfig - Configurations of the GraphQL client
+# + http2PriorKnowledge - Whether to send the requests over HTTP/2 without the HTTP/1.1 upgrade
+# + return - Returns the HTTP client or error at failure of client initialization
+isolated function getHttpClient(string serviceUrl, graphql:ClientConfiguration clientConfig,
+                                boolean http2PriorKnowledge = false) returns http:Client|graphql:ClientError {
+    do {
+        http:ClientConfiguration httpClientConfig = check clientConfig.cloneWithType();
+        if http2PriorKnowledge {
+            httpClientConfig.httpVersion = http:HTTP_2_0;
+            httpClientConfig.http2Settings = {http2PriorKnowledge: true};
+        }
+        http:Client httpClient = check new (serviceUrl, httpClientConfig);
+        return httpClient;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function postGraphqlRequest(http:Client httpClient, json payload, map<string|string[]>? headers)
+                                     returns json|error {
+    http:Response response = check httpClient->post("", payload, headers);
+    return response.getJsonPayload();
+}
+
+# Returns the errors in a GraphQL response as a `graphql:ServerError`, the same way the GraphQL client does.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns error if the GraphQL response has errors
+isolated function handleGraphqlErrors(json graphqlResponse) returns graphql:ClientError? {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Represents a GraphQL operation of a batch request.
+#
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + targetType - Type of the operation response
+public type BatchOperation record {|
+    string query;
+    map<anydata> variables;
+    typedesc<BatchOperationResponse> targetType;
+|};
+
+# Represents the data representation of the response of an operation in a batch request.
+#
+# + __extensions - Meta information of the GraphQL API call
+public type BatchOperationResponse record {|
+    map<json?> __extensions?;
+    record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|() ...;
+|};
+
+# Executes a batch of GraphQL operations with a single HTTP request carrying a JSON array of the operations, and binds
+# the response of each operation to its response type.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + operations - Operations of the batch
+# + headers - Headers to be sent with the request
+# + return - Returns the responses in the order of the operations or error at failure of any operation
+isolated function performBatchRequest(http:Client httpClient, BatchOperation[] operations,
+                                      map<string|string[]>? headers = ())
+                                      returns BatchOperationResponse[]|graphql:ClientError {
+    json[] payload = from BatchOperation batchOperation in operations
+        select {"query": batchOperation.query, "variables": batchOperation.variables.toJson()};
+    json[] graphqlResponses;
+    do {
+        graphqlResponses = check (check postGraphqlRequest(httpClient, payload, headers)).ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    if graphqlResponses.length() != operations.length() {
+        return error graphql:RequestError(string `GraphQL Client Error: expected ${operations.length()} responses ` +
+                                          string `for the batch, but received ${graphqlResponses.length()}`);
+    }
+    BatchOperationResponse[] responses = [];
+    foreach int i in 0 ..< operations.length() {
+        check handleGraphqlErrors(graphqlResponses[i]);
+        responses.push(check performDataBinding(graphqlResponses[i], operations[i].targetType));
+    }
+    return responses;
+}
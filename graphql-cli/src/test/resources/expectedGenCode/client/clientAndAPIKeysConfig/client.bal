@@ -43,31 +43,31 @@ public isolated client class GraphqlClient {
         map<anydata> variables = {"code": code};
         map<any> headerValues = {"Header1": self.apiKeysConfig.header1, "Header2": self.apiKeysConfig.header2};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
-        return <CountryResponse>check performDataBinding(graphqlResponse, CountryResponse);
+        record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
+        return graphqlResponse.data;
     }
     remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
         string query = string `query countries($filter:CountryFilterInput) {countries(filter:$filter) {name continent {countries {name}}}}`;
         map<anydata> variables = {"filter": filter};
         map<any> headerValues = {"Header1": self.apiKeysConfig.header1, "Header2": self.apiKeysConfig.header2};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
-        return <CountriesResponse>check performDataBinding(graphqlResponse, CountriesResponse);
+        record {|CountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
+        return graphqlResponse.data;
     }
     remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
         string query = string `query combinedQuery($code:ID!,$filter:CountryFilterInput) {country(code:$code) {name} countries(filter:$filter) {name continent {countries {continent {name}}}}}`;
         map<anydata> variables = {"filter": filter, "code": code};
         map<any> headerValues = {"Header1": self.apiKeysConfig.header1, "Header2": self.apiKeysConfig.header2};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
-        return <CombinedQueryResponse>check performDataBinding(graphqlResponse, CombinedQueryResponse);
+        record {|CombinedQueryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
+        return graphqlResponse.data;
     }
     remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
         string query = string `query neighbouringCountries {countries(filter:{code:{eq:"LK"}}) {name continent {countries {name}}}}`;
         map<anydata> variables = {};
         map<any> headerValues = {"Header1": self.apiKeysConfig.header1, "Header2": self.apiKeysConfig.header2};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
-        json graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
-        return <NeighbouringCountriesResponse>check performDataBinding(graphqlResponse, NeighbouringCountriesResponse);
+        record {|NeighbouringCountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables, headers = httpHeaders);
+        return graphqlResponse.data;
     }
 }
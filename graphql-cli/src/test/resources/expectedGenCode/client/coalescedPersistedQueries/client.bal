@@ -0,0 +1,69 @@
+import ballerina/graphql;
+import ballerina/http;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    final http:Client httpClient;
+    final boolean persistedQueries;
+    final QueryCoalescer queryCoalescer;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+        self.httpClient = check getHttpClient(serviceUrl, graphqlClientConfig);
+        self.persistedQueries = config.persistedQueries;
+        self.queryCoalescer = new;
+    }
+    remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
+        string query = string `query country($code:ID!) {country(code:$code) {capital name}}`;
+        map<anydata> variables = {"code": code};
+        json graphqlResponse = check self.queryCoalescer.execute(self.graphqlClient, query, variables.cloneReadOnly(), httpClient = self.httpClient, sha256Hash = self.persistedQueries ? "41e808bf92851298cfd11830c46266e47a8af3a387246eee65c5940e3e56c7d9" : ());
+        return <CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);
+    }
+    remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
+        string query = string `query countries($filter:CountryFilterInput) {countries(filter:$filter) {name continent {countries {name}}}}`;
+        map<anydata> variables = {"filter": filter};
+        json graphqlResponse = check self.queryCoalescer.execute(self.graphqlClient, query, variables.cloneReadOnly(), httpClient = self.httpClient, sha256Hash = self.persistedQueries ? "36b823db2d0a096e0c557a224771a632404f2708ec7023d207e2d8be6ffbb9b0" : ());
+        return <CountriesResponse> check performDataBinding(graphqlResponse, CountriesResponse);
+    }
+    remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
+        string query = string `query combinedQuery($code:ID!,$filter:CountryFilterInput) {country(code:$code) {name} countries(filter:$filter) {name continent {countries {continent {name}}}}}`;
+        map<anydata> variables = {"filter": filter, "code": code};
+        json graphqlResponse = check self.queryCoalescer.execute(self.graphqlClient, query, variables.cloneReadOnly(), httpClient = self.httpClient, sha256Hash = self.persistedQueries ? "21cfa9886159880d83d596e7a0d751c1f0e09d4181656e91ecfa4445690225a7" : ());
+        return <CombinedQueryResponse> check performDataBinding(graphqlResponse, CombinedQueryResponse);
+    }
+    remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
+        string query = string `query neighbouringCountries {countries(filter:{code:{eq:"LK"}}) {name continent {countries {name}}}}`;
+        map<anydata> variables = {};
+        json graphqlResponse = check self.queryCoalescer.execute(self.graphqlClient, query, variables.cloneReadOnly(), httpClient = self.httpClient, sha256Hash = self.persistedQueries ? "d617a27216d344687897d2292bfb84c743f0e17303585095feb04197b931e231" : ());
+        return <NeighbouringCountriesResponse> check performDataBinding(graphqlResponse, NeighbouringCountriesResponse);
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2022 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/graphql;
+
+# Client configuration details.
+@display {label: "Connection Config"}
+public type ConnectionConfig record {|
+    # Configurations related to HTTP/1.x protocol
+    ClientHttp1Settings http1Settings = {keepAlive: KEEPALIVE_ALWAYS};
+    # The maximum time to wait (in seconds) for a response before closing the connection
+    decimal timeout = 60;
+    # The choice of setting `forwarded`/`x-forwarded` header
+    string forwarded = "disable";
+    # Configurations associated with request pooling
+    graphql:PoolConfiguration poolConfig = {maxActiveConnections: 100, maxIdleConnections: 20, waitTime: 30};
+    # HTTP caching related configurations
+    graphql:CacheConfig cache?;
+    # Specifies the way of handling compression (`accept-encoding`) header
+    graphql:Compression compression = graphql:COMPRESSION_ALWAYS;
+    # Configurations associated with the behaviour of the Circuit Breaker
+    graphql:CircuitBreakerConfig circuitBreaker?;
+    # Configurations associated with retrying
+    graphql:RetryConfig retryConfig?;
+    # Configurations associated with inbound response size limits
+    graphql:ResponseLimitConfigs responseLimits?;
+    # SSL/TLS-related options
+    graphql:ClientSecureSocket secureSocket?;
+    # Proxy server related options
+    graphql:ProxyConfig proxy?;
+    # Enables the inbound payload validation functionality which provided by the constraint package. Enabled by default
+    boolean validation = true;
+    # Enables sending the requests of the HTTP client over HTTP/2 with prior knowledge
+    boolean http2PriorKnowledge = true;
+|};
+
+# Provides settings related to HTTP/1.x protocol.
+#
+# + keepAlive - Specifies whether to reuse a connection for multiple requests
+# + chunking - The chunking behaviour of the request
+# + proxy - Proxy server related options
+public type ClientHttp1Settings record {|
+    KeepAlive keepAlive = KEEPALIVE_AUTO;
+    Chunking chunking = CHUNKING_AUTO;
+    ProxyConfig proxy?;
+|};
+
+# Defines the possible values for the keep-alive configuration in service and client endpoints.
+public type KeepAlive KEEPALIVE_AUTO|KEEPALIVE_ALWAYS|KEEPALIVE_NEVER;
+
+# Defines the possible values for the chunking configuration in HTTP services and clients.
+#
+# `AUTO`: If the payload is less than 8KB, content-length header is set in the outbound request/response,
+# otherwise chunking header is set in the outbound request/response
+# `ALWAYS`: Always set chunking header in the response
+# `NEVER`: Never set the chunking header even if the payload is larger than 8KB in the outbound request/response
+public type Chunking CHUNKING_AUTO|CHUNKING_ALWAYS|CHUNKING_NEVER;
+
+# Proxy server configurations to be used with the HTTP client endpoint.
+#
+# + host - Host name of the proxy server
+# + port - Proxy server port
+# + userName - Proxy server username
+# + password - Proxy server password
+public type ProxyConfig record {|
+    string host = "";
+    int port = 0;
+    string userName = "";
+    @display {
+        label: "",
+        kind: "password"
+    }
+    string password = "";
+|};
+
+# Decides to keep the connection alive or not based on the `connection` header of the client request }
+public const KEEPALIVE_AUTO = "AUTO";
+# Keeps the connection alive irrespective of the `connection` header value }
+public const KEEPALIVE_ALWAYS = "ALWAYS";
+# Closes the connection irrespective of the `connection` header value }
+public const KEEPALIVE_NEVER = "NEVER";
+
+# If the payload is less than 8KB, content-length header is set in the outbound request/response,
+# otherwise chunking header is set in the outbound request/response.}
+public const CHUNKING_AUTO = "AUTO";
+# Always set chunking header in the response.
+public const CHUNKING_ALWAYS = "ALWAYS";
+# Never set the chunking header even if the payload is larger than 8KB in the outbound request/response.
+public const CHUNKING_NEVER = "NEVER";
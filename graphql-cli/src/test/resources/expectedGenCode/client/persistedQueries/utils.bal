@@ -0,0 +1,137 @@
+import ballerina/graphql;
+import ballerina/http;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Creates the HTTP client which sends the GraphQL requests the GraphQL client can not send, with the configurations of
+# the GraphQL client.
+#
+# + serviceUrl - URL of the target service
+# + clientConfig - Configurations of the GraphQL client
+# + http2PriorKnowledge - Whether to send the requests over HTTP/2 without the HTTP/1.1 upgrade
+# + return - Returns the HTTP client or error at failure of client initialization
+isolated function getHttpClient(string serviceUrl, graphql:ClientConfiguration clientConfig,
+                                boolean http2PriorKnowledge = false) returns http:Client|graphql:ClientError {
+    do {
+        http:ClientConfiguration httpClientConfig = check clientConfig.cloneWithType();
+        if http2PriorKnowledge {
+            httpClientConfig.httpVersion = http:HTTP_2_0;
+            httpClientConfig.http2Settings = {http2PriorKnowledge: true};
+        }
+        http:Client httpClient = check new (serviceUrl, httpClientConfig);
+        return httpClient;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function postGraphqlRequest(http:Client httpClient, json payload, map<string|string[]>? headers)
+                                     returns json|error {
+    http:Response response = check httpClient->post("", payload, headers);
+    return response.getJsonPayload();
+}
+
+# Returns the errors in a GraphQL response as a `graphql:ServerError`, the same way the GraphQL client does.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns error if the GraphQL response has errors
+isolated function handleGraphqlErrors(json graphqlResponse) returns graphql:ClientError? {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes a GraphQL operation as an automatic persisted query. The operation is first sent with the SHA-256 hash of
+# the query string only, and sent again along with the query string if the GraphQL API has not persisted it yet. If
+# the GraphQL API does not support persisted queries, the operation is sent again with the query string only.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + sha256Hash - SHA-256 hash of the query string
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + headers - Headers to be sent with the request
+# + return - Returns the GraphQL response or error at failure of the operation
+isolated function executePersistedQuery(http:Client httpClient, string sha256Hash, string query,
+                                        map<anydata> variables, map<string|string[]>? headers = ())
+                                        returns json|graphql:ClientError {
+    map<json> extensions = {"persistedQuery": {"version": 1, "sha256Hash": sha256Hash}};
+    json graphqlResponse;
+    do {
+        json variablesJson = variables.toJson();
+        graphqlResponse = check postGraphqlRequest(httpClient,
+                                                   {"variables": variablesJson, "extensions": extensions}, headers);
+        PersistedQueryError? persistedQueryError = getPersistedQueryError(graphqlResponse);
+        if persistedQueryError == "PersistedQueryNotFound" {
+            graphqlResponse = check postGraphqlRequest(httpClient,
+                    {"query": query, "variables": variablesJson, "extensions": extensions}, headers);
+        } else if persistedQueryError == "PersistedQueryNotSupported" {
+            graphqlResponse = check postGraphqlRequest(httpClient, {"query": query, "variables": variablesJson},
+                                                       headers);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    check handleGraphqlErrors(graphqlResponse);
+    return graphqlResponse;
+}
+
+# Represents the errors a GraphQL API responds with to an automatic persisted query it can not execute.
+type PersistedQueryError "PersistedQueryNotFound"|"PersistedQueryNotSupported";
+
+# Returns the error a GraphQL API responded with to an automatic persisted query, if the GraphQL API has not persisted
+# the query yet or does not support persisted queries.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns the persisted query error, or `()` if the GraphQL response has none
+isolated function getPersistedQueryError(json graphqlResponse) returns PersistedQueryError? {
+    if graphqlResponse !is map<json> {
+        return ();
+    }
+    json errors = graphqlResponse["errors"];
+    if errors !is json[] {
+        return ();
+    }
+    foreach json graphqlError in errors {
+        if graphqlError !is map<json> {
+            continue;
+        }
+        json message = graphqlError["message"];
+        json errorExtensions = graphqlError["extensions"];
+        json code = ();
+        if errorExtensions is map<json> {
+            code = errorExtensions["code"];
+        }
+        if message == "PersistedQueryNotFound" || code == "PERSISTED_QUERY_NOT_FOUND" {
+            return "PersistedQueryNotFound";
+        }
+        if message == "PersistedQueryNotSupported" || code == "PERSISTED_QUERY_NOT_SUPPORTED" {
+            return "PersistedQueryNotSupported";
+        }
+    }
+    return ();
+}
+
@@ -0,0 +1,67 @@
+import ballerina/graphql;
+
+const string COUNTRY_QUERY = "query country($code:ID!){country(code:$code){capital name}}";
+const string COUNTRIES_QUERY = "query countries($filter:CountryFilterInput){countries(filter:$filter){name continent{countries{name}}}}";
+const string COMBINED_QUERY_QUERY = "query combinedQuery($code:ID!,$filter:CountryFilterInput){country(code:$code){name}countries(filter:$filter){name continent{countries{continent{name}}}}}";
+const string NEIGHBOURING_COUNTRIES_QUERY = "query neighbouringCountries{countries(filter:{code:{eq:\"LK\"}}){name continent{countries{name}}}}";
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+    }
+    remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
+        string query = COUNTRY_QUERY;
+        map<anydata> variables = {"code": code};
+        record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
+        string query = COUNTRIES_QUERY;
+        map<anydata> variables = {"filter": filter};
+        record {|CountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
+        string query = COMBINED_QUERY_QUERY;
+        map<anydata> variables = {"filter": filter, "code": code};
+        record {|CombinedQueryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
+        string query = NEIGHBOURING_COUNTRIES_QUERY;
+        map<anydata> variables = {};
+        record {|NeighbouringCountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+}
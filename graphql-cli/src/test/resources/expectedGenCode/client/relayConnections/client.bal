@@ -0,0 +1,57 @@
+import ballerina/graphql;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+    }
+    remote isolated function products(int first, string? after = ()) returns ProductsResponse|graphql:ClientError {
+        string query = string `query products($first:Int!,$after:String) {products(first:$first,after:$after) {edges {node {id name}} pageInfo {hasNextPage endCursor}}}`;
+        map<anydata> variables = {"after": after, "first": first};
+        record {|ProductsResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function productsStream(int first, string? after = ()) returns stream<ProductsNode, error?> {
+        string query = string `query products($first:Int!,$after:String) {products(first:$first,after:$after) {edges {node {id name}} pageInfo {hasNextPage endCursor}}}`;
+        map<anydata> variables = {"after": after, "first": first};
+        ConnectionNodeIterator nodeIterator = new (self.graphqlClient, query, variables, "products", "after");
+        stream<map<json>, error?> nodeStream = new (nodeIterator);
+        return stream from map<json> node in nodeStream select check node.cloneWithType(ProductsNode);
+    }
+    remote isolated function product(string id) returns ProductResponse|graphql:ClientError {
+        string query = string `query product($id:ID!) {product(id:$id) {name}}`;
+        map<anydata> variables = {"id": id};
+        record {|ProductResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+}
@@ -0,0 +1,25 @@
+public type ProductsResponse record {|
+    record {|
+        record {|
+            record {|
+                string id;
+                string name;
+            |} node;
+        |}[] edges;
+        record {|
+            boolean hasNextPage;
+            string? endCursor;
+        |} pageInfo;
+    |} products;
+|};
+
+public type ProductsNode record {|
+    string id;
+    string name;
+|};
+
+public type ProductResponse record {|
+    record {|
+        string name;
+    |}? product;
+|};
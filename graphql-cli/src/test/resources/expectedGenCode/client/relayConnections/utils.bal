@@ -0,0 +1,111 @@
+import ballerina/graphql;
+
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+
+# Returns the errors in a GraphQL response as a `graphql:ServerError`, the same way the GraphQL client does.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns error if the GraphQL response has errors
+isolated function handleGraphqlErrors(json graphqlResponse) returns graphql:ClientError? {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Iterates the nodes of a Relay connection. The next page of the connection is fetched only when the nodes of the
+# previous page are consumed, so that a single page of the connection is held in memory at a time.
+isolated class ConnectionNodeIterator {
+    private final graphql:Client graphqlClient;
+    private final string query;
+    private final readonly & map<anydata> variables;
+    private final string connectionKey;
+    private final string cursorVariable;
+    private final (readonly & map<string|string[]>)? headers;
+    private final map<json>[] nodes = [];
+    private string? cursor;
+    private boolean hasNextPage = true;
+
+    # Initializes the iterator with the query paginating through the connection.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + query - Query string of the operation
+    # + variables - Variables of the operation
+    # + connectionKey - Key of the connection in the data of the GraphQL response
+    # + cursorVariable - Name of the variable given to the `after` argument of the connection
+    # + headers - Headers to be sent with the requests
+    isolated function init(graphql:Client graphqlClient, string query, map<anydata> variables, string connectionKey,
+                           string cursorVariable, map<string|string[]>? headers = ()) {
+        self.graphqlClient = graphqlClient;
+        self.query = query;
+        self.variables = variables.cloneReadOnly();
+        self.connectionKey = connectionKey;
+        self.cursorVariable = cursorVariable;
+        self.headers = headers.cloneReadOnly();
+        anydata cursor = variables[cursorVariable];
+        self.cursor = cursor is string ? cursor : ();
+    }
+
+    # Returns the next node of the connection, fetching the next page of the connection if needed.
+    #
+    # + return - Returns the next node, `()` at the end of the connection or error at failure of the operation
+    public isolated function next() returns record {| map<json> value; |}|error? {
+        lock {
+            while self.nodes.length() == 0 && self.hasNextPage {
+                map<anydata> variables = {...self.variables};
+                variables[self.cursorVariable] = self.cursor;
+                json graphqlResponse = check self.graphqlClient->executeWithType(self.query, variables,
+                                                                                  headers = self.headers);
+                check handleGraphqlErrors(graphqlResponse);
+                map<json> data = check (check graphqlResponse.data).ensureType();
+                json connection = data[self.connectionKey];
+                if connection is () {
+                    self.hasNextPage = false;
+                    break;
+                }
+                json edges = check connection.edges;
+                if edges is json[] {
+                    foreach json edge in edges {
+                        json node = edge is map<json> ? edge["node"] : ();
+                        if node is map<json> {
+                            self.nodes.push(node);
+                        }
+                    }
+                }
+                string? endCursor = check (check connection.pageInfo.endCursor).ensureType();
+                boolean hasNextPage = check (check connection.pageInfo.hasNextPage).ensureType();
+                self.cursor = endCursor;
+                self.hasNextPage = hasNextPage && endCursor is string;
+            }
+            if self.nodes.length() == 0 {
+                return ();
+            }
+            return {value: self.nodes.shift().clone()};
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import ballerina/graphql;
+import ballerina/http;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Coalesces the identical GraphQL queries sent concurrently, so that the queries with the same query string and
+# variables share a single in-flight request and its response, whichever way the request is sent.
+isolated class QueryCoalescer {
+    private final map<InFlightQuery> inFlightQueries = {};
+
+    # Executes the GraphQL query, or waits for the identical query in flight and returns its response.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + query - Query string of the operation
+    # + variables - Variables of the operation
+    # + headers - Headers to be sent with the request
+    # + httpClient - HTTP client of the GraphQL API, for the queries sent with HTTP GET requests or as persisted queries
+    # + sha256Hash - SHA-256 hash of the query string, to send the query as an automatic persisted query
+    # + return - Returns the GraphQL response or error at failure of the operation
+    isolated function execute(graphql:Client graphqlClient, string query, readonly & map<anydata> variables,
+                              (readonly & map<string|string[]>)? headers = (), http:Client? httpClient = (),
+                              string? sha256Hash = ()) returns json|graphql:ClientError {
+        string key = query + variables.toString();
+        InFlightQuery inFlightQuery;
+        lock {
+            InFlightQuery? existingQuery = self.inFlightQueries[key];
+            if existingQuery is InFlightQuery {
+                inFlightQuery = existingQuery;
+            } else {
+                inFlightQuery = new;
+                self.inFlightQueries[key] = inFlightQuery;
+            }
+        }
+        json|graphql:ClientError graphqlResponse = inFlightQuery.getResponse(graphqlClient, query, variables, headers,
+                                                                             httpClient, sha256Hash);
+        lock {
+            if self.inFlightQueries[key] === inFlightQuery {
+                _ = self.inFlightQueries.remove(key);
+            }
+        }
+        return graphqlResponse;
+    }
+}
+
+# Represents a GraphQL query in flight. The first caller sends the request while holding the lock, and the callers
+# coming while the request is in flight wait on the lock and get the same response.
+isolated class InFlightQuery {
+    private boolean completed = false;
+    private (readonly & json)|graphql:ClientError graphqlResponse = ();
+
+    isolated function getResponse(graphql:Client graphqlClient, string query, readonly & map<anydata> variables,
+                                  (readonly & map<string|string[]>)? headers, http:Client? httpClient,
+                                  string? sha256Hash) returns json|graphql:ClientError {
+        lock {
+            if !self.completed {
+                json|graphql:ClientError graphqlResponse = executeQuery(graphqlClient, httpClient, query, variables,
+                                                                        headers, sha256Hash);
+                self.graphqlResponse = graphqlResponse is json ? graphqlResponse.cloneReadOnly() : graphqlResponse;
+                self.completed = true;
+            }
+            return self.graphqlResponse;
+        }
+    }
+}
+
+isolated function executeQuery(graphql:Client graphqlClient, http:Client? httpClient, string query,
+                               map<anydata> variables, map<string|string[]>? headers, string? sha256Hash)
+                               returns json|graphql:ClientError {
+    return graphqlClient->executeWithType(query, variables, headers = headers);
+}
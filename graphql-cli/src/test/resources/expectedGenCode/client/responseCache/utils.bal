@@ -0,0 +1,107 @@
+import ballerina/graphql;
+import ballerina/time;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Represents a cached GraphQL response.
+#
+# + key - Cache key of the response
+# + response - GraphQL response
+# + expiresAt - Monotonic time in seconds at which the response expires
+type ResponseCacheEntry readonly & record {|
+    string key;
+    json response;
+    decimal expiresAt;
+|};
+
+# A bounded least recently used cache of the GraphQL responses, which expire after the TTL of their operation.
+isolated class ResponseCache {
+    private final int capacity;
+    # Entries in the order of their last use, as a map keeps the insertion order
+    private final map<ResponseCacheEntry> entries = {};
+
+    isolated function init(int capacity) {
+        self.capacity = capacity;
+    }
+
+    # Returns the cached response of the given key, if it has not expired.
+    #
+    # + key - Cache key of the response
+    # + return - Returns the GraphQL response or `()` if the response is not cached
+    isolated function get(string key) returns json {
+        lock {
+            ResponseCacheEntry? entry = self.entries[key];
+            if entry is () {
+                return;
+            }
+            _ = self.entries.remove(key);
+            if entry.expiresAt <= time:monotonicNow() {
+                return;
+            }
+            self.entries[key] = entry;
+            return entry.response;
+        }
+    }
+
+    # Caches the response of the given key, evicting the least recently used entry if the cache is full.
+    #
+    # + key - Cache key of the response
+    # + response - GraphQL response
+    # + ttl - Time to live of the response in seconds
+    isolated function put(string key, json response, decimal ttl) {
+        ResponseCacheEntry entry = {key, response: response.cloneReadOnly(), expiresAt: time:monotonicNow() + ttl};
+        lock {
+            _ = self.entries.removeIfHasKey(key);
+            if self.entries.length() >= self.capacity {
+                string? eldestKey = ();
+                foreach ResponseCacheEntry eldestEntry in self.entries {
+                    eldestKey = eldestEntry.key;
+                    break;
+                }
+                if eldestKey is string {
+                    _ = self.entries.remove(eldestKey);
+                }
+            }
+            self.entries[key] = entry;
+        }
+    }
+}
+
+# Returns the key of the cached response of a GraphQL query, which is the operation name and the canonical form of
+# the variables.
+#
+# + operationName - Name of the operation
+# + variables - Variables of the operation
+# + return - Returns the cache key of the response
+isolated function getResponseCacheKey(string operationName, map<anydata> variables) returns string {
+    return operationName + getCanonicalJsonString(variables.toJson());
+}
+
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] members = from string key in value.keys().sort()
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...members) + "}";
+    }
+    if value is json[] {
+        string[] members = from json member in value select getCanonicalJsonString(member);
+        return "[" + string:'join(",", ...members) + "]";
+    }
+    return value.toJsonString();
+}
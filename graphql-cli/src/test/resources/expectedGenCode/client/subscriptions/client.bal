@@ -0,0 +1,53 @@
+import ballerina/graphql;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    final readonly & SubscriptionConfig subscriptionConfig;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+        self.subscriptionConfig = getSubscriptionConfig(serviceUrl, config.subscription);
+    }
+    remote isolated function productUpdated(string id) returns stream<ProductUpdatedResponse, error?>|graphql:ClientError {
+        string query = string `subscription productUpdated($id:ID!) {productUpdated(id:$id) {id name price}}`;
+        map<anydata> variables = {"id": id};
+        SubscriptionIterator responseIterator = check startSubscription(self.subscriptionConfig, query, variables);
+        stream<json, error?> responseStream = new (responseIterator);
+        return stream from json response in responseStream select <ProductUpdatedResponse> check performDataBinding(response, ProductUpdatedResponse);
+    }
+    remote isolated function product(string id) returns ProductResponse|graphql:ClientError {
+        string query = string `query product($id:ID!) {product(id:$id) {name}}`;
+        map<anydata> variables = {"id": id};
+        record {|ProductResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+}
@@ -0,0 +1,13 @@
+public type ProductUpdatedResponse record {|
+    record {|
+        string id;
+        string name;
+        float price;
+    |} productUpdated;
+|};
+
+public type ProductResponse record {|
+    record {|
+        string name;
+    |}? product;
+|};
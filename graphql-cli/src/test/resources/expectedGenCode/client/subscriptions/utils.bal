@@ -0,0 +1,185 @@
+import ballerina/graphql;
+import ballerina/websocket;
+
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+                                    returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = <map<json>>graphqlResponse;
+        DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+        return response;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+
+# Returns the errors in a GraphQL response as a `graphql:ServerError`, the same way the GraphQL client does.
+#
+# + graphqlResponse - GraphQL response
+# + return - Returns error if the GraphQL response has errors
+isolated function handleGraphqlErrors(json graphqlResponse) returns graphql:ClientError? {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Configurations of the WebSocket connections of the GraphQL subscriptions.
+public type SubscriptionConfig record {|
+    # URL of the WebSocket endpoint of the GraphQL API. Defaults to the service URL with the `ws` or `wss` scheme
+    string? url = ();
+    # The maximum time to wait (in seconds) for the next message of a subscription. `-1` waits forever
+    decimal readTimeout = -1;
+    # The maximum size (in bytes) of a message of a subscription
+    int maxFrameSize = 65536;
+|};
+
+# Returns the configurations of the WebSocket connections of the GraphQL subscriptions, with the URL of the WebSocket
+# endpoint derived from the service URL if not given.
+#
+# + serviceUrl - URL of the target service
+# + config - Configurations of the WebSocket connections
+# + return - Returns the configurations of the WebSocket connections
+isolated function getSubscriptionConfig(string serviceUrl, SubscriptionConfig config)
+                                       returns readonly & SubscriptionConfig {
+    string url = serviceUrl;
+    if serviceUrl.startsWith("https://") {
+        url = "wss://" + serviceUrl.substring(8);
+    } else if serviceUrl.startsWith("http://") {
+        url = "ws://" + serviceUrl.substring(7);
+    }
+    return {...config, url: config.url ?: url}.cloneReadOnly();
+}
+
+# Opens a WebSocket connection with the `graphql-transport-ws` protocol and subscribes to a GraphQL subscription.
+#
+# + config - Configurations of the WebSocket connection
+# + query - Query string of the operation
+# + variables - Variables of the operation
+# + headers - Headers to be sent with the handshake request
+# + return - Returns the iterator of the responses of the subscription or error at failure of the subscription
+isolated function startSubscription(readonly & SubscriptionConfig config, string query, map<anydata> variables,
+                                    map<string|string[]>? headers = ())
+                                    returns SubscriptionIterator|graphql:ClientError {
+    do {
+        map<string> customHeaders = {};
+        if headers is map<string|string[]> {
+            foreach [string, string|string[]] [name, value] in headers.entries() {
+                customHeaders[name] = value is string ? value : string:'join(",", ...value);
+            }
+        }
+        websocket:Client wsClient = check new (check config.url.ensureType(string), {
+            subProtocols: ["graphql-transport-ws"],
+            customHeaders: customHeaders,
+            readTimeout: config.readTimeout,
+            maxFrameSize: config.maxFrameSize
+        });
+        check wsClient->writeMessage({"type": "connection_init"});
+        while true {
+            json message = check wsClient->readMessage();
+            string messageType = check message.'type;
+            if messageType == "connection_ack" {
+                break;
+            }
+            if messageType == "ping" {
+                check wsClient->writeMessage({"type": "pong"});
+            } else if messageType != "pong" {
+                check wsClient->close();
+                return error graphql:RequestError(
+                    string `Unexpected message before the connection acknowledgement: ${messageType}`);
+            }
+        }
+        check wsClient->writeMessage({
+            "id": "1",
+            "type": "subscribe",
+            "payload": {"query": query, "variables": variables.toJson()}
+        });
+        return new SubscriptionIterator(wsClient);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Iterates the responses of a GraphQL subscription over a `graphql-transport-ws` WebSocket connection. The next
+# message is read from the connection only when the next response is requested, so that no response is buffered at
+# the client and a slow consumer pushes back on the GraphQL API through the flow control of the connection.
+isolated class SubscriptionIterator {
+    private final websocket:Client wsClient;
+    private boolean completed = false;
+
+    # Initializes the iterator with the WebSocket connection of the subscription.
+    #
+    # + wsClient - WebSocket client of the subscription
+    isolated function init(websocket:Client wsClient) {
+        self.wsClient = wsClient;
+    }
+
+    # Returns the next response of the subscription, reading the next message of the WebSocket connection.
+    #
+    # + return - Returns the next response, `()` at the completion of the subscription or error at failure of the
+    # subscription
+    public isolated function next() returns record {| json value; |}|error? {
+        lock {
+            while !self.completed {
+                do {
+                    json message = check self.wsClient->readMessage();
+                    string messageType = check message.'type;
+                    if messageType == "next" {
+                        json payload = check message.payload;
+                        check handleGraphqlErrors(payload);
+                        return {value: payload.cloneReadOnly()};
+                    } else if messageType == "ping" {
+                        check self.wsClient->writeMessage({"type": "pong"});
+                    } else if messageType == "error" {
+                        // The subscription is already ended by the server
+                        self.completed = true;
+                        graphql:ErrorDetail[] errors = check (check message.payload).cloneWithType();
+                        fail error graphql:ServerError("GraphQL Server Error", data = (), errors = errors.clone(),
+                                                       extensions = ());
+                    } else if messageType == "complete" {
+                        self.completed = true;
+                        check self.wsClient->close();
+                    }
+                } on fail var e {
+                    // A failed subscription is stopped and its connection closed, as it is not read any further
+                    if !self.completed {
+                        self.completed = true;
+                        error? completeResult = self.wsClient->writeMessage({"id": "1", "type": "complete"});
+                    }
+                    error? closeResult = self.wsClient->close();
+                    return e;
+                }
+            }
+            return ();
+        }
+    }
+
+    # Stops the subscription and closes the WebSocket connection.
+    #
+    # + return - Returns error at failure of closing the connection
+    public isolated function close() returns error? {
+        lock {
+            if self.completed {
+                return;
+            }
+            self.completed = true;
+            check self.wsClient->writeMessage({"id": "1", "type": "complete"});
+            check self.wsClient->close();
+        }
+    }
+}
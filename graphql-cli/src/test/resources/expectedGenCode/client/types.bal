@@ -12,7 +12,6 @@ public type CustomInput1 record {
 
 # Represents Operation1Response
 type Operation1Response record {|
-    map<json?> __extensions?;
     record {|
         string? field1;
         string field2;
@@ -21,7 +20,6 @@ type Operation1Response record {|
 
 # Represents Operation2Response
 type Operation2Response record {|
-    map<json?> __extensions?;
     record {|
         string? field1;
         string field2;
@@ -30,7 +28,6 @@ type Operation2Response record {|
 
 # Represents Operation3Response
 type Operation3Response record {|
-    map<json?> __extensions?;
     record {|
         string? field1;
         string field2;
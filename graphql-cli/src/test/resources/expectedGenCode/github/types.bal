@@ -1788,7 +1788,6 @@ public type VerifyVerifiableDomainInput record {
 
 # Represents GetViewerResponse
 type GetViewerResponse record {|
-    map<json?> __extensions?;
     record {|
         string login;
         record {|
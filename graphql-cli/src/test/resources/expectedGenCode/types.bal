@@ -21,7 +21,6 @@ public type StringQueryOperatorInput record {
 };
 
 public type CountryResponse record {|
-    map<json?> __extensions?;
     record {|
         string? capital;
         string name;
@@ -29,7 +28,6 @@ public type CountryResponse record {|
 |};
 
 public type CountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
@@ -41,7 +39,6 @@ public type CountriesResponse record {|
 |};
 
 public type CombinedQueryResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
     |}? country;
@@ -58,7 +55,6 @@ public type CombinedQueryResponse record {|
 |};
 
 public type NeighbouringCountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
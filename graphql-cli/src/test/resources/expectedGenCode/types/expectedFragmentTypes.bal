@@ -4,7 +4,6 @@ public type CountryFieldsFragment record {|
 |};
 
 public type FragmentExample1Response record {|
-    map<json?> __extensions?;
     record {|
         *CountryFieldsFragment;
     |}? a;
@@ -33,7 +32,6 @@ public type CountryFields2Fragment record {|
 |};
 
 public type FragmentExample2Response record {|
-    map<json?> __extensions?;
     record {|
         *CountryFields2Fragment;
     |}? a;
@@ -59,7 +57,6 @@ public type CountryFields3Fragment record {|
 |};
 
 public type FragmentExample3Response record {|
-    map<json?> __extensions?;
     record {|
         *CountryFields3Fragment;
     |}? a;
@@ -74,7 +71,6 @@ public type FragmentExample3Response record {|
 |};
 
 public type InlineFragmentExample1Response record {|
-    map<json?> __extensions?;
     record {|
         record {|
             string name;
@@ -98,7 +94,6 @@ public type InlineFragmentExample1Response record {|
 |};
 
 public type InlineFragmentExample2Response record {|
-    map<json?> __extensions?;
     record {|
         record {|
             string name;
@@ -1,12 +1,10 @@
 public type CountryResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
     |}? country;
 |};
 
 public type CountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
@@ -18,7 +16,6 @@ public type CountriesResponse record {|
 |};
 
 public type CombinedQueryResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
     |}? country;
@@ -35,7 +32,6 @@ public type CombinedQueryResponse record {|
 |};
 
 public type NeighbouringCountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
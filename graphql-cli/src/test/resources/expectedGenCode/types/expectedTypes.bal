@@ -22,14 +22,12 @@ public type StringQueryOperatorInput record {
 };
 
 public type CountryResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
     |}? country;
 |};
 
 public type CountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
@@ -41,7 +39,6 @@ public type CountriesResponse record {|
 |};
 
 public type CombinedQueryResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
     |}? country;
@@ -58,7 +55,6 @@ public type CombinedQueryResponse record {|
 |};
 
 public type NeighbouringCountriesResponse record {|
-    map<json?> __extensions?;
     record {|
         string name;
         record {|
@@ -70,7 +66,6 @@ public type NeighbouringCountriesResponse record {|
 |};
 
 public type AliasExample1Response record {|
-    map<json?> __extensions?;
     record {|
         string code;
         string name;
@@ -0,0 +1,7 @@
+import ballerina/io;
+
+public function main(string serviceUrl) returns error? {
+    GraphqlClient graphqlClient = check new (serviceUrl);
+    CountryResponse response = check graphqlClient->country("LK");
+    io:println(response.country?.name);
+}
@@ -0,0 +1,15 @@
+import ballerina/io;
+
+public function main(string serviceUrl) returns error? {
+    GraphqlClient graphqlClient = check new (serviceUrl);
+    CountryResponse countryResponse = check graphqlClient->country("LK");
+    if countryResponse.country?.name != "Sri Lanka" {
+        return error(string `Unexpected country response: ${countryResponse.toString()}`);
+    }
+    CountriesResponse countriesResponse = check graphqlClient->countries();
+    if countriesResponse.countries.length() != 1 ||
+            countriesResponse.countries[0].continent.countries.length() != 2 {
+        return error(string `Unexpected countries response: ${countriesResponse.toString()}`);
+    }
+    io:println(countryResponse.country?.name);
+}
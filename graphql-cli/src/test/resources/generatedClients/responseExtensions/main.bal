@@ -0,0 +1,11 @@
+import ballerina/io;
+
+public function main(string serviceUrl) returns error? {
+    GraphqlClient graphqlClient = check new (serviceUrl);
+    CountryResponse response = check graphqlClient->country("LK");
+    map<json?>? extensions = response?.__extensions;
+    if response.country?.name != "Sri Lanka" || extensions is () || extensions["cost"] != 1 {
+        return error(string `Unexpected country response: ${response.toString()}`);
+    }
+    io:println(response.country?.name, " ", extensions);
+}
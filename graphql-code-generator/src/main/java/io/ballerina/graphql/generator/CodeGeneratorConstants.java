@@ -41,6 +41,7 @@ public class CodeGeneratorConstants {
     public static final String TYPES_FILE_NAME = "types.bal";
     public static final String UTILS_FILE_NAME = "utils.bal";
     public static final String CONFIG_TYPES_FILE_NAME = "config_types.bal";
+    public static final String PERSISTED_QUERIES_FILE_NAME = "persisted-queries.json";
     public static final String SCHEMA_PATTERN = "schema";
     public static final String DOCUMENTS_PATTERN = "documents";
     public static final String GET = "get";
@@ -63,6 +64,9 @@ public class CodeGeneratorConstants {
     public static final String BALLERINA = "ballerina";
     public static final String BALLERINAX = "ballerinax";
     public static final String HTTP = "http";
+    public static final String TIME = "time";
+    public static final String URL = "url";
+    public static final String WEBSOCKET = "websocket";
     public static final String GRAPHQL = "graphql";
     public static final String CLIENT_CLASS_PREFIX = "Graphql";
     public static final String IDL_PLUGIN_CLIENT = "'client";
@@ -78,7 +82,28 @@ public class CodeGeneratorConstants {
     public static final String SELF = "self";
     public static final String CLIENT_EP = "clientEp";
     public static final String QUERY_VAR_NAME = "query";
+    public static final String QUERY_CONSTANT_SUFFIX = "_QUERY";
+    public static final String PERSISTED_QUERIES = "persistedQueries";
+    public static final String HTTP2_PRIOR_KNOWLEDGE = "http2PriorKnowledge";
+    public static final String HTTP_CLIENT = "httpClient";
+    public static final String EXECUTE_BATCH = "executeBatch";
+    public static final String QUERY_COALESCER = "queryCoalescer";
+    public static final String QUERY_COALESCER_TYPE_NAME = "QueryCoalescer";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String RESPONSE_CACHE_TYPE_NAME = "ResponseCache";
+    public static final String BATCH_OPERATION_SUFFIX = "BatchOperation";
+    public static final String BATCH_OPERATION_TYPE_NAME = "BatchOperation";
+    public static final String BATCH_OPERATIONS_PARAM_NAME = "operations";
+    public static final String EXECUTE_BATCH_RETURN_TYPE = "BatchOperationResponse[]|graphql:ClientError";
+    public static final String CONNECTION_STREAM_SUFFIX = "Stream";
+    public static final String CONNECTION_NODE_SUFFIX = "Node";
+    public static final String CONNECTION_NODE_ITERATOR_TYPE_NAME = "ConnectionNodeIterator";
+    public static final String SUBSCRIPTION_ITERATOR_TYPE_NAME = "SubscriptionIterator";
+    public static final String SUBSCRIPTION_CONFIG_TYPE_NAME = "SubscriptionConfig";
+    public static final String SUBSCRIPTION_CONFIG = "subscriptionConfig";
+    public static final String SUBSCRIPTION_CONFIG_FIELD_NAME = "subscription";
     public static final String GRAPHQL_RESPONSE_VAR_NAME = "graphqlResponse";
+    public static final String CACHE_KEY_VAR_NAME = "cacheKey";
     public static final String CLONE_READ_ONLY = "cloneReadOnly";
 
     public static final String FRAGMENT = "Fragment";
@@ -183,6 +208,8 @@ public class CodeGeneratorConstants {
     public static final String APPLICATION_JSON = "application/json";
     public static final String DATA_FIELD = "data";
     public static final String ERROR_FIELD = "errors";
+    public static final String ETAG = "ETag";
+    public static final String IF_NONE_MATCH = "If-None-Match";
 
     // GraphQL Introspection query
     public static final String INTROSPECTION_QUERY =
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator;
+
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
+import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
+import io.ballerina.graphql.generator.service.GraphqlServiceProject;
+import io.ballerina.graphql.generator.service.exception.ServiceGenerationException;
+import io.ballerina.graphql.generator.service.generator.ServiceCodeGenerator;
+import io.ballerina.graphql.generator.utils.GenerationType;
+import io.ballerina.graphql.generator.utils.GeneratorContext;
+import io.ballerina.graphql.generator.utils.SrcFilePojo;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Entry point for embedding the GraphQL code generation in a long-running process.
+ * An engine only holds its immutable generation options. Every call works on its own code generator, so a single
+ * engine can be shared across threads and reused for any number of projects.
+ */
+public final class GeneratorEngine {
+    private final boolean useRecordsForObjects;
+    private final boolean singlePassFormatting;
+    private final ExecutorService executorService;
+
+    /**
+     * Constructs an engine with the default generation options.
+     */
+    public GeneratorEngine() {
+        this(false, false, null);
+    }
+
+    /**
+     * Constructs an engine with the given generation options.
+     *
+     * @param useRecordsForObjects  whether to use record types for GraphQL object types in the service generation
+     * @param singlePassFormatting  whether to format the generated service sources in a single pass
+     * @param executorService       the caller-owned executor to generate the client source files with, or
+     *                              {@code null} to generate them one after another
+     */
+    public GeneratorEngine(boolean useRecordsForObjects, boolean singlePassFormatting,
+                           ExecutorService executorService) {
+        this.useRecordsForObjects = useRecordsForObjects;
+        this.singlePassFormatting = singlePassFormatting;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Generates the code for a given validated GraphQL project and writes it to the output path of the project.
+     *
+     * @param project                           the instance of the GraphQL project
+     * @throws ClientCodeGenerationException    when a client code generation error occurs
+     * @throws ServiceGenerationException       when a service code generation error occurs
+     */
+    public void generate(GraphqlProject project) throws ClientCodeGenerationException, ServiceGenerationException {
+        if (project.getGenerationType() == GenerationType.CLIENT) {
+            createClientCodeGenerator().generate(project);
+        } else {
+            createServiceCodeGenerator().generate(project);
+        }
+    }
+
+    /**
+     * Generates the Ballerina client source files for a given validated GraphQL client project.
+     *
+     * @param project                           the instance of the GraphQL client project
+     * @param generatorContext                  the context which triggered the source generation
+     * @return                                  the list of generated Ballerina source file pojo
+     * @throws ClientCodeGenerationException    when a client code generation error occurs
+     */
+    public List<SrcFilePojo> generateClientSources(GraphqlClientProject project, GeneratorContext generatorContext)
+            throws ClientCodeGenerationException {
+        return createClientCodeGenerator().generateBalSources(project, generatorContext);
+    }
+
+    /**
+     * Generates the Ballerina service source files for a given validated GraphQL service project.
+     *
+     * @param project                           the instance of the GraphQL service project
+     * @return                                  the list of generated Ballerina source file pojo
+     * @throws ServiceGenerationException       when a service code generation error occurs
+     */
+    public List<SrcFilePojo> generateServiceSources(GraphqlServiceProject project)
+            throws ServiceGenerationException {
+        return createServiceCodeGenerator().generateBalSources(project);
+    }
+
+    private ClientCodeGenerator createClientCodeGenerator() {
+        ClientCodeGenerator clientCodeGenerator = new ClientCodeGenerator();
+        clientCodeGenerator.setExecutorService(executorService);
+        return clientCodeGenerator;
+    }
+
+    private ServiceCodeGenerator createServiceCodeGenerator() {
+        ServiceCodeGenerator serviceCodeGenerator = new ServiceCodeGenerator();
+        if (useRecordsForObjects) {
+            serviceCodeGenerator.enableToUseRecords();
+        }
+        if (singlePassFormatting) {
+            serviceCodeGenerator.enableSinglePassFormatting();
+        }
+        return serviceCodeGenerator;
+    }
+}
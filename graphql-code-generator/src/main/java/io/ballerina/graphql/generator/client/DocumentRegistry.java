@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the parsed query documents of a GraphQL project.
+ * Each document is read and parsed on the first request and the same AST is shared by the validation and the
+ * generation stages.
+ */
+public class DocumentRegistry {
+    private final List<String> documents;
+    private final Map<String, Document> parsedDocuments = new HashMap<>();
+    private final Map<String, QueryReader> queryReaders = new HashMap<>();
+
+    public DocumentRegistry(List<String> documents) {
+        this.documents = documents == null ? Collections.emptyList() : documents;
+    }
+
+    public List<String> getDocuments() {
+        return documents;
+    }
+
+    /**
+     * Returns the parsed `Document` instance for a given GraphQL queries file.
+     *
+     * @param document              the document value of the Graphql config file
+     * @return                      the parsed `Document` instance
+     * @throws IOException          If an I/O error occurs
+     */
+    public synchronized Document getDocument(String document) throws IOException {
+        Document parsedDocument = parsedDocuments.get(document);
+        if (parsedDocument == null) {
+            parsedDocument = Utils.getGraphQLQueryDocument(document);
+            parsedDocuments.put(document, parsedDocument);
+        }
+        return parsedDocument;
+    }
+
+    /**
+     * Returns the `QueryReader` instance for a given GraphQL queries file.
+     *
+     * @param document              the document value of the Graphql config file
+     * @return                      the `QueryReader` instance of the parsed document
+     * @throws IOException          If an I/O error occurs
+     */
+    public synchronized QueryReader getQueryReader(String document) throws IOException {
+        QueryReader queryReader = queryReaders.get(document);
+        if (queryReader == null) {
+            queryReader = new QueryReader(getDocument(document));
+            queryReaders.put(document, queryReader);
+        }
+        return queryReader;
+    }
+
+    /**
+     * Checks whether any operation of the query documents paginates through a Relay connection.
+     *
+     * @return                      {@code true} if an operation paginates through a Relay connection
+     * @throws IOException          If an I/O error occurs
+     */
+    public boolean hasRelayConnections() throws IOException {
+        for (String document : documents) {
+            for (ExtendedOperationDefinition definition : getQueryReader(document).getExtendedOperationDefinitions()) {
+                if (definition.getRelayConnection() != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any operation of the query documents is a subscription.
+     *
+     * @return                      {@code true} if an operation is a subscription
+     * @throws IOException          If an I/O error occurs
+     */
+    public boolean hasSubscriptions() throws IOException {
+        for (String document : documents) {
+            for (ExtendedOperationDefinition definition : getQueryReader(document).getExtendedOperationDefinitions()) {
+                if (OperationDefinition.Operation.SUBSCRIPTION.name().equals(definition.getOperationType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -18,7 +18,10 @@
 
 package io.ballerina.graphql.generator.client;
 
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.TypeDefinitionRegistry;
 import io.ballerina.graphql.generator.GraphqlProject;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import io.ballerina.graphql.generator.utils.GenerationType;
 
@@ -31,18 +34,22 @@ public class GraphqlClientProject extends GraphqlProject {
     private List<String> documents;
     private static GenerationType generationType = GenerationType.CLIENT;
     private Extension extensions;
+    private SchemaIndex schemaIndex; // Populated while validating
+    private final DocumentRegistry documentRegistry;
 
     public GraphqlClientProject(String name, String schema, List<String> documents, Extension extensions,
                                 String outputPath) {
         super(name, schema, outputPath);
         this.documents = documents;
         this.extensions = extensions;
+        this.documentRegistry = new DocumentRegistry(documents);
     }
 
     public GraphqlClientProject(String name, String schema, List<String> documents, Extension extensions) {
         super(name, schema);
         this.documents = documents;
         this.extensions = extensions;
+        this.documentRegistry = new DocumentRegistry(documents);
     }
 
     public List<String> getDocuments() {
@@ -57,4 +64,28 @@ public class GraphqlClientProject extends GraphqlProject {
         return generationType;
     }
 
+    public DocumentRegistry getDocumentRegistry() {
+        return documentRegistry;
+    }
+
+    public SchemaIndex getSchemaIndex() {
+        return schemaIndex;
+    }
+
+    /**
+     * Sets the parsed GraphQL schema without building an executable schema. The client generation then works on the
+     * index built straight from the parsed schema.
+     *
+     * @param typeDefinitionRegistry    the registry of the parsed GraphQL schema (SDL)
+     */
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+        this.schemaIndex = SchemaIndex.getInstance(typeDefinitionRegistry);
+    }
+
+    @Override
+    public void setGraphQLSchema(GraphQLSchema graphQLSchema) {
+        super.setGraphQLSchema(graphQLSchema);
+        this.schemaIndex = graphQLSchema == null ? null : SchemaIndex.getInstance(graphQLSchema);
+    }
+
 }
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * On-disk cache of the introspection results of remote GraphQL APIs.
+ * An entry is keyed by the SHA-256 hash of the endpoint URL and the request headers, so that the same endpoint
+ * introspected with different credentials is cached separately and no header value is written to the disk.
+ */
+public class IntrospectionCache {
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final String ENDPOINT_FIELD = "endpoint";
+    private static final String ETAG_FIELD = "etag";
+    private static final String FETCHED_AT_FIELD = "fetchedAt";
+    private static final String INTROSPECTION_RESULT_FIELD = "introspectionResult";
+
+    private final Path cacheDirectory;
+    private final Duration ttl;
+    private final boolean offline;
+    private final boolean refresh;
+
+    /**
+     * Constructs an introspection cache.
+     *
+     * @param cacheDirectory    the directory to store the cached introspection results
+     * @param ttl               the duration a cached introspection result is used without contacting the endpoint
+     * @param offline           whether to only use the cached introspection results
+     * @param refresh           whether to ignore the cached introspection results and introspect again
+     */
+    public IntrospectionCache(Path cacheDirectory, Duration ttl, boolean offline, boolean refresh) {
+        this.cacheDirectory = cacheDirectory;
+        this.ttl = ttl;
+        this.offline = offline;
+        this.refresh = refresh;
+    }
+
+    /**
+     * Gets the default cache directory, which is {@code ~/.ballerina/graphql-cache}.
+     *
+     * @return                  the default cache directory
+     */
+    public static Path getDefaultCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "graphql-cache");
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Gets the cached introspection result of a given endpoint. A missing or unreadable entry is treated as a cache
+     * miss, as is every entry when the cache is refreshed.
+     *
+     * @param endpoint          the GraphQL API endpoint
+     * @param headers           the headers sent with the introspection request, or {@code null}
+     * @return                  the cached introspection result, or {@code null} if there is no usable entry
+     */
+    public CachedIntrospectionResult get(String endpoint, Map<String, String> headers) {
+        if (refresh) {
+            return null;
+        }
+        Path cacheFile = getCacheFile(endpoint, headers);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            Object cacheEntry = StreamingJson.read(reader);
+            if (!(cacheEntry instanceof Map)) {
+                return null;
+            }
+            Object introspectionResult = ((Map<?, ?>) cacheEntry).get(INTROSPECTION_RESULT_FIELD);
+            Object etag = ((Map<?, ?>) cacheEntry).get(ETAG_FIELD);
+            Object fetchedAt = ((Map<?, ?>) cacheEntry).get(FETCHED_AT_FIELD);
+            if (!(introspectionResult instanceof Map) || !(fetchedAt instanceof Number)) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> introspectionResultMap = (Map<String, Object>) introspectionResult;
+            return new CachedIntrospectionResult(introspectionResultMap, etag instanceof String ? (String) etag : null,
+                    ((Number) fetchedAt).longValue());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the introspection result of a given endpoint. Failing to write the cache does not fail the
+     * introspection, as the cache only saves the next round trip.
+     *
+     * @param endpoint              the GraphQL API endpoint
+     * @param headers               the headers sent with the introspection request, or {@code null}
+     * @param introspectionResult   the data field of the introspection response
+     * @param etag                  the entity tag of the introspection response, or {@code null}
+     */
+    public void put(String endpoint, Map<String, String> headers, Map<String, Object> introspectionResult,
+                    String etag) {
+        Map<String, Object> cacheEntry = new LinkedHashMap<>();
+        cacheEntry.put(ENDPOINT_FIELD, endpoint);
+        cacheEntry.put(FETCHED_AT_FIELD, System.currentTimeMillis());
+        cacheEntry.put(INTROSPECTION_RESULT_FIELD, introspectionResult);
+        if (etag != null) {
+            cacheEntry.put(ETAG_FIELD, etag);
+        }
+        Path cacheFile = getCacheFile(endpoint, headers);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            // Written to a temporary file first so that concurrent generations never read a partial entry
+            tempFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), null);
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                StreamingJson.write(cacheEntry, writer);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Ignored, the introspection result is still returned to the caller
+        } finally {
+            // A no-op once the entry is moved in place, otherwise drops what is left of the failed write
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // Ignored, a leftover temporary file is never read as a cache entry
+        }
+    }
+
+    /**
+     * Checks whether a cached introspection result can be used without contacting the endpoint.
+     *
+     * @param cachedIntrospectionResult     the cached introspection result
+     * @return                              whether the cached introspection result is within the TTL
+     */
+    public boolean isFresh(CachedIntrospectionResult cachedIntrospectionResult) {
+        long age = System.currentTimeMillis() - cachedIntrospectionResult.getFetchedAt();
+        return age >= 0 && age < ttl.toMillis();
+    }
+
+    private Path getCacheFile(String endpoint, Map<String, String> headers) {
+        StringBuilder cacheKey = new StringBuilder(endpoint).append('\n');
+        if (headers != null) {
+            // Sorted so that the key does not depend on the order of the headers in the config file
+            for (Map.Entry<String, String> header : new TreeMap<>(headers).entrySet()) {
+                cacheKey.append(header.getKey()).append(':').append(header.getValue()).append('\n');
+            }
+        }
+        return cacheDirectory.resolve(sha256(cacheKey.toString()) + CACHE_FILE_EXTENSION);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder();
+            for (byte hashByte : hash) {
+                hexString.append(String.format("%02x", hashByte));
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Represents a cached introspection result of a GraphQL API.
+     */
+    public static class CachedIntrospectionResult {
+        private final Map<String, Object> introspectionResult;
+        private final String etag;
+        private final long fetchedAt;
+
+        public CachedIntrospectionResult(Map<String, Object> introspectionResult, String etag, long fetchedAt) {
+            this.introspectionResult = introspectionResult;
+            this.etag = etag;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public Map<String, Object> getIntrospectionResult() {
+            return introspectionResult;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
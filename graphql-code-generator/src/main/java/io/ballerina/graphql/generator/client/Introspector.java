@@ -24,7 +24,11 @@ import io.ballerina.graphql.generator.client.pojo.Endpoints;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.json.JSONObject;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -36,6 +40,8 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.APPLICATION_
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONTENT_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DATA_FIELD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ERROR_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ETAG;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.IF_NONE_MATCH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INTROSPECTION_QUERY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
 
@@ -43,12 +49,9 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NA
  * This class is used to introspect a GraphQL API.
  */
 public class Introspector {
-    private static Introspector introspector = null;
+    private static final Introspector introspector = new Introspector();
 
     public static Introspector getInstance() {
-        if (introspector == null) {
-            introspector = new Introspector();
-        }
         return introspector;
     }
 
@@ -62,25 +65,74 @@ public class Introspector {
      */
     public Map<String, Object> getIntrospectionResult(String schema, Extension extensions)
             throws IntospectionException {
+        return getIntrospectionResult(schema, extensions, null);
+    }
+
+    /**
+     * Returns the introspection results map for a given GraphQL schema URL, reusing the cached introspection result
+     * while it is within the TTL of the cache. An expired result is revalidated with the entity tag of the cached
+     * response when the GraphQL API provided one. If the revalidation fails with any status other than 304, the
+     * result is introspected again without the entity tag.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, or {@code null} to always introspect
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    public Map<String, Object> getIntrospectionResult(String schema, Extension extensions,
+                                                      IntrospectionCache introspectionCache)
+            throws IntospectionException {
+        Map<String, String> headers = getHeaders(extensions);
+        IntrospectionCache.CachedIntrospectionResult cachedResult = null;
+        if (introspectionCache != null) {
+            cachedResult = introspectionCache.get(schema, headers);
+            if (introspectionCache.isOffline()) {
+                if (cachedResult == null) {
+                    throw new IntospectionException("Failed to retrieve SDL. There is no cached introspection " +
+                            "result for \"" + schema + "\" to use in the offline mode.");
+                }
+                return cachedResult.getIntrospectionResult();
+            }
+            if (cachedResult != null && introspectionCache.isFresh(cachedResult)) {
+                return cachedResult.getIntrospectionResult();
+            }
+        }
         try {
             HttpClient httpClient = HttpClient.newHttpClient();
-            HttpRequest httpRequest;
-            if (extensions != null) {
-                httpRequest = createHttpRequest(schema, extensions);
-            } else {
-                httpRequest = createHttpRequest(schema);
+            String etag = cachedResult != null ? cachedResult.getEtag() : null;
+            boolean revalidationFailed = false;
+            HttpRequest httpRequest = createHttpRequest(schema, headers, etag);
+            HttpResponse<InputStream> response =
+                    httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+            if (etag != null && response.statusCode() != 304 && response.statusCode() != 200) {
+                // A server honouring the precondition of a POST request answers 412 instead of 304 (RFC 9110),
+                // so a failed revalidation falls back to a plain introspection without the entity tag
+                response.body().close();
+                etag = null;
+                httpRequest = createHttpRequest(schema, headers, null);
+                response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+                revalidationFailed = true;
             }
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() == 200) {
-                JSONObject introspectionResult = new JSONObject(response.body());
-                if (introspectionResult.has(ERROR_FIELD) || !introspectionResult.has(DATA_FIELD)) {
-                    throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                            "with relevant headers or a local SDL file path.");
+            try (Reader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                if (response.statusCode() == 304 && etag != null) {
+                    // Not modified, the cached result is valid for another TTL
+                    introspectionCache.put(schema, headers, cachedResult.getIntrospectionResult(), etag);
+                    return cachedResult.getIntrospectionResult();
+                } else if (response.statusCode() == 200) {
+                    // The response is parsed straight from the body stream, without buffering it as a string
+                    Map<String, Object> data = getData(StreamingJson.read(reader));
+                    if (introspectionCache != null) {
+                        // The entity tag is dropped when the GraphQL API failed to revalidate with it, so that
+                        // the later revalidations do not pay for a failed request every time
+                        introspectionCache.put(schema, headers, data,
+                                revalidationFailed ? null : response.headers().firstValue(ETAG).orElse(null));
+                    }
+                    return data;
+                } else {
+                    throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL " +
+                            "endpoint with relevant headers or a local SDL file path.");
                 }
-                return ((JSONObject) introspectionResult.get("data")).toMap();
-            } else {
-                throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                        "with relevant headers or a local SDL file path.");
             }
         } catch (InterruptedException | IOException e) {
             throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL " +
@@ -90,52 +142,63 @@ public class Introspector {
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload & headers attached to it.
+     * Gets the data field of a given introspection response.
      *
-     * @param endpoint         the Graphql API endpoint
-     * @return                 the HTTP request object
+     * @param introspectionResponse     the parsed introspection response
+     * @return                          the data field of the introspection response
+     * @throws IntospectionException    If the introspection response has errors or no data
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getData(Object introspectionResponse) throws IntospectionException {
+        if (!(introspectionResponse instanceof Map) || ((Map<?, ?>) introspectionResponse).containsKey(ERROR_FIELD)
+                || !(((Map<?, ?>) introspectionResponse).get(DATA_FIELD) instanceof Map)) {
+            throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
+                    "with relevant headers or a local SDL file path.");
+        }
+        return (Map<String, Object>) ((Map<?, ?>) introspectionResponse).get(DATA_FIELD);
+    }
+
+    /**
+     * Gets the headers of the default endpoint configured in the extensions.
+     *
+     * @param extensions       the extensions value of the Graphql config file
+     * @return                 the headers map, or {@code null} if there are no headers configured
      */
-    private HttpRequest createHttpRequest(String endpoint, Extension extensions) {
-        Map<String, String> headers = null;
+    private Map<String, String> getHeaders(Extension extensions) {
+        if (extensions == null) {
+            return null;
+        }
         Endpoints endpoints = extensions.getEndpoints();
         if (endpoints != null) {
             Default defaultName = endpoints.getDefaultName();
             if (defaultName != null) {
-                headers = defaultName.getHeaders();
+                return defaultName.getHeaders();
             }
         }
-        String graphqlPayload = getRequestPayload();
-        HttpRequest request;
-        if (headers != null) {
-            request = addHeaders(HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8)), headers)
-                    .build();
-        } else {
-            request = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                    .build();
-        }
-        return request;
+        return null;
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload attached to it.
+     * Creates the HTTP request object with the GraphQL payload & headers attached to it.
      *
      * @param endpoint         the Graphql API endpoint
+     * @param headers          the headers map, or {@code null}
+     * @param etag             the entity tag of the cached introspection result to revalidate, or {@code null}
      * @return                 the HTTP request object
      */
-    private HttpRequest createHttpRequest(String endpoint) {
+    private HttpRequest createHttpRequest(String endpoint, Map<String, String> headers, String etag) {
         String graphqlPayload = getRequestPayload();
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(endpoint))
                 .headers(CONTENT_TYPE, APPLICATION_JSON)
-                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                .build();
-        return request;
+                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8));
+        if (headers != null) {
+            addHeaders(builder, headers);
+        }
+        if (etag != null) {
+            builder.header(IF_NONE_MATCH, etag);
+        }
+        return builder.build();
     }
 
     /**
@@ -0,0 +1,359 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes JSON values directly from and to character streams.
+ * A JSON document is read in a single pass into the plain {@code Map}, {@code List}, {@code String}, {@code Number}
+ * and {@code Boolean} values consumed by the introspection, without buffering the document as a string first.
+ */
+public final class StreamingJson {
+    private final Reader reader;
+    private int current;
+    private long offset = -1;
+
+    private StreamingJson(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads a JSON document from a given reader. The reader is expected to be buffered.
+     *
+     * @param reader            the reader of the JSON document
+     * @return                  the value of the JSON document, where a JSON null is {@code null}
+     * @throws IOException      If an I/O error occurs or the document is not valid JSON
+     */
+    public static Object read(Reader reader) throws IOException {
+        StreamingJson streamingJson = new StreamingJson(reader);
+        streamingJson.next();
+        Object value = streamingJson.readValue();
+        streamingJson.skipWhitespace();
+        if (streamingJson.current != -1) {
+            throw streamingJson.error("Unexpected content after the JSON document");
+        }
+        return value;
+    }
+
+    /**
+     * Writes a value read by {@link #read(Reader)} as a JSON document to a given writer.
+     *
+     * @param value             the value to write
+     * @param writer            the writer of the JSON document
+     * @throws IOException      If an I/O error occurs
+     */
+    public static void write(Object value, Writer writer) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof Map) {
+            writer.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeString(entry.getKey().toString(), writer);
+                writer.write(':');
+                write(entry.getValue(), writer);
+            }
+            writer.write('}');
+        } else if (value instanceof List) {
+            writer.write('[');
+            boolean first = true;
+            for (Object element : (List<?>) value) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                write(element, writer);
+            }
+            writer.write(']');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            writer.write(value.toString());
+        } else {
+            writeString(value.toString(), writer);
+        }
+    }
+
+    private static void writeString(String value, Writer writer) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) character));
+                    } else {
+                        writer.write(character);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    private Object readValue() throws IOException {
+        skipWhitespace();
+        switch (current) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                readLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                if (current == '-' || (current >= '0' && current <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character");
+        }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+        Map<String, Object> object = new LinkedHashMap<>();
+        next();
+        skipWhitespace();
+        if (current == '}') {
+            next();
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (current != '"') {
+                throw error("Expected an object key");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (current == ',') {
+                next();
+            } else if (current == '}') {
+                next();
+                return object;
+            } else {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() throws IOException {
+        List<Object> array = new ArrayList<>();
+        next();
+        skipWhitespace();
+        if (current == ']') {
+            next();
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (current == ',') {
+                next();
+            } else if (current == ']') {
+                next();
+                return array;
+            } else {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        StringBuilder value = new StringBuilder();
+        next();
+        while (current != '"') {
+            if (current == -1) {
+                throw error("Unterminated string");
+            }
+            if (current == '\\') {
+                next();
+                switch (current) {
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        char[] hexDigits = new char[4];
+                        for (int i = 0; i < hexDigits.length; i++) {
+                            next();
+                            hexDigits[i] = (char) current;
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(new String(hexDigits), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        break;
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append((char) current);
+                        break;
+                    default:
+                        throw error("Invalid escape character");
+                }
+            } else {
+                value.append((char) current);
+            }
+            next();
+        }
+        next();
+        return value.toString();
+    }
+
+    private Number readNumber() throws IOException {
+        StringBuilder value = new StringBuilder();
+        boolean isDecimal = false;
+        if (current == '-') {
+            value.append((char) current);
+            next();
+        }
+        if (current == '0') {
+            value.append((char) current);
+            next();
+        } else {
+            readDigits(value);
+        }
+        if (current == '.') {
+            isDecimal = true;
+            value.append((char) current);
+            next();
+            readDigits(value);
+        }
+        if (current == 'e' || current == 'E') {
+            isDecimal = true;
+            value.append((char) current);
+            next();
+            if (current == '+' || current == '-') {
+                value.append((char) current);
+                next();
+            }
+            readDigits(value);
+        }
+        if (isDecimal) {
+            BigDecimal number;
+            try {
+                number = new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                throw error("Number out of range");
+            }
+            double doubleValue = number.doubleValue();
+            // The number is kept as a BigDecimal when a double cannot represent it exactly
+            if (!Double.isInfinite(doubleValue) && BigDecimal.valueOf(doubleValue).compareTo(number) == 0) {
+                return doubleValue;
+            }
+            return number;
+        }
+        BigInteger number = new BigInteger(value.toString());
+        if (number.bitLength() < Integer.SIZE) {
+            return number.intValue();
+        } else if (number.bitLength() < Long.SIZE) {
+            return number.longValue();
+        }
+        return number;
+    }
+
+    private void readDigits(StringBuilder value) throws IOException {
+        if (current < '0' || current > '9') {
+            throw error("Invalid number, expected a digit");
+        }
+        while (current >= '0' && current <= '9') {
+            value.append((char) current);
+            next();
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (current != literal.charAt(i)) {
+                throw error("Unexpected character");
+            }
+            next();
+        }
+    }
+
+    private void expect(char character) throws IOException {
+        if (current != character) {
+            throw error("Expected '" + character + "'");
+        }
+        next();
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (current == ' ' || current == '\n' || current == '\r' || current == '\t') {
+            next();
+        }
+    }
+
+    private void next() throws IOException {
+        current = reader.read();
+        offset++;
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + (current == -1 ? " at the end of the JSON document" :
+                " '" + (char) current + "' in the JSON document") + " at offset " + offset + ".");
+    }
+}
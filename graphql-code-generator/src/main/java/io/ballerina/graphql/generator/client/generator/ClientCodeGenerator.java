@@ -18,11 +18,12 @@
 
 package io.ballerina.graphql.generator.client.generator;
 
-import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.CodeGenerator;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.GraphqlProject;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.StreamingJson;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
@@ -33,20 +34,41 @@ import io.ballerina.graphql.generator.client.generator.ballerina.ClientGenerator
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ConfigTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.graphql.generator.utils.SrcFilePojo;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Generates Ballerina client code.
  */
 public class ClientCodeGenerator extends CodeGenerator {
+    private static final Log log = LogFactory.getLog(ClientCodeGenerator.class);
+    private static final String PERSISTED_QUERY_HASH_FIELD = "hash";
+    private static final String PERSISTED_QUERY_QUERY_FIELD = "query";
+
+    private ExecutorService executorService;
+
     @Override
     public void generate(GraphqlProject project) throws ClientCodeGenerationException {
         String outputPath = project.getOutputPath();
@@ -66,19 +88,148 @@ public class ClientCodeGenerator extends CodeGenerator {
             ConfigTypesGenerationException {
         String projectName = project.getName();
         Extension extensions = ((GraphqlClientProject) project).getExtensions();
-        List<String> documents = ((GraphqlClientProject) project).getDocuments();
-        GraphQLSchema schema = project.getGraphQLSchema();
+        DocumentRegistry documentRegistry = ((GraphqlClientProject) project).getDocumentRegistry();
+        SchemaIndex schemaIndex = ((GraphqlClientProject) project).getSchemaIndex();
+        Generation generation = getGeneration(extensions);
+        Performance performance = getPerformance(extensions);
 
         AuthConfig authConfig = new AuthConfig();
         AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
         AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+        GenerationContext context;
+        try {
+            context = GenerationContext.from(documentRegistry, generation, performance);
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage(), e);
+        }
+        // The manifest is generated first, so that the operations it cannot hold fail the project before the others
+        SrcFilePojo persistedQueriesSource = generation.isPersistedQueries() ?
+                generatePersistedQueriesSource(projectName, documentRegistry) : null;
 
-        List<SrcFilePojo> sourceFiles = new ArrayList<>();
-        generateClients(projectName, documents, schema, authConfig, sourceFiles, generatorContext);
-        generateUtils(projectName, authConfig, sourceFiles);
-        generateClientTypes(projectName, documents, schema, sourceFiles);
-        generateConfigTypes(projectName, authConfig, sourceFiles);
+        if (executorService == null) {
+            List<SrcFilePojo> sourceFiles = new ArrayList<>();
+            sourceFiles.add(generateClientSource(projectName, documentRegistry, schemaIndex, authConfig, context,
+                    generatorContext));
+            sourceFiles.add(generateUtilsSource(projectName, authConfig, context));
+            sourceFiles.add(generateClientTypesSource(projectName, documentRegistry, schemaIndex, generation));
+            sourceFiles.add(generateConfigTypesSource(projectName, authConfig, context));
+            if (persistedQueriesSource != null) {
+                sourceFiles.add(persistedQueriesSource);
+            }
+            logFieldsMapHitRate(projectName, schemaIndex);
+            return sourceFiles;
+        }
 
+        // Submitted in the same order as the sequential generation so that the returned list is deterministic
+        List<Future<SrcFilePojo>> futures = new ArrayList<>();
+        futures.add(executorService.submit(() -> generateClientSource(projectName, documentRegistry, schemaIndex,
+                authConfig, context, generatorContext)));
+        futures.add(executorService.submit(() -> generateUtilsSource(projectName, authConfig, context)));
+        futures.add(executorService.submit(() -> generateClientTypesSource(projectName, documentRegistry,
+                schemaIndex, generation)));
+        futures.add(executorService.submit(() -> generateConfigTypesSource(projectName, authConfig, context)));
+        List<SrcFilePojo> sourceFiles = collectSources(futures);
+        if (persistedQueriesSource != null) {
+            sourceFiles.add(persistedQueriesSource);
+        }
+        logFieldsMapHitRate(projectName, schemaIndex);
+        return sourceFiles;
+    }
+
+    /**
+     * Logs how many of the fields map lookups made so far against the schema were served by a memoized fields map.
+     *
+     * @param projectName   the name of the GraphQL project
+     * @param schemaIndex   the index of the GraphQL schema (SDL)
+     */
+    private void logFieldsMapHitRate(String projectName, SchemaIndex schemaIndex) {
+        if (log.isDebugEnabled()) {
+            long hitCount = schemaIndex.getFieldsMapHitCount();
+            long lookupCount = hitCount + schemaIndex.getFieldsMapMissCount();
+            log.debug(String.format("Fields map lookups of the project '%s': %d hits out of %d (%.1f%%)",
+                    projectName, hitCount, lookupCount, lookupCount == 0 ? 0.0 : hitCount * 100.0 / lookupCount));
+        }
+    }
+
+    /**
+     * Sets the executor used to generate the client source files concurrently. The executor is owned by the caller,
+     * which also decides how many files are generated at once. When no executor is set, the source files are
+     * generated one after another.
+     *
+     * @param executorService   the executor to generate the source files with, or {@code null}
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Gets the client generation options given in the extensions of a GraphQL project.
+     *
+     * @param extensions    the extensions of the GraphQL project, or {@code null}
+     * @return              the client generation options, with every option disabled if none is given
+     */
+    private static Generation getGeneration(Extension extensions) {
+        if (extensions == null || extensions.getGeneration() == null) {
+            return new Generation();
+        }
+        return extensions.getGeneration();
+    }
+
+    /**
+     * Gets the performance options given in the extensions of a GraphQL project.
+     *
+     * @param extensions    the extensions of the GraphQL project, or {@code null}
+     * @return              the performance options, with the defaults of the templates kept if none is given
+     */
+    private static Performance getPerformance(Extension extensions) {
+        if (extensions == null || extensions.getPerformance() == null) {
+            return new Performance();
+        }
+        return extensions.getPerformance();
+    }
+
+    /**
+     * Waits for the concurrently generated source files and returns them in the order of the given futures.
+     *
+     * @param futures       the futures of the source files being generated
+     * @return              the list of generated Ballerina source file pojo
+     * @throws ClientGenerationException        when a client code generation error occurs
+     * @throws UtilsGenerationException         when an utils code generation error occurs
+     * @throws ClientTypesGenerationException   when a types code generation error occurs
+     * @throws ConfigTypesGenerationException   when a config types code generation error occurs
+     */
+    private List<SrcFilePojo> collectSources(List<Future<SrcFilePojo>> futures)
+            throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
+            ConfigTypesGenerationException {
+        List<SrcFilePojo> sourceFiles = new ArrayList<>();
+        try {
+            for (Future<SrcFilePojo> future : futures) {
+                sourceFiles.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientGenerationException("The client generation was interrupted.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ClientGenerationException) {
+                throw (ClientGenerationException) cause;
+            } else if (cause instanceof UtilsGenerationException) {
+                throw (UtilsGenerationException) cause;
+            } else if (cause instanceof ClientTypesGenerationException) {
+                throw (ClientTypesGenerationException) cause;
+            } else if (cause instanceof ConfigTypesGenerationException) {
+                throw (ConfigTypesGenerationException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ClientGenerationException(cause.getMessage(), cause);
+        } finally {
+            for (Future<SrcFilePojo> future : futures) {
+                future.cancel(true);
+            }
+        }
         return sourceFiles;
     }
 
@@ -86,39 +237,41 @@ public class ClientCodeGenerator extends CodeGenerator {
      * Generates the Ballerina clients source codes for a given GraphQL project.
      *
      * @param projectName      the name of the GraphQL project
-     * @param documents        the list of documents of a given GraphQL project
-     * @param schema           the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry the registry of the parsed documents of a given GraphQL project
+     * @param schemaIndex      the index of the GraphQL schema (SDL)
      * @param authConfig       the object instance representing authentication config information
-     * @param sourceFiles      the list of generated Ballerina source file pojo
+     * @param context          the options the client is generated with
      * @param generatorContext the context which triggered the source generation
+     * @return                 the generated client source file pojo
      * @throws ClientGenerationException when a client code generation error occurs
-     * @throws IOException               If an I/O error occurs
      */
-    private void generateClients(String projectName, List<String> documents, GraphQLSchema schema,
-                                 AuthConfig authConfig, List<SrcFilePojo> sourceFiles,
-                                 GeneratorContext generatorContext) throws ClientGenerationException {
-        String clientSrc = ClientGenerator.getInstance().generateSrc(documents, schema, authConfig, generatorContext);
-        sourceFiles.add(
-                new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.CLIENT_FILE_NAME,
-                        clientSrc));
+    private SrcFilePojo generateClientSource(String projectName, DocumentRegistry documentRegistry,
+                                             SchemaIndex schemaIndex, AuthConfig authConfig,
+                                             GenerationContext context, GeneratorContext generatorContext)
+            throws ClientGenerationException {
+        String clientSrc = ClientGenerator.getInstance().generateSrc(documentRegistry, schemaIndex, authConfig,
+                context, generatorContext);
+        return new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.CLIENT_FILE_NAME,
+                clientSrc);
     }
 
     /**
      * Generates the Ballerina Client types source codes for a given GraphQL project.
      *
-     * @param projectName the name of the GraphQL project
-     * @param documents   the list of documents of a given GraphQL project
-     * @param schema      the GraphQL schema (SDL) of a given GraphQL project
-     * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param projectName      the name of the GraphQL project
+     * @param documentRegistry the registry of the parsed documents of a given GraphQL project
+     * @param schemaIndex      the index of the GraphQL schema (SDL) of a given GraphQL project
+     * @param generation       the client generation options of the GraphQL project
+     * @return                 the generated types source file pojo
      * @throws ClientTypesGenerationException when a types code generation error occurs
      */
-    private void generateClientTypes(String projectName, List<String> documents, GraphQLSchema schema,
-                                     List<SrcFilePojo> sourceFiles) throws ClientTypesGenerationException {
-        String typesFileContent = "";
-        typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schema, documents);
-        sourceFiles.add(
-                new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName, CodeGeneratorConstants.TYPES_FILE_NAME,
-                        typesFileContent));
+    private SrcFilePojo generateClientTypesSource(String projectName, DocumentRegistry documentRegistry,
+                                                  SchemaIndex schemaIndex, Generation generation)
+            throws ClientTypesGenerationException {
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schemaIndex, documentRegistry,
+                generation);
+        return new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName, CodeGeneratorConstants.TYPES_FILE_NAME,
+                typesFileContent);
     }
 
     /**
@@ -131,24 +284,88 @@ public class ClientCodeGenerator extends CodeGenerator {
      */
     public void generateUtils(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles)
             throws UtilsGenerationException {
-        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig);
-        sourceFiles.add(
-                new SrcFilePojo(SrcFilePojo.GenFileType.UTIL_SRC, projectName, CodeGeneratorConstants.UTILS_FILE_NAME,
-                        utilSrc));
+        sourceFiles.add(generateUtilsSource(projectName, authConfig, new GenerationContext()));
+    }
+
+    /**
+     * Generates the Ballerina utils source codes for a given GraphQL project, with the utilities of the connection
+     * stream functions when an operation of the project paginates through a Relay connection, and the utilities of
+     * the subscriptions when an operation of the project is a subscription.
+     *
+     * @param projectName      the name of the GraphQL project
+     * @param authConfig       the object instance representing authentication config information
+     * @param context          the options the client is generated with
+     * @return                 the generated utils source file pojo
+     * @throws UtilsGenerationException when an utils code generation error occurs
+     */
+    private SrcFilePojo generateUtilsSource(String projectName, AuthConfig authConfig, GenerationContext context)
+            throws UtilsGenerationException {
+        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig, context);
+        return new SrcFilePojo(SrcFilePojo.GenFileType.UTIL_SRC, projectName, CodeGeneratorConstants.UTILS_FILE_NAME,
+                utilSrc);
     }
 
     /**
      * Generates the Ballerina config types source codes for a given GraphQL project.
      *
-     * @param projectName the name of the GraphQL project
-     * @param authConfig  the object instance representing authentication config information
-     * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param projectName      the name of the GraphQL project
+     * @param authConfig       the object instance representing authentication config information
+     * @param context          the options the client is generated with
+     * @return                 the generated config types source file pojo
      * @throws ConfigTypesGenerationException when a config types code generation error occurs
      */
-    private void generateConfigTypes(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles)
-            throws ConfigTypesGenerationException {
-        String configTypesSrc = ConfigTypesGenerator.getInstance().generateSrc(authConfig);
-        sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.CONFIG_SRC, projectName,
-                CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME, configTypesSrc));
+    private SrcFilePojo generateConfigTypesSource(String projectName, AuthConfig authConfig,
+                                                  GenerationContext context) throws ConfigTypesGenerationException {
+        String configTypesSrc = ConfigTypesGenerator.getInstance().generateSrc(authConfig, context);
+        return new SrcFilePojo(SrcFilePojo.GenFileType.CONFIG_SRC, projectName,
+                CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME, configTypesSrc);
+    }
+
+    /**
+     * Generates the persisted queries manifest of a given GraphQL project. The manifest maps the name of every
+     * operation across the documents to the SHA-256 hash and the query string the client sends for it, so that a
+     * GraphQL server or gateway can register the operations ahead of the first request.
+     * <pre>
+     *     {"country": {"hash": "41e808bf...", "query": "query country($code:ID!){country(code:$code){name}}"}}
+     * </pre>
+     *
+     * @param projectName      the name of the GraphQL project
+     * @param documentRegistry the registry of the parsed documents of a given GraphQL project
+     * @return                 the generated persisted queries manifest file pojo
+     * @throws ClientGenerationException when an operation is anonymous, two operations have the same name or the
+     *                                   manifest generation fails
+     */
+    private SrcFilePojo generatePersistedQueriesSource(String projectName, DocumentRegistry documentRegistry)
+            throws ClientGenerationException {
+        Map<String, Object> persistedQueries = new LinkedHashMap<>();
+        for (String document : documentRegistry.getDocuments()) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
+            for (ExtendedOperationDefinition queryDefinition : queryReader.getExtendedOperationDefinitions()) {
+                String operationName = queryDefinition.getName();
+                if (operationName == null) {
+                    throw new ClientGenerationException(String.format("The project \"%s\" has an anonymous " +
+                            "operation, but every operation of the persisted queries manifest must be named.",
+                            projectName));
+                }
+                if (persistedQueries.containsKey(operationName)) {
+                    throw new ClientGenerationException(String.format("The project \"%s\" has more than one " +
+                            "operation named \"%s\", but the operation names of the persisted queries manifest must " +
+                            "be unique.", projectName, operationName));
+                }
+                String query = queryDefinition.getQueryString();
+                Map<String, Object> persistedQuery = new LinkedHashMap<>();
+                persistedQuery.put(PERSISTED_QUERY_HASH_FIELD, CodeGeneratorUtils.getPersistedQueryHash(query));
+                persistedQuery.put(PERSISTED_QUERY_QUERY_FIELD, query);
+                persistedQueries.put(operationName, persistedQuery);
+            }
+        }
+        StringWriter manifest = new StringWriter();
+        try {
+            StreamingJson.write(persistedQueries, manifest);
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage(), e);
+        }
+        return new SrcFilePojo(SrcFilePojo.GenFileType.MANIFEST, projectName,
+                CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME, manifest.toString());
     }
 }
@@ -28,12 +28,9 @@ import java.util.Map;
  * This class is used to generate authentication configuration in the ballerina client file.
  */
 public class AuthConfigGenerator {
-    private static AuthConfigGenerator authConfigGenerator = null;
+    private static final AuthConfigGenerator authConfigGenerator = new AuthConfigGenerator();
 
     public static AuthConfigGenerator getInstance() {
-        if (authConfigGenerator == null) {
-            authConfigGenerator = new AuthConfigGenerator();
-        }
         return authConfigGenerator;
     }
 
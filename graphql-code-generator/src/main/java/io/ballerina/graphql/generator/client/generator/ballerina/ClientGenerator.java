@@ -18,9 +18,10 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
-import graphql.language.Document;
-import graphql.schema.GraphQLSchema;
+import graphql.language.OperationDefinition;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
@@ -37,11 +38,14 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
+import io.ballerina.graphql.generator.client.pojo.Generation;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.tools.text.TextDocument;
@@ -53,11 +57,16 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createConstantDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIntersectionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
@@ -67,11 +76,14 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameR
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeReferenceTypeDescNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.BITWISE_AND_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.BOOLEAN_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CONST_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
@@ -80,40 +92,52 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.READONLY_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_LITERAL;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_LITERAL_TOKEN;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_BATCH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_COALESCER;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_COALESCER_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_TYPE_NAME;
 
 /**
  * This class is used to generate ballerina client file according to given SDL and query file.
  */
 public class ClientGenerator {
-    private static ClientGenerator clientGenerator = null;
+    private static final ClientGenerator clientGenerator = new ClientGenerator();
 
     public static ClientGenerator getInstance() {
-        if (clientGenerator == null) {
-            clientGenerator = new ClientGenerator();
-        }
         return clientGenerator;
     }
 
     /**
      * Generates the client file content.
      *
-     * @param queryDocuments                    the list of names of the query documents
-     * @param graphQLSchema                     the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry                  the registry of the parsed query documents
+     * @param schemaIndex                       the index of the GraphQL schema (SDL)
      * @param authConfig                        the object instance representing authentication config information
+     * @param context                           the options the client is generated with
+     * @param generatorContext                  the context which triggered the source generation
      * @return                                  the client file content
      * @throws ClientGenerationException        when a client code generation error occurs
      */
-    public String generateSrc(List<String> queryDocuments, GraphQLSchema graphQLSchema, AuthConfig authConfig,
-                              GeneratorContext generatorContext) throws ClientGenerationException {
+    public String generateSrc(DocumentRegistry documentRegistry, SchemaIndex schemaIndex, AuthConfig authConfig,
+                              GenerationContext context, GeneratorContext generatorContext)
+            throws ClientGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(
-                    queryDocuments, graphQLSchema, authConfig, generatorContext)).toString();
+            return Formatter.format(generateSyntaxTree(documentRegistry, schemaIndex, authConfig, context,
+                    generatorContext)).toString();
         } catch (FormatterException | IOException e) {
             throw new ClientGenerationException(e.getMessage());
         }
@@ -122,18 +146,20 @@ public class ClientGenerator {
     /**
      * Generates the client syntax tree.
      *
-     * @param queryDocuments            the list of names of the query documents
-     * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry          the registry of the parsed query documents
+     * @param schemaIndex               the index of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param context                   the options the client is generated with
      * @return                          Syntax tree for the ballerina client code
      */
-    private SyntaxTree generateSyntaxTree(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                          AuthConfig authConfig, GeneratorContext generatorContext) throws IOException {
+    private SyntaxTree generateSyntaxTree(DocumentRegistry documentRegistry, SchemaIndex schemaIndex,
+                                          AuthConfig authConfig, GenerationContext context,
+                                          GeneratorContext generatorContext) throws IOException {
         // Generate imports
-        NodeList<ImportDeclarationNode> imports = generateImports();
+        NodeList<ImportDeclarationNode> imports = generateImports(context.getGeneration());
         // Generate auth config records & client class
         NodeList<ModuleMemberDeclarationNode> members =
-                generateMembers(queryDocuments, graphQLSchema, authConfig, generatorContext);
+                generateMembers(documentRegistry, schemaIndex, authConfig, context, generatorContext);
 
         ModulePartNode modulePartNode = createModulePartNode(imports, members, createToken(EOF_TOKEN));
 
@@ -145,47 +171,88 @@ public class ClientGenerator {
     /**
      * Generates the imports in the client file.
      *
+     * @param generation                the client generation options of the GraphQL project
      * @return                          the node list which represent imports in the client file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(Generation generation) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
                 CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
         imports.add(importForGraphql);
+        if (generation.usesHttpClient()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.HTTP));
+        }
         return createNodeList(imports);
     }
 
     /**
-     * Generates the members in the client file. The members include auth config record types & client class nodes.
+     * Generates the members in the client file. The members include the query string constants when enabled, auth
+     * config record types & client class nodes.
      *
-     * @param queryDocuments            the list of names of the query documents
-     * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry          the registry of the parsed query documents
+     * @param schemaIndex               the index of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param context                   the options the client is generated with
      * @return                          the node list which represent members in the client file
      */
-    private NodeList<ModuleMemberDeclarationNode> generateMembers(List<String> queryDocuments,
-                                                                  GraphQLSchema graphQLSchema, AuthConfig authConfig,
+    private NodeList<ModuleMemberDeclarationNode> generateMembers(DocumentRegistry documentRegistry,
+                                                                  SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                                  GenerationContext context,
                                                                   GeneratorContext generatorContext)
             throws IOException {
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
+        // Generate query string constants
+        if (context.getGeneration().isQueryConstants()) {
+            members.addAll(generateQueryConstants(documentRegistry));
+        }
         // Generate client class
         ClassDefinitionNode classDefinitionNode =
-                generateClientClass(queryDocuments, graphQLSchema, authConfig, generatorContext);
+                generateClientClass(documentRegistry, schemaIndex, authConfig, context, generatorContext);
         members.add(classDefinitionNode);
         return createNodeList(members);
     }
 
+    /**
+     * Generates the module-level {@code const string OPERATION_QUERY = "...";} declarations holding the query
+     * strings of the operations, so that the remote functions do not build the query string on every call.
+     *
+     * @param documentRegistry          the registry of the parsed query documents
+     * @return                          the list of nodes which represent the query string constants
+     */
+    private List<ConstantDeclarationNode> generateQueryConstants(DocumentRegistry documentRegistry)
+            throws IOException {
+        List<ConstantDeclarationNode> queryConstants = new ArrayList<>();
+        for (String document : documentRegistry.getDocuments()) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
+            for (ExtendedOperationDefinition queryDefinition : queryReader.getExtendedOperationDefinitions()) {
+                ExpressionNode queryString = createBasicLiteralNode(STRING_LITERAL,
+                        createLiteralValueToken(STRING_LITERAL_TOKEN,
+                                CodeGeneratorUtils.getStringLiteral(queryDefinition.getQueryString()),
+                                createEmptyMinutiaeList(), createEmptyMinutiaeList()));
+                queryConstants.add(createConstantDeclarationNode(createMetadataNode(null, createEmptyNodeList()),
+                        null, createToken(CONST_KEYWORD),
+                        createBuiltinSimpleNameReferenceNode(null, createToken(STRING_KEYWORD)),
+                        createIdentifierToken(CodeGeneratorUtils.getQueryConstantName(queryDefinition.getName())),
+                        createToken(EQUAL_TOKEN), queryString, createToken(SEMICOLON_TOKEN)));
+            }
+        }
+        return queryConstants;
+    }
+
     /**
      * Generates the client class in the client file.
      *
-     * @param queryDocuments            the list of names of the query documents
-     * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry          the registry of the parsed query documents
+     * @param schemaIndex               the index of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param context                   the options the client is generated with
      * @return                          the node which represent the client class in the client file
      */
-    private ClassDefinitionNode generateClientClass(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                                    AuthConfig authConfig, GeneratorContext generatorContext)
-            throws IOException {
+    private ClassDefinitionNode generateClientClass(DocumentRegistry documentRegistry, SchemaIndex schemaIndex,
+                                                    AuthConfig authConfig, GenerationContext context,
+                                                    GeneratorContext generatorContext) throws IOException {
+        Generation generation = context.getGeneration();
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
         NodeList<Token> classTypeQualifiers = createNodeList(
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
@@ -194,11 +261,16 @@ public class ClientGenerator {
         // Collect members for class definition node
         List<Node> members =  new ArrayList<>();
         // Generate class instance variables
-        members.addAll(generateClassInstanceVariables(authConfig));
+        members.addAll(generateClassInstanceVariables(authConfig, generation, context.hasSubscriptions()));
         // Generate init function
-        members.add(generateInitFunction(authConfig));
+        members.add(generateInitFunction(authConfig, context));
         // Generate remote functions
-        members.addAll(generateRemoteFunctions(queryDocuments, graphQLSchema, authConfig));
+        members.addAll(generateRemoteFunctions(documentRegistry, schemaIndex, authConfig, context));
+        // Generate batch API functions
+        if (generation.isBatching()) {
+            members.addAll(generateBatchOperationFunctions(documentRegistry, schemaIndex, generation));
+            members.add(generateExecuteBatchFunction(authConfig));
+        }
 
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
@@ -209,15 +281,33 @@ public class ClientGenerator {
      * Generates the client class instance variables.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param generation        the client generation options of the GraphQL project
+     * @param subscriptions     whether an operation of the client is a subscription
      * @return                  the list of nodes which represent the client class instance variables
      */
-    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig) {
+    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig, Generation generation,
+                                                                 boolean subscriptions) {
         List<ObjectFieldNode> objectFields = new ArrayList<>();
         objectFields.add(generateGraphqlClientField());
 
         if (authConfig.isApiKeysConfig()) {
             objectFields.add(generateApiKeysConfigField());
         }
+        if (generation.usesHttpClient()) {
+            objectFields.add(generateHttpClientField());
+        }
+        if (generation.isPersistedQueries()) {
+            objectFields.add(generatePersistedQueriesField());
+        }
+        if (generation.isRequestCoalescing()) {
+            objectFields.add(generateQueryCoalescerField());
+        }
+        if (generation.getCache() != null) {
+            objectFields.add(generateResponseCacheField());
+        }
+        if (subscriptions) {
+            objectFields.add(generateSubscriptionConfigField());
+        }
         return objectFields;
     }
 
@@ -225,9 +315,10 @@ public class ClientGenerator {
      * Generates the client class init function.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param context           the options the client is generated with
      * @return                  the node which represent the init function
      */
-    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig) {
+    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig, GenerationContext context) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -236,7 +327,8 @@ public class ClientGenerator {
 
         FunctionSignatureNode functionSignatureNode =
                 FunctionSignatureGenerator.getInstance().generateInitFunctionSignature(authConfig);
-        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig);
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig, context);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
@@ -245,25 +337,37 @@ public class ClientGenerator {
     /**
      * Generates the client class remote functions.
      *
-     * @param queryDocuments    the list of names of the query documents
-     * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry  the registry of the parsed query documents
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
      * @param authConfig        the object instance representing authentication configuration information
+     * @param context           the options the client is generated with
      * @return                  the list of nodes which represent the remote functions
      */
-    private List<FunctionDefinitionNode> generateRemoteFunctions(List<String> queryDocuments,
-                                                                 GraphQLSchema graphQLSchema, AuthConfig authConfig)
-            throws IOException {
+    private List<FunctionDefinitionNode> generateRemoteFunctions(DocumentRegistry documentRegistry,
+                                                                 SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                                 GenerationContext context) throws IOException {
+        Generation generation = context.getGeneration();
         List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
 
-        for (String document : queryDocuments) {
-            Document queryDocument = Utils.getGraphQLQueryDocument(document);
-            QueryReader queryReader = new QueryReader(queryDocument);
+        for (String document : documentRegistry.getDocuments()) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
 
             for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
+                // Generate subscription remote function
+                if (isSubscription(queryDefinition)) {
+                    functionDefinitionNodeList.add(
+                            generateSubscriptionFunction(queryDefinition, schemaIndex, authConfig, generation));
+                    continue;
+                }
                 // Generate remote function
                 FunctionDefinitionNode functionDefinitionNode =
-                        generateRemoteFunction(queryDefinition, graphQLSchema, authConfig);
+                        generateRemoteFunction(queryDefinition, document, schemaIndex, authConfig, context);
                 functionDefinitionNodeList.add(functionDefinitionNode);
+                // Generate connection stream function
+                if (queryDefinition.getRelayConnection() != null) {
+                    functionDefinitionNodeList.add(
+                            generateConnectionStreamFunction(queryDefinition, schemaIndex, authConfig, generation));
+                }
             }
         }
         return functionDefinitionNodeList;
@@ -273,12 +377,15 @@ public class ClientGenerator {
      * Generates a client class remote function.
      *
      * @param queryDefinition       the object instance of a single query definition in a query document
-     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @param document              the document value of the Graphql config file, which has the operation
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
      * @param authConfig            the object instance representing authentication configuration information
+     * @param context               the options the client is generated with
      * @return                      the node which represent the remote function
      */
     private FunctionDefinitionNode generateRemoteFunction(ExtendedOperationDefinition queryDefinition,
-                                                          GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+                                                          String document, SchemaIndex schemaIndex,
+                                                          AuthConfig authConfig, GenerationContext context) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -288,10 +395,141 @@ public class ClientGenerator {
 
         FunctionSignatureNode functionSignatureNode =
                 FunctionSignatureGenerator.getInstance()
-                        .generateRemoteFunctionSignature(queryDefinition, graphQLSchema);
+                        .generateRemoteFunctionSignature(queryDefinition, schemaIndex);
         FunctionBodyNode functionBodyNode =
                 FunctionBodyGenerator.getInstance()
-                        .generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig);
+                        .generateRemoteFunctionBody(queryDefinition, document, schemaIndex, authConfig, context);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generates the client class remote function which streams the nodes of the Relay connection an operation
+     * paginates through, such as {@code productsStream} for {@code products}.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @param authConfig            the object instance representing authentication configuration information
+     * @param generation            the client generation options of the GraphQL project
+     * @return                      the node which represent the connection stream function
+     */
+    private FunctionDefinitionNode generateConnectionStreamFunction(ExtendedOperationDefinition queryDefinition,
+                                                                    SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                                    Generation generation) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(
+                CodeGeneratorUtils.getConnectionStreamFunctionName(queryDefinition.getName()));
+
+        FunctionSignatureNode functionSignatureNode = FunctionSignatureGenerator.getInstance()
+                .generateConnectionStreamFunctionSignature(queryDefinition, schemaIndex);
+        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance()
+                .generateConnectionStreamFunctionBody(queryDefinition, schemaIndex, authConfig, generation);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generates the client class remote function of a subscription, which returns a stream of the responses of the
+     * subscription received over a WebSocket connection.
+     *
+     * @param queryDefinition       the object instance of a single subscription definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @param authConfig            the object instance representing authentication configuration information
+     * @param generation            the client generation options of the GraphQL project
+     * @return                      the node which represent the subscription remote function
+     */
+    private FunctionDefinitionNode generateSubscriptionFunction(ExtendedOperationDefinition queryDefinition,
+                                                                SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                                Generation generation) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(queryDefinition.getName());
+
+        FunctionSignatureNode functionSignatureNode = FunctionSignatureGenerator.getInstance()
+                .generateSubscriptionFunctionSignature(queryDefinition, schemaIndex);
+        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance()
+                .generateSubscriptionFunctionBody(queryDefinition, schemaIndex, authConfig, generation);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Checks whether a given operation is a subscription.
+     *
+     * @param queryDefinition       the object instance of a single operation definition in a query document
+     * @return                      {@code true} if the operation is a subscription
+     */
+    private static boolean isSubscription(ExtendedOperationDefinition queryDefinition) {
+        return OperationDefinition.Operation.SUBSCRIPTION.name().equals(queryDefinition.getOperationType());
+    }
+
+    /**
+     * Generates the client class functions which create the batch operations of the operations, to be executed
+     * together with the {@code executeBatch} remote function.
+     *
+     * @param documentRegistry  the registry of the parsed query documents
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param generation        the client generation options of the GraphQL project
+     * @return                  the list of nodes which represent the batch operation functions
+     */
+    private List<FunctionDefinitionNode> generateBatchOperationFunctions(DocumentRegistry documentRegistry,
+                                                                         SchemaIndex schemaIndex,
+                                                                         Generation generation) throws IOException {
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+
+        for (String document : documentRegistry.getDocuments()) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
+
+            for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
+                // Subscriptions can not be sent in a batch
+                if (isSubscription(queryDefinition)) {
+                    continue;
+                }
+                MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+                NodeList<Token> qualifierList =
+                        createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
+                IdentifierToken functionName = createIdentifierToken(
+                        CodeGeneratorUtils.getBatchOperationFunctionName(queryDefinition.getName()));
+
+                FunctionSignatureNode functionSignatureNode = FunctionSignatureGenerator.getInstance()
+                        .generateBatchOperationFunctionSignature(queryDefinition, schemaIndex);
+                FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance()
+                        .generateBatchOperationFunctionBody(queryDefinition, schemaIndex, generation);
+
+                functionDefinitionNodeList.add(createFunctionDefinitionNode(null, metadataNode, qualifierList,
+                        createToken(FUNCTION_KEYWORD), functionName, createEmptyNodeList(), functionSignatureNode,
+                        functionBodyNode));
+            }
+        }
+        return functionDefinitionNodeList;
+    }
+
+    /**
+     * Generates the client class {@code executeBatch} remote function, which sends the given batch operations with a
+     * single HTTP request.
+     *
+     * @param authConfig        the object instance representing authentication configuration information
+     * @return                  the node which represent the {@code executeBatch} remote function
+     */
+    private FunctionDefinitionNode generateExecuteBatchFunction(AuthConfig authConfig) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(EXECUTE_BATCH);
+
+        FunctionSignatureNode functionSignatureNode =
+                FunctionSignatureGenerator.getInstance().generateExecuteBatchFunctionSignature();
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateExecuteBatchFunctionBody(authConfig);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
@@ -341,4 +579,110 @@ public class ClientGenerator {
                 qualifierList, typeName, fieldName, null, null,
                 createToken(SEMICOLON_TOKEN));
     }
+
+    /**
+     * Generates the HTTP client {@code final http:Client httpClient;} instance variable, which sends the persisted
+     * queries and the batch requests.
+     *
+     * @return                  the node which represent the {@code httpClient} instance variable
+     */
+    private ObjectFieldNode generateHttpClientField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        QualifiedNameReferenceNode typeName = createQualifiedNameReferenceNode(
+                createIdentifierToken(CodeGeneratorConstants.HTTP), createToken(COLON_TOKEN),
+                createIdentifierToken(CodeGeneratorConstants.CLIENT));
+
+        IdentifierToken fieldName = createIdentifierToken(HTTP_CLIENT);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final boolean persistedQueries;} instance variable.
+     *
+     * @return                  the node which represent the {@code persistedQueries} instance variable
+     */
+    private ObjectFieldNode generatePersistedQueriesField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName = createBuiltinSimpleNameReferenceNode(null, createToken(BOOLEAN_KEYWORD));
+
+        IdentifierToken fieldName = createIdentifierToken(PERSISTED_QUERIES);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final QueryCoalescer queryCoalescer;} instance variable, which coalesces the identical
+     * queries in flight.
+     *
+     * @return                  the node which represent the {@code queryCoalescer} instance variable
+     */
+    private ObjectFieldNode generateQueryCoalescerField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName = createSimpleNameReferenceNode(createIdentifierToken(QUERY_COALESCER_TYPE_NAME));
+
+        IdentifierToken fieldName = createIdentifierToken(QUERY_COALESCER);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final ResponseCache responseCache;} instance variable, which caches the responses of the
+     * queries with a TTL.
+     *
+     * @return                  the node which represent the {@code responseCache} instance variable
+     */
+    private ObjectFieldNode generateResponseCacheField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE_CACHE_TYPE_NAME));
+
+        IdentifierToken fieldName = createIdentifierToken(RESPONSE_CACHE);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final readonly & SubscriptionConfig subscriptionConfig;} instance variable, which holds the
+     * configurations of the WebSocket connections of the subscriptions.
+     *
+     * @return                  the node which represent the {@code subscriptionConfig} instance variable
+     */
+    private ObjectFieldNode generateSubscriptionConfigField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode readOnlyNode =
+                createTypeReferenceTypeDescNode(createSimpleNameReferenceNode(createToken(READONLY_KEYWORD)));
+        TypeDescriptorNode subscriptionConfigNode =
+                createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTION_CONFIG_TYPE_NAME));
+        TypeDescriptorNode typeName = createIntersectionTypeDescriptorNode(readOnlyNode,
+                createToken(BITWISE_AND_TOKEN), subscriptionConfigNode);
+
+        IdentifierToken fieldName = createIdentifierToken(SUBSCRIPTION_CONFIG);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
 }
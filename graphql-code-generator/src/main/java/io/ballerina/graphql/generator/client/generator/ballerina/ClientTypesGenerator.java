@@ -26,7 +26,10 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
+import io.ballerina.graphql.generator.client.pojo.Generation;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
@@ -46,12 +49,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
  * This class is used to generate the types file content.
  */
 public class ClientTypesGenerator extends TypesGenerator {
-    public static ClientTypesGenerator clientTypesGenerator = null;
+    private static final ClientTypesGenerator clientTypesGenerator = new ClientTypesGenerator();
 
     public static ClientTypesGenerator getInstance() {
-        if (clientTypesGenerator == null) {
-            clientTypesGenerator = new ClientTypesGenerator();
-        }
         return clientTypesGenerator;
     }
 
@@ -64,8 +64,50 @@ public class ClientTypesGenerator extends TypesGenerator {
      * @throws ClientTypesGenerationException     when an error occurs during type generation
      */
     public String generateSrc(GraphQLSchema schema, List<String> documents) throws ClientTypesGenerationException {
+        return generateSrc(schema, new DocumentRegistry(documents));
+    }
+
+    /**
+     * Generates the types file content using the already parsed query documents.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documentRegistry              the registry of the parsed query documents of a given GraphQL project
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(GraphQLSchema schema, DocumentRegistry documentRegistry)
+            throws ClientTypesGenerationException {
+        return generateSrc(SchemaIndex.getInstance(schema), documentRegistry);
+    }
+
+    /**
+     * Generates the types file content using the index of the GraphQL schema and the already parsed query documents.
+     *
+     * @param schemaIndex                   the index of the GraphQL schema (SDL)
+     * @param documentRegistry              the registry of the parsed query documents of a given GraphQL project
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(SchemaIndex schemaIndex, DocumentRegistry documentRegistry)
+            throws ClientTypesGenerationException {
+        return generateSrc(schemaIndex, documentRegistry, new Generation());
+    }
+
+    /**
+     * Generates the types file content using the index of the GraphQL schema, the already parsed query documents and
+     * the client generation options.
+     *
+     * @param schemaIndex                   the index of the GraphQL schema (SDL)
+     * @param documentRegistry              the registry of the parsed query documents of a given GraphQL project
+     * @param generation                    the client generation options of the GraphQL project
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(SchemaIndex schemaIndex, DocumentRegistry documentRegistry, Generation generation)
+            throws ClientTypesGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema, documents)).toString();
+            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schemaIndex, documentRegistry,
+                    generation)).toString();
             return Formatter.format(generatedSyntaxTree);
         } catch (FormatterException | IOException e) {
             throw new ClientTypesGenerationException(e.getMessage());
@@ -76,16 +118,48 @@ public class ClientTypesGenerator extends TypesGenerator {
      * Generates the types syntax tree.
      *
      * @param schema            the object instance of the GraphQL schema (SDL)
-     * @param documents         the list of documents of a given GraphQL project
+     * @param documentRegistry  the registry of the parsed query documents of a given GraphQL project
+     * @return                  Syntax tree for the types.bal
+     * @throws IOException      If an I/O error occurs
+     * @throws ClientTypesGenerationException   If an operation selects a root field undefined in the schema
+     */
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, DocumentRegistry documentRegistry)
+            throws IOException, ClientTypesGenerationException {
+        return generateSyntaxTree(SchemaIndex.getInstance(schema), documentRegistry);
+    }
+
+    /**
+     * Generates the types syntax tree using the index of the GraphQL schema.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param documentRegistry  the registry of the parsed query documents of a given GraphQL project
+     * @return                  Syntax tree for the types.bal
+     * @throws IOException      If an I/O error occurs
+     * @throws ClientTypesGenerationException   If an operation selects a root field undefined in the schema
+     */
+    public SyntaxTree generateSyntaxTree(SchemaIndex schemaIndex, DocumentRegistry documentRegistry)
+            throws IOException, ClientTypesGenerationException {
+        return generateSyntaxTree(schemaIndex, documentRegistry, new Generation());
+    }
+
+    /**
+     * Generates the types syntax tree using the index of the GraphQL schema and the client generation options.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param documentRegistry  the registry of the parsed query documents of a given GraphQL project
+     * @param generation        the client generation options of the GraphQL project
      * @return                  Syntax tree for the types.bal
      * @throws IOException      If an I/O error occurs
+     * @throws ClientTypesGenerationException   If an operation selects a root field undefined in the schema
      */
-    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents) throws IOException {
+    public SyntaxTree generateSyntaxTree(SchemaIndex schemaIndex, DocumentRegistry documentRegistry,
+                                         Generation generation) throws IOException, ClientTypesGenerationException {
         List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
         NodeList<ImportDeclarationNode> importsList = createEmptyNodeList();
 
-        addInputRecords(schema, typeDefinitionNodeList);
-        addQueryResponseRecords(schema, documents, typeDefinitionNodeList);
+        addInputRecords(schemaIndex, typeDefinitionNodeList);
+        addQueryResponseRecords(schemaIndex, documentRegistry, typeDefinitionNodeList,
+                generation.isResponseExtensions());
 
         NodeList<ModuleMemberDeclarationNode> members = createNodeList(typeDefinitionNodeList.toArray(
                 new TypeDefinitionNode[typeDefinitionNodeList.size()]));
@@ -30,6 +30,9 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
@@ -40,26 +43,18 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.client.exception.ConfigTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.graphql.generator.utils.TemplateCache;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -71,22 +66,27 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAnnotationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createLiteralValueToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldWithDefaultValueNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.AT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.BOOLEAN_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.BOOLEAN_LITERAL;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
@@ -94,6 +94,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_LITERAL;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.TRUE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.AuthConfigType;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_KIND_FIELD;
@@ -101,20 +102,27 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNO
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_LABEL_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP2_PRIOR_KNOWLEDGE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_FIELD_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.getMetadataNode;
 
 /**
  * This class is used to generate connection config related types in the ballerina config types file.
  */
 public class ConfigTypesGenerator {
-    private static ConfigTypesGenerator configTypesGenerator = null;
+    private static final ConfigTypesGenerator configTypesGenerator = new ConfigTypesGenerator();
     private static final String CONNECTION_CONFIG = "ConnectionConfig";
-    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigTypesGenerator.class);
+    private static final String POOL_CONFIG = "poolConfig";
+    private static final String COMPRESSION = "compression";
+    private static final String HTTP1_SETTINGS = "http1Settings";
+    private static final String COMPRESSION_ALWAYS = "graphql:COMPRESSION_ALWAYS";
+    private static final String COMPRESSION_NEVER = "graphql:COMPRESSION_NEVER";
+    private static final String KEEPALIVE_ALWAYS = "KEEPALIVE_ALWAYS";
+    private static final String KEEPALIVE_NEVER = "KEEPALIVE_NEVER";
 
     public static ConfigTypesGenerator getInstance() {
-        if (configTypesGenerator == null) {
-            configTypesGenerator = new ConfigTypesGenerator();
-        }
         return configTypesGenerator;
     }
 
@@ -122,35 +130,31 @@ public class ConfigTypesGenerator {
      * Generates the config types file content.
      *
      * @param authConfig the object instance representing authentication config information
+     * @param context    the options the client is generated with
      * @return the config types file content
      * @throws ConfigTypesGenerationException when a config types code generation error occurs
      */
-    public String generateSrc(AuthConfig authConfig) throws ConfigTypesGenerationException {
+    public String generateSrc(AuthConfig authConfig, GenerationContext context) throws ConfigTypesGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(authConfig)).toString();
+            return Formatter.format(generateSyntaxTree(authConfig, context)).toString();
         } catch (FormatterException | IOException e) {
             throw new ConfigTypesGenerationException(e.getMessage());
         }
     }
 
     /**
-     * Generates the config types syntax tree.
+     * Generates the config types syntax tree. The context decides the fields and the defaults of the connection
+     * config, together with the configurations of the WebSocket connections when the client has subscriptions.
      *
      * @param authConfig the object instance representing authentication config information
+     * @param context    the options the client is generated with
      * @return syntax tree for the Ballerina config types file code
      * @throws IOException if an I/O error occurs
      */
-    private SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
-
+    private SyntaxTree generateSyntaxTree(AuthConfig authConfig, GenerationContext context) throws IOException {
+        Generation generation = context.getGeneration();
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        ModulePartNode modulePartNode = TemplateCache.getModulePartNode(TemplateCache.CONFIG_TYPES_TEMPLATE);
         NodeList<ImportDeclarationNode> imports = modulePartNode.imports();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
 
@@ -162,10 +166,24 @@ public class ConfigTypesGenerator {
                         .equals(CONNECTION_CONFIG)) {
                     node = constructConnectionConfig(node, authConfig);
                 }
-                memberDeclarationNodes.add(node);
-            } else {
-                memberDeclarationNodes.add(node);
             }
+            if (generation.isPersistedQueries()) {
+                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION) && ((TypeDefinitionNode) node).typeName().text()
+                        .equals(CONNECTION_CONFIG)) {
+                    node = addPersistedQueriesField((TypeDefinitionNode) node);
+                }
+            }
+            if (node.kind().equals(SyntaxKind.TYPE_DEFINITION) && ((TypeDefinitionNode) node).typeName().text()
+                    .equals(CONNECTION_CONFIG)) {
+                node = addPerformanceDefaults((TypeDefinitionNode) node, generation, context.getPerformance());
+            }
+            if (context.hasSubscriptions()) {
+                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION) && ((TypeDefinitionNode) node).typeName().text()
+                        .equals(CONNECTION_CONFIG)) {
+                    node = addSubscriptionField((TypeDefinitionNode) node);
+                }
+            }
+            memberDeclarationNodes.add(node);
         }
 
         if (authConfig.isApiKeysConfig()) {
@@ -227,31 +245,151 @@ public class ConfigTypesGenerator {
     }
 
     /**
-     * Gets the path of the config_types.bal template at the time of execution.
+     * Adds the {@code persistedQueries} switch to the `ConnectionConfig` record, which lets the users of the client
+     * turn off the persisted queries, e.g., for a GraphQL API which does not support them.
+     * <pre>
+     *     # Enables sending the operations as automatic persisted queries
+     *     boolean persistedQueries = true;
+     * </pre>
+     *
+     * @param node the `ConnectionConfig` node
+     * @return updated `ConnectionConfig` type
+     */
+    private TypeDefinitionNode addPersistedQueriesField(TypeDefinitionNode node) {
+        RecordTypeDescriptorNode connectionConfigNode = (RecordTypeDescriptorNode) node.typeDescriptor();
+        MetadataNode persistedQueriesMetadataNode =
+                getMetadataNode("Enables sending the operations as automatic persisted queries");
+        Node persistedQueriesNode = createRecordFieldWithDefaultValueNode(persistedQueriesMetadataNode, null,
+                createBuiltinSimpleNameReferenceNode(null, createToken(BOOLEAN_KEYWORD)),
+                createIdentifierToken(PERSISTED_QUERIES), createToken(EQUAL_TOKEN),
+                createBasicLiteralNode(BOOLEAN_LITERAL, createToken(TRUE_KEYWORD)), createToken(SEMICOLON_TOKEN));
+
+        List<Node> fields = new ArrayList<>();
+        for (Node field : connectionConfigNode.fields()) {
+            fields.add(field);
+        }
+        fields.add(persistedQueriesNode);
+        connectionConfigNode = connectionConfigNode.modify().withFields(createNodeList(fields)).apply();
+        return node.modify().withTypeDescriptor(connectionConfigNode).apply();
+    }
+
+    /**
+     * Adds the configurations of the WebSocket connections of the subscriptions to the `ConnectionConfig` record.
+     * <pre>
+     *     # Configurations of the WebSocket connections of the subscriptions
+     *     SubscriptionConfig subscription = {};
+     * </pre>
+     *
+     * @param node the `ConnectionConfig` node
+     * @return updated `ConnectionConfig` type
+     */
+    private TypeDefinitionNode addSubscriptionField(TypeDefinitionNode node) {
+        RecordTypeDescriptorNode connectionConfigNode = (RecordTypeDescriptorNode) node.typeDescriptor();
+        MetadataNode subscriptionMetadataNode =
+                getMetadataNode("Configurations of the WebSocket connections of the subscriptions");
+        Node subscriptionNode = createRecordFieldWithDefaultValueNode(subscriptionMetadataNode, null,
+                createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTION_CONFIG_TYPE_NAME)),
+                createIdentifierToken(SUBSCRIPTION_CONFIG_FIELD_NAME), createToken(EQUAL_TOKEN),
+                NodeParser.parseExpression("{}"), createToken(SEMICOLON_TOKEN));
+
+        List<Node> fields = new ArrayList<>();
+        for (Node field : connectionConfigNode.fields()) {
+            fields.add(field);
+        }
+        fields.add(subscriptionNode);
+        connectionConfigNode = connectionConfigNode.modify().withFields(createNodeList(fields)).apply();
+        return node.modify().withTypeDescriptor(connectionConfigNode).apply();
+    }
+
+    /**
+     * Sets the given performance options as the defaults of the `ConnectionConfig` record, so that the client is
+     * tuned without any configuration at the users of the client.
+     * <pre>
+     *     graphql:PoolConfiguration poolConfig = {maxActiveConnections: 100, maxIdleConnections: 20};
+     *     graphql:Compression compression = graphql:COMPRESSION_ALWAYS;
+     *     ClientHttp1Settings http1Settings = {keepAlive: KEEPALIVE_ALWAYS};
+     *     # Enables sending the requests of the HTTP client over HTTP/2 with prior knowledge
+     *     boolean http2PriorKnowledge = true;
+     * </pre>
+     * The HTTP/2 option only applies to the HTTP client which sends the persisted queries, the batch requests and the
+     * GET requests, as the GraphQL client supports HTTP/1.x only.
      *
-     * @return Path to config_types.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/config_types.bal file from resources
+     * @param node        the `ConnectionConfig` node
+     * @param generation  the client generation options of the GraphQL project
+     * @param performance the performance options of the GraphQL project
+     * @return updated `ConnectionConfig` type
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/config_types_graphql.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".config_types_graphql-tmp" + System.nanoTime());
-            path = tmpDir.resolve("config_types_graphql.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
+    private TypeDefinitionNode addPerformanceDefaults(TypeDefinitionNode node, Generation generation,
+                                                      Performance performance) {
+        Map<String, String> defaultValues = new LinkedHashMap<>();
+        if (performance.hasPoolConfig()) {
+            defaultValues.put(POOL_CONFIG, getPoolConfigDefaultValue(performance));
+        }
+        if (performance.getGzip() != null) {
+            defaultValues.put(COMPRESSION, performance.getGzip() ? COMPRESSION_ALWAYS : COMPRESSION_NEVER);
+        }
+        if (performance.getKeepAlive() != null) {
+            defaultValues.put(HTTP1_SETTINGS, String.format("{keepAlive: %s}",
+                    performance.getKeepAlive() ? KEEPALIVE_ALWAYS : KEEPALIVE_NEVER));
+        }
+        boolean http2PriorKnowledge = performance.isHttp2PriorKnowledge() && generation.usesHttpClient();
+        if (defaultValues.isEmpty() && !http2PriorKnowledge) {
+            return node;
+        }
+
+        RecordTypeDescriptorNode connectionConfigNode = (RecordTypeDescriptorNode) node.typeDescriptor();
+        List<Node> fields = new ArrayList<>();
+        for (Node field : connectionConfigNode.fields()) {
+            if (field.kind() == SyntaxKind.RECORD_FIELD &&
+                    defaultValues.containsKey(((RecordFieldNode) field).fieldName().text())) {
+                RecordFieldNode recordField = (RecordFieldNode) field;
+                field = createRecordFieldWithDefaultValueNode(recordField.metadata().orElse(null), null,
+                        recordField.typeName(), recordField.fieldName(), createToken(EQUAL_TOKEN),
+                        NodeParser.parseExpression(defaultValues.get(recordField.fieldName().text())),
+                        createToken(SEMICOLON_TOKEN));
+            } else if (field.kind() == SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE &&
+                    defaultValues.containsKey(((RecordFieldWithDefaultValueNode) field).fieldName().text())) {
+                RecordFieldWithDefaultValueNode recordField = (RecordFieldWithDefaultValueNode) field;
+                field = recordField.modify().withExpression(
+                        NodeParser.parseExpression(defaultValues.get(recordField.fieldName().text()))).apply();
             }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
+            fields.add(field);
+        }
+        if (http2PriorKnowledge) {
+            MetadataNode http2PriorKnowledgeMetadataNode =
+                    getMetadataNode("Enables sending the requests of the HTTP client over HTTP/2 with prior knowledge");
+            fields.add(createRecordFieldWithDefaultValueNode(http2PriorKnowledgeMetadataNode, null,
+                    createBuiltinSimpleNameReferenceNode(null, createToken(BOOLEAN_KEYWORD)),
+                    createIdentifierToken(HTTP2_PRIOR_KNOWLEDGE), createToken(EQUAL_TOKEN),
+                    createBasicLiteralNode(BOOLEAN_LITERAL, createToken(TRUE_KEYWORD)),
+                    createToken(SEMICOLON_TOKEN)));
+        }
+        connectionConfigNode = connectionConfigNode.modify().withFields(createNodeList(fields)).apply();
+        return node.modify().withTypeDescriptor(connectionConfigNode).apply();
+    }
+
+    /**
+     * Gets the default value of the {@code poolConfig} field with the given connection pool options.
+     *
+     * @param performance the performance options of the GraphQL project
+     * @return the mapping constructor of the `graphql:PoolConfiguration` record
+     */
+    private String getPoolConfigDefaultValue(Performance performance) {
+        List<String> poolFields = new ArrayList<>();
+        if (performance.getMaxActiveConnections() != null) {
+            poolFields.add("maxActiveConnections: " + performance.getMaxActiveConnections());
+        }
+        if (performance.getMaxIdleConnections() != null) {
+            poolFields.add("maxIdleConnections: " + performance.getMaxIdleConnections());
+        }
+        if (performance.getWaitTime() != null) {
+            poolFields.add("waitTime: " + BigDecimal.valueOf(performance.getWaitTime()).stripTrailingZeros()
+                    .toPlainString());
+        }
+        if (performance.getMaxActiveStreamsPerConnection() != null) {
+            poolFields.add("maxActiveStreamsPerConnection: " + performance.getMaxActiveStreamsPerConnection());
         }
-        return path;
+        return "{" + String.join(", ", poolFields) + "}";
     }
 
     /**
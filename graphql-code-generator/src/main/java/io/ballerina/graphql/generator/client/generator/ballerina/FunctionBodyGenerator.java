@@ -18,7 +18,7 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
-import graphql.schema.GraphQLSchema;
+import graphql.language.OperationDefinition;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
 import io.ballerina.compiler.syntax.tree.BlockStatementNode;
@@ -41,20 +41,22 @@ import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.OnFailClauseNode;
 import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
 import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
-import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
 import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
-import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.client.generator.graphql.components.RelayConnection;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
+import io.ballerina.graphql.generator.client.pojo.Generation;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
 import java.util.ArrayList;
@@ -77,21 +79,23 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DO_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FAIL_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.JSON_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.NEW_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ON_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURN_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.RIGHT_ARROW_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.VAR_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHE_KEY_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_EP;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLONE_READ_ONLY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.COMMA;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_NODE_ITERATOR_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_TYPE_NAME;
@@ -101,33 +105,42 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARI
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARIABLES_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP2_PRIOR_KNOWLEDGE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_COALESCER;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SELF;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_FIELD_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_ITERATOR_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.TARGET_TYPE_PARAM_NAME;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
 
 /**
  * This class is used to generate function body's in the ballerina client file.
  */
 public class FunctionBodyGenerator {
-    private static FunctionBodyGenerator functionBodyGenerator = null;
+    private static final FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator();
 
     public static FunctionBodyGenerator getInstance() {
-        if (functionBodyGenerator == null) {
-            functionBodyGenerator = new FunctionBodyGenerator();
-        }
         return functionBodyGenerator;
     }
 
     /**
-     * Generates the client class init function body.
+     * Generates the client class init function body. The context decides the clients and the caches the client
+     * holds, together with the configurations of the WebSocket connections when the client has subscriptions.
      *
      * @param authConfig the object instance representing authentication configuration information
+     * @param context    the options the client is generated with
      * @return the node which represent the init function body
      */
-    public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig) {
+    public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig, GenerationContext context) {
+        Generation generation = context.getGeneration();
         List<StatementNode> assignmentNodes = new ArrayList<>();
         // Generate initialization statement of httpClientConfig
         List<StatementNode> httpClientConfigNode = generateHttpClientConfigurationNode(authConfig);
@@ -152,12 +165,63 @@ public class FunctionBodyGenerator {
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(apiKeyConfigAssignmentStatementNode);
         }
+        if (generation.usesHttpClient()) {
+            assignmentNodes.add(
+                    generateHttpClientAssignmentNode(context.getPerformance().isHttp2PriorKnowledge()));
+        }
+        if (generation.isPersistedQueries()) {
+            assignmentNodes.add(generatePersistedQueriesAssignmentNode());
+        }
+        if (generation.isRequestCoalescing()) {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("%s.%s = new;", SELF, QUERY_COALESCER)));
+        }
+        if (generation.getCache() != null) {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("%s.%s = new (%d);", SELF, RESPONSE_CACHE,
+                    generation.getCache().getMaxEntries())));
+        }
+        if (context.hasSubscriptions()) {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("%s.%s = getSubscriptionConfig(%s, config.%s);",
+                    SELF, SUBSCRIPTION_CONFIG, CodeGeneratorConstants.SERVICE_URL_PARAM_NAME,
+                    SUBSCRIPTION_CONFIG_FIELD_NAME)));
+        }
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
 
         return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
                 statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Generates the assignment of the HTTP client, which sends the persisted queries and the batch requests, in the
+     * init function.
+     * <pre>
+     *     self.httpClient = check getHttpClient(serviceUrl, graphqlClientConfig);
+     *     self.httpClient = check getHttpClient(serviceUrl, graphqlClientConfig, config.http2PriorKnowledge);
+     * </pre>
+     *
+     * @param http2PriorKnowledge whether the `ConnectionConfig` has the HTTP/2 with prior knowledge switch
+     * @return the node which represent the assignment statement
+     */
+    private StatementNode generateHttpClientAssignmentNode(boolean http2PriorKnowledge) {
+        if (http2PriorKnowledge) {
+            return NodeParser.parseStatement(String.format("%s.%s = check getHttpClient(%s, %s, config.%s);",
+                    SELF, HTTP_CLIENT, CodeGeneratorConstants.SERVICE_URL_PARAM_NAME,
+                    GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME, HTTP2_PRIOR_KNOWLEDGE));
+        }
+        return NodeParser.parseStatement(String.format("%s.%s = check getHttpClient(%s, %s);",
+                SELF, HTTP_CLIENT, CodeGeneratorConstants.SERVICE_URL_PARAM_NAME,
+                GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME));
+    }
+
+    /**
+     * Generates the {@code self.persistedQueries = config.persistedQueries;} assignment in the init function.
+     *
+     * @return the node which represent the assignment statement
+     */
+    private StatementNode generatePersistedQueriesAssignmentNode() {
+        return NodeParser.parseStatement(String.format("%s.%s = config.%s;",
+                SELF, PERSISTED_QUERIES, PERSISTED_QUERIES));
+    }
+
     /**
      * Generates http client config record.
      *
@@ -284,20 +348,26 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generates the client class remote function body.
+     * Generates the client class remote function body of an operation of the given document.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
-     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param document        the document value of the Graphql config file, which has the operation, or
+     *                        {@code null} when the operation is not taken from the GraphQL config file
+     * @param schemaIndex     the index of the GraphQL schema (SDL)
      * @param authConfig      the object instance representing authentication configuration information
+     * @param context         the options the client is generated with
      * @return the node which represent the remote function body
      */
-    public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition,
-                                                       GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+    public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition, String document,
+                                                       SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                       GenerationContext context) {
+        Generation generation = context.getGeneration();
         List<StatementNode> assignmentNodes = new ArrayList<>();
 
-        VariableDeclarationNode queryVariableDeclarationNode = generateQueryVariableDeclarationNode(queryDefinition);
+        VariableDeclarationNode queryVariableDeclarationNode =
+                generateQueryVariableDeclarationNode(queryDefinition, generation);
         VariableDeclarationNode graphqlVariablesDeclarationNode =
-                getGraphqlVariablesDeclarationNode(queryDefinition, graphQLSchema);
+                getGraphqlVariablesDeclarationNode(queryDefinition, schemaIndex);
 
         VariableDeclarationNode headerValuesVariableDeclarationNode =
                 generateHeaderValuesVariableDeclarationNode(authConfig);
@@ -309,12 +379,45 @@ public class FunctionBodyGenerator {
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(headerValuesVariableDeclarationNode);
             assignmentNodes.add(httpHeadersVariableDeclarationNode);
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(queryDefinition));
+        }
+        boolean isQuery = OperationDefinition.Operation.QUERY.name().equals(queryDefinition.getOperationType());
+        Integer cacheTtl = isQuery && generation.getCache() != null ?
+                generation.getCache().getTimeToLive(document, queryDefinition.getName()) : null;
+        // A coalesced query is sent as a persisted or GET query by the query coalescer itself
+        boolean coalesced = isQuery && generation.isRequestCoalescing();
+        boolean persisted = generation.isPersistedQueries() && !coalesced;
+        String executionExpression = null;
+        if (coalesced) {
+            executionExpression = getCoalescedExecutionExpression(queryDefinition, authConfig, generation);
+        } else if (isQuery && generation.isGetQueries()) {
+            executionExpression = getGetQueryExecutionExpression(authConfig, null);
+        } else if (generation.isResponseExtensions()) {
+            // The response is read as JSON, so that performDataBinding merges the extensions into its data
+            executionExpression = getGraphqlClientExecutionExpression(authConfig);
+        }
+        if (cacheTtl != null) {
+            // The cache is looked up before the query is sent in any way
+            String responseAssignment = persisted ?
+                    getPersistedQueryResponseAssignment(queryDefinition, authConfig,
+                            isQuery && generation.isGetQueries(), executionExpression) :
+                    String.format("%s = check %s;", GRAPHQL_RESPONSE_VAR_NAME, executionExpression != null ?
+                            executionExpression : getGraphqlClientExecutionExpression(authConfig));
+            assignmentNodes.addAll(generateCachedResponseNodes(queryDefinition, cacheTtl, responseAssignment));
+        } else if (persisted) {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("json %s;", GRAPHQL_RESPONSE_VAR_NAME)));
+            assignmentNodes.add(NodeParser.parseStatement(getPersistedQueryResponseAssignment(queryDefinition,
+                    authConfig, isQuery && generation.isGetQueries(), executionExpression)));
+        } else if (executionExpression != null) {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("json %s = check %s;",
+                    GRAPHQL_RESPONSE_VAR_NAME, executionExpression)));
         } else {
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNode(queryDefinition));
+            // The data of the response is bound straight to the response type of the operation
+            assignmentNodes.addAll(generateTypedResponseNodes(queryDefinition, authConfig));
         }
 
-        assignmentNodes.add(generateReturnStatementNode(queryDefinition));
+        if (cacheTtl != null || persisted || executionExpression != null) {
+            assignmentNodes.add(generateReturnStatementNode(queryDefinition));
+        }
 
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
 
@@ -322,6 +425,141 @@ public class FunctionBodyGenerator {
                 null, statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Generates the body of the client class remote function which streams the nodes of the Relay connection of an
+     * operation. The pages of the connection are fetched lazily as the stream is consumed.
+     * <pre>
+     *     string query = string `...`;
+     *     map<anydata> variables = {"first": first, "after": after};
+     *     ConnectionNodeIterator nodeIterator = new (self.graphqlClient, query, variables, "products", "after");
+     *     stream<map<json>, error?> nodeStream = new (nodeIterator);
+     *     return stream from map<json> node in nodeStream select check node.cloneWithType(ProductsNode);
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param schemaIndex     the index of the GraphQL schema (SDL)
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param generation      the client generation options of the GraphQL project
+     * @return the node which represent the connection stream function body
+     */
+    public FunctionBodyNode generateConnectionStreamFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                                 SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                                 Generation generation) {
+        RelayConnection relayConnection = queryDefinition.getRelayConnection();
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(generateQueryVariableDeclarationNode(queryDefinition, generation));
+        statementNodes.add(getGraphqlVariablesDeclarationNode(queryDefinition, schemaIndex));
+        if (authConfig.isApiKeysConfig()) {
+            statementNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            statementNodes.add(generateHttpHeadersVariableDeclarationNode());
+        }
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "%s nodeIterator = new (%s.%s, %s, %s, \"%s\", \"%s\"%s);", CONNECTION_NODE_ITERATOR_TYPE_NAME,
+                SELF, GRAPHQL_CLIENT, QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, relayConnection.getResponseKey(),
+                relayConnection.getCursorVariableName(), headersArgument)));
+        statementNodes.add(NodeParser.parseStatement("stream<map<json>, error?> nodeStream = new (nodeIterator);"));
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "return stream from map<json> node in nodeStream select check node.cloneWithType(%s);",
+                CodeGeneratorUtils.getConnectionNodeTypeName(queryDefinition.getName()))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the body of the client class remote function of a subscription. The responses of the subscription are
+     * read from the WebSocket connection only as the stream is consumed.
+     * <pre>
+     *     string query = string `...`;
+     *     map<anydata> variables = {"id": id};
+     *     SubscriptionIterator responseIterator = check startSubscription(self.subscriptionConfig, query, variables);
+     *     stream<json, error?> responseStream = new (responseIterator);
+     *     return stream from json response in responseStream
+     *         select <ProductUpdatedResponse> check performDataBinding(response, ProductUpdatedResponse);
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single subscription definition in a query document
+     * @param schemaIndex     the index of the GraphQL schema (SDL)
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param generation      the client generation options of the GraphQL project
+     * @return the node which represent the subscription remote function body
+     */
+    public FunctionBodyNode generateSubscriptionFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                             SchemaIndex schemaIndex, AuthConfig authConfig,
+                                                             Generation generation) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(generateQueryVariableDeclarationNode(queryDefinition, generation));
+        statementNodes.add(getGraphqlVariablesDeclarationNode(queryDefinition, schemaIndex));
+        if (authConfig.isApiKeysConfig()) {
+            statementNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            statementNodes.add(generateHttpHeadersVariableDeclarationNode());
+        }
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "%s responseIterator = check startSubscription(%s.%s, %s, %s%s);", SUBSCRIPTION_ITERATOR_TYPE_NAME,
+                SELF, SUBSCRIPTION_CONFIG, QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, headersArgument)));
+        statementNodes.add(NodeParser.parseStatement("stream<json, error?> responseStream = new (responseIterator);"));
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "return stream from json response in responseStream select <%1$s> check performDataBinding(response, " +
+                        "%1$s);", CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName()))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the body of the client class function which creates the batch operation of an operation.
+     * <pre>
+     *     string query = string `...`;
+     *     map<anydata> variables = {"code": code};
+     *     return {query: query, variables: variables, targetType: CountryResponse};
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param schemaIndex     the index of the GraphQL schema (SDL)
+     * @param generation      the client generation options of the GraphQL project
+     * @return the node which represent the batch operation function body
+     */
+    public FunctionBodyNode generateBatchOperationFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                               SchemaIndex schemaIndex, Generation generation) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(generateQueryVariableDeclarationNode(queryDefinition, generation));
+        statementNodes.add(getGraphqlVariablesDeclarationNode(queryDefinition, schemaIndex));
+        statementNodes.add(NodeParser.parseStatement(String.format("return {%1$s: %1$s, %2$s: %2$s, %3$s: %4$s};",
+                QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, TARGET_TYPE_PARAM_NAME,
+                CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName()))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the client class {@code executeBatch} remote function body.
+     * <pre>
+     *     return performBatchRequest(self.httpClient, operations);
+     * </pre>
+     *
+     * @param authConfig      the object instance representing authentication configuration information
+     * @return the node which represent the {@code executeBatch} remote function body
+     */
+    public FunctionBodyNode generateExecuteBatchFunctionBody(AuthConfig authConfig) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        String headersArgument = EMPTY_STRING;
+        if (authConfig.isApiKeysConfig()) {
+            statementNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            statementNodes.add(generateHttpHeadersVariableDeclarationNode());
+            headersArgument = String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME);
+        }
+        statementNodes.add(NodeParser.parseStatement(String.format("return performBatchRequest(%s.%s, %s%s);",
+                SELF, HTTP_CLIENT, BATCH_OPERATIONS_PARAM_NAME, headersArgument)));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
     /**
      * Generates the initialization statement of {@code graphql:Client} class instance in the init function.
      *
@@ -385,12 +623,15 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generates the {@code query} variable declaration node in the remote function.
+     * Generates the {@code query} variable declaration node in the remote function. The query string is either
+     * inlined or, when query constants are enabled, referred from its module-level constant.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
+     * @param generation      the client generation options of the GraphQL project
      * @return the node which represent the {@code query} variable declaration
      */
-    private VariableDeclarationNode generateQueryVariableDeclarationNode(ExtendedOperationDefinition queryDefinition) {
+    private VariableDeclarationNode generateQueryVariableDeclarationNode(ExtendedOperationDefinition queryDefinition,
+                                                                         Generation generation) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
         // {@code query} variable declaration
@@ -402,9 +643,15 @@ public class FunctionBodyGenerator {
                 bindingPattern);
 
         // Expression node
-        NodeList<Node> content = createNodeList(createIdentifierToken(queryDefinition.getQueryString()));
-        TemplateExpressionNode initializer = NodeFactory.createTemplateExpressionNode(null,
-                createToken(STRING_KEYWORD), createToken(BACKTICK_TOKEN), content, createToken(BACKTICK_TOKEN));
+        ExpressionNode initializer;
+        if (generation.isQueryConstants()) {
+            initializer = NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(
+                    CodeGeneratorUtils.getQueryConstantName(queryDefinition.getName())));
+        } else {
+            NodeList<Node> content = createNodeList(createIdentifierToken(queryDefinition.getQueryString()));
+            initializer = NodeFactory.createTemplateExpressionNode(null, createToken(STRING_KEYWORD),
+                    createToken(BACKTICK_TOKEN), content, createToken(BACKTICK_TOKEN));
+        }
 
         return NodeFactory.createVariableDeclarationNode(annotationNodes, null, typedBindingPatternNode,
                 createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
@@ -414,11 +661,11 @@ public class FunctionBodyGenerator {
      * Generates the GraphQL {@code variables} variable declaration node in the remote function.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
-     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param schemaIndex     the index of the GraphQL schema (SDL)
      * @return the node which represent the GraphQL {@code variables} declaration
      */
     private VariableDeclarationNode getGraphqlVariablesDeclarationNode(ExtendedOperationDefinition queryDefinition,
-                                                                       GraphQLSchema graphQLSchema) {
+                                                                       SchemaIndex schemaIndex) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
         // GraphQL {@code variables} declaration
@@ -433,14 +680,14 @@ public class FunctionBodyGenerator {
         List<Node> specificFields = new ArrayList<>();
 
         int count = 0;
-        for (String variableName : queryDefinition.getVariableDefinitionsMap(graphQLSchema).keySet()) {
+        for (String variableName : queryDefinition.getVariableDefinitionsMap(schemaIndex).keySet()) {
             BuiltinSimpleNameReferenceNode valueExpr = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(escapeIdentifier(variableName)));
             SpecificFieldNode specificFieldNode = NodeFactory.createSpecificFieldNode(null,
                     createIdentifierToken("\"" + variableName + "\""), createToken(COLON_TOKEN), valueExpr);
             specificFields.add(specificFieldNode);
             count++;
-            if (count < queryDefinition.getVariableDefinitionsMap(graphQLSchema).size()) {
+            if (count < queryDefinition.getVariableDefinitionsMap(schemaIndex).size()) {
                 specificFields.add(createToken(COMMA_TOKEN));
             }
         }
@@ -536,7 +783,8 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generate the return statement for a remote function.
+     * Generate the return statement for a remote function, which binds the {@code graphqlResponse} JSON of the
+     * persisted query, coalesced or cached executions to the response type of the operation.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
      * @return the node which represent the return statement for a remote function with Http headers
@@ -550,113 +798,170 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generate the {@code graphqlResponse} variable declaration node for a remote function.
+     * Generates the statements for a remote function, which bind the GraphQL response to a record enclosing the
+     * response type of the operation through the target type of {@code executeWithType}, and return its data. The
+     * GraphQL client binds the whole response to the target type, so the data is bound to the response type in the
+     * same pass, and the extensions of the response are dropped.
+     * <pre>
+     *     record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse =
+     *             check self.graphqlClient->executeWithType(query, variables);
+     *     return graphqlResponse.data;
+     * </pre>
      *
      * @param queryDefinition the object instance of a single query definition in a query document
-     * @return the node which represent the {@code graphqlResponse} variable declaration
+     * @param authConfig      the object instance representing authentication configuration information
+     * @return the list of nodes which represent the {@code graphqlResponse} declaration and the return statement
      */
-    private VariableDeclarationNode generateGraphqlResponseVariableDeclarationNode(
-            ExtendedOperationDefinition queryDefinition) {
-        NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
+    private List<StatementNode> generateTypedResponseNodes(ExtendedOperationDefinition queryDefinition,
+                                                           AuthConfig authConfig) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "record {|%s data; map<json?> extensions?;|} %s = check %s;",
+                CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName()), GRAPHQL_RESPONSE_VAR_NAME,
+                getGraphqlClientExecutionExpression(authConfig))));
+        statementNodes.add(NodeParser.parseStatement(String.format("return %s.data;", GRAPHQL_RESPONSE_VAR_NAME)));
+        return statementNodes;
+    }
 
-        // {@code json graphqlResponse} declaration
-        BuiltinSimpleNameReferenceNode typeDescriptor = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
-                createToken(JSON_KEYWORD));
-        CaptureBindingPatternNode bindingPattern = NodeFactory.createCaptureBindingPatternNode(
-                createIdentifierToken(GRAPHQL_RESPONSE_VAR_NAME));
-        TypedBindingPatternNode typedBindingPatternNode = NodeFactory.createTypedBindingPatternNode(typeDescriptor,
-                bindingPattern);
+    /**
+     * Generate the statement which executes the operation as a persisted query and assigns the response to the
+     * {@code graphqlResponse} variable for a remote function. The SHA-256 hash of the query string is computed at the
+     * generation, so that the client does not hash the query string on every call.
+     * <pre>
+     *     if self.persistedQueries {
+     *         graphqlResponse = check executePersistedQuery(self.httpClient, "...", query, variables);
+     *     } else {
+     *         graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+     *     }
+     * </pre>
+     *
+     * @param queryDefinition     the object instance of a single query definition in a query document
+     * @param authConfig          the object instance representing authentication configuration information
+     * @param getQuery            whether the persisted query is sent with an HTTP GET request
+     * @param executionExpression the expression which executes the operation when persisted queries are turned off,
+     *                            or {@code null} to execute it with the GraphQL client
+     * @return the source of the {@code graphqlResponse} assignment
+     */
+    private String getPersistedQueryResponseAssignment(ExtendedOperationDefinition queryDefinition,
+                                                       AuthConfig authConfig, boolean getQuery,
+                                                       String executionExpression) {
+        String persistedQueryHash = CodeGeneratorUtils.getPersistedQueryHash(queryDefinition.getQueryString());
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        String persistedExecutionExpression = getQuery ?
+                getGetQueryExecutionExpression(authConfig, persistedQueryHash) :
+                String.format("executePersistedQuery(%s.%s, \"%s\", %s, %s%s)", SELF, HTTP_CLIENT,
+                        persistedQueryHash, QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, headersArgument);
+        if (executionExpression == null) {
+            executionExpression = getGraphqlClientExecutionExpression(authConfig);
+        }
+        return String.format("if %1$s.%2$s {\n" +
+                        "    %3$s = check %4$s;\n" +
+                        "} else {\n" +
+                        "    %3$s = check %5$s;\n" +
+                        "}", SELF, PERSISTED_QUERIES, GRAPHQL_RESPONSE_VAR_NAME, persistedExecutionExpression,
+                executionExpression);
+    }
 
-        // {@code self.graphqlClient} declaration
-        SimpleNameReferenceNode fieldName =
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("graphqlClient"));
-        FieldAccessExpressionNode graphqlClientFieldAccessExpr = NodeFactory.createFieldAccessExpressionNode(
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("self")), createToken(DOT_TOKEN),
-                fieldName);
-
-        // {@code self.graphqlClient->executeWithType(query, variables)} declaration
-        SimpleNameReferenceNode methodName =
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("executeWithType"));
-        List<Node> arguments = new ArrayList<>();
-        FunctionArgumentNode queryArgument =
-                NodeFactory.createPositionalArgumentNode(NodeFactory.createSimpleNameReferenceNode(
-                        createIdentifierToken("query")));
-        FunctionArgumentNode variableSArgument =
-                NodeFactory.createPositionalArgumentNode(NodeFactory.createSimpleNameReferenceNode(
-                        createIdentifierToken("variables")));
-        arguments.add(queryArgument);
-        arguments.add(createToken(COMMA_TOKEN));
-        arguments.add(variableSArgument);
-        SeparatedNodeList<FunctionArgumentNode> remoteFunctionArguments = NodeFactory.
-                createSeparatedNodeList(arguments);
-        RemoteMethodCallActionNode remoteMethodCallExpr = NodeFactory.createRemoteMethodCallActionNode(
-                graphqlClientFieldAccessExpr, createToken(RIGHT_ARROW_TOKEN), methodName, createToken(OPEN_PAREN_TOKEN),
-                remoteFunctionArguments, createToken(CLOSE_PAREN_TOKEN));
-
-        // {@code check self.graphqlClient->executeWithType(query, variables)} declaration
-        CheckExpressionNode initializer = NodeFactory.createCheckExpressionNode(null, createToken(CHECK_KEYWORD),
-                remoteMethodCallExpr);
+    /**
+     * Generates the expression which executes an operation with the GraphQL client.
+     * <pre>
+     *     self.graphqlClient->executeWithType(query, variables)
+     * </pre>
+     *
+     * @param authConfig      the object instance representing authentication configuration information
+     * @return the expression which executes the operation with the GraphQL client
+     */
+    private String getGraphqlClientExecutionExpression(AuthConfig authConfig) {
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        return String.format("%s.%s->executeWithType(%s, %s%s)", SELF, GRAPHQL_CLIENT, QUERY_VAR_NAME,
+                GRAPHQL_VARIABLES_VAR_NAME, headersArgument);
+    }
 
-        return NodeFactory.createVariableDeclarationNode(annotationNodes, null, typedBindingPatternNode,
-                createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
+    /**
+     * Generates the expression which executes a query with an HTTP GET request, so that the HTTP caches and CDNs in
+     * between can serve it. The query is sent as a persisted query when the hash of the query string is given.
+     * <pre>
+     *     executeGetQuery(self.httpClient, query, variables)
+     * </pre>
+     *
+     * @param authConfig          the object instance representing authentication configuration information
+     * @param persistedQueryHash  the SHA-256 hash of the query string, or {@code null} to send the query string
+     * @return the expression which executes the query with an HTTP GET request
+     */
+    private String getGetQueryExecutionExpression(AuthConfig authConfig, String persistedQueryHash) {
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        String hashArgument = persistedQueryHash == null ? EMPTY_STRING :
+                String.format(", sha256Hash = \"%s\"", persistedQueryHash);
+        return String.format("executeGetQuery(%s.%s, %s, %s%s%s)", SELF, HTTP_CLIENT, QUERY_VAR_NAME,
+                GRAPHQL_VARIABLES_VAR_NAME, headersArgument, hashArgument);
     }
 
     /**
-     * Generate the {@code graphqlResponse} variable declaration node for a remote function with Http headers.
+     * Generates the expression which executes a query through the query coalescer of the client, so that the
+     * identical queries in flight share a single request. The variables and headers are passed as read-only values,
+     * as they are shared with the other callers. The HTTP client and the hash of the query string are passed along
+     * when the query is sent with an HTTP GET request or as a persisted query.
+     * <pre>
+     *     self.queryCoalescer.execute(self.graphqlClient, query, variables.cloneReadOnly(),
+     *             httpClient = self.httpClient, sha256Hash = self.persistedQueries ? "..." : ())
+     * </pre>
      *
      * @param queryDefinition the object instance of a single query definition in a query document
-     * @return the node which represent the {@code graphqlResponse} variable declaration
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param generation      the client generation options of the GraphQL project
+     * @return the expression which executes the query through the query coalescer
      */
-    private VariableDeclarationNode generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(
-            ExtendedOperationDefinition queryDefinition) {
-        NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
-
-        // {@code json graphqlResponse} declaration
-        BuiltinSimpleNameReferenceNode typeDescriptor = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
-                createToken(JSON_KEYWORD));
-        CaptureBindingPatternNode bindingPattern = NodeFactory.createCaptureBindingPatternNode(
-                createIdentifierToken(GRAPHQL_RESPONSE_VAR_NAME));
-        TypedBindingPatternNode typedBindingPatternNode = NodeFactory.createTypedBindingPatternNode(typeDescriptor,
-                bindingPattern);
-
-        // {@code self.graphqlClient} declaration
-        SimpleNameReferenceNode fieldName =
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("graphqlClient"));
-        FieldAccessExpressionNode graphqlClientFieldAccessExpr = NodeFactory.createFieldAccessExpressionNode(
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("self")), createToken(DOT_TOKEN),
-                fieldName);
-
-        // {@code self.graphqlClient->executeWithType(query, variables, headers = httpHeaders)} declaration
-        SimpleNameReferenceNode methodName =
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("executeWithType"));
-        List<Node> arguments = new ArrayList<>();
-        FunctionArgumentNode queryArgument =
-                NodeFactory.createPositionalArgumentNode(NodeFactory.createSimpleNameReferenceNode(
-                        createIdentifierToken("query")));
-        FunctionArgumentNode variablesArgument =
-                NodeFactory.createPositionalArgumentNode(NodeFactory.createSimpleNameReferenceNode(
-                        createIdentifierToken("variables")));
-        FunctionArgumentNode httpHeadersArgument = NodeFactory.createNamedArgumentNode(
-                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("headers")),
-                createToken(EQUAL_TOKEN), NodeFactory.createSimpleNameReferenceNode(
-                        createIdentifierToken("httpHeaders")));
-        arguments.add(queryArgument);
-        arguments.add(createToken(COMMA_TOKEN));
-        arguments.add(variablesArgument);
-        arguments.add(createToken(COMMA_TOKEN));
-        arguments.add(httpHeadersArgument);
-        SeparatedNodeList<FunctionArgumentNode> remoteFunctionArguments =
-                NodeFactory.createSeparatedNodeList(arguments);
-        RemoteMethodCallActionNode remoteMethodCallExpr = NodeFactory.
-                createRemoteMethodCallActionNode(graphqlClientFieldAccessExpr, createToken(RIGHT_ARROW_TOKEN),
-                        methodName, createToken(OPEN_PAREN_TOKEN), remoteFunctionArguments,
-                        createToken(CLOSE_PAREN_TOKEN));
-
-        // {@code check self.graphqlClient->executeWithType(query, variables, httpHeaders)} declaration
-        CheckExpressionNode initializer = NodeFactory.createCheckExpressionNode(null, createToken(CHECK_KEYWORD),
-                remoteMethodCallExpr);
+    private String getCoalescedExecutionExpression(ExtendedOperationDefinition queryDefinition,
+                                                   AuthConfig authConfig, Generation generation) {
+        String headersArgument = authConfig.isApiKeysConfig() ?
+                String.format(", headers = %s.cloneReadOnly()", HTTP_HEADERS_VARIABLES_VAR_NAME) : EMPTY_STRING;
+        String transportArguments = EMPTY_STRING;
+        if (generation.isPersistedQueries()) {
+            transportArguments = String.format(", httpClient = %1$s.%2$s, sha256Hash = %1$s.%3$s ? \"%4$s\" : ()",
+                    SELF, HTTP_CLIENT, PERSISTED_QUERIES,
+                    CodeGeneratorUtils.getPersistedQueryHash(queryDefinition.getQueryString()));
+        } else if (generation.isGetQueries()) {
+            transportArguments = String.format(", httpClient = %s.%s", SELF, HTTP_CLIENT);
+        }
+        return String.format("%1$s.%2$s.execute(%1$s.%3$s, %4$s, %5$s.cloneReadOnly()%6$s%7$s)", SELF,
+                QUERY_COALESCER, GRAPHQL_CLIENT, QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, headersArgument,
+                transportArguments);
+    }
 
-        return NodeFactory.createVariableDeclarationNode(annotationNodes, null, typedBindingPatternNode,
-                createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
+    /**
+     * Generates the statements which look up the response of a query in the response cache of the client, and send
+     * the query the way the client sends it otherwise only when the response is not cached. The TTL of the operation
+     * is taken from the GraphQL config file at the generation.
+     * <pre>
+     *     string cacheKey = getResponseCacheKey("country", variables);
+     *     json graphqlResponse = self.responseCache.get(cacheKey);
+     *     if graphqlResponse is () {
+     *         graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+     *         self.responseCache.put(cacheKey, graphqlResponse, 60);
+     *     }
+     * </pre>
+     *
+     * @param queryDefinition    the object instance of a single query definition in a query document
+     * @param cacheTtl           the TTL of the cached responses of the operation in seconds
+     * @param responseAssignment the source of the statement which sends the query and assigns the response to the
+     *                           {@code graphqlResponse} variable
+     * @return the list of nodes which represent the {@code graphqlResponse} declaration and the cache lookup
+     */
+    private List<StatementNode> generateCachedResponseNodes(ExtendedOperationDefinition queryDefinition,
+                                                            int cacheTtl, String responseAssignment) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(NodeParser.parseStatement(String.format("string %s = getResponseCacheKey(\"%s\", %s);",
+                CACHE_KEY_VAR_NAME, queryDefinition.getName(), GRAPHQL_VARIABLES_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement(String.format("json %s = %s.%s.get(%s);",
+                GRAPHQL_RESPONSE_VAR_NAME, SELF, RESPONSE_CACHE, CACHE_KEY_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement(String.format("if %1$s is () {\n" +
+                        "%2$s\n" +
+                        "    %3$s.%4$s.put(%5$s, %1$s, %6$d);\n" +
+                        "}", GRAPHQL_RESPONSE_VAR_NAME, responseAssignment, SELF, RESPONSE_CACHE, CACHE_KEY_VAR_NAME,
+                cacheTtl)));
+        return statementNodes;
     }
 }
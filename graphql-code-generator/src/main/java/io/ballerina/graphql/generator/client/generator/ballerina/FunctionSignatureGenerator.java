@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
@@ -60,9 +61,12 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATION_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_EXPRESSION;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_BATCH_RETURN_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT_RETURN_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.NULLABLE_EXPRESSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUESTION_MARK;
@@ -73,12 +77,9 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
  * This class is used to generate function signatures in the ballerina client file.
  */
 public class FunctionSignatureGenerator {
-    private static FunctionSignatureGenerator functionSignatureGenerator = null;
+    private static final FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator();
 
     public static FunctionSignatureGenerator getInstance() {
-        if (functionSignatureGenerator == null) {
-            functionSignatureGenerator = new FunctionSignatureGenerator();
-        }
         return functionSignatureGenerator;
     }
 
@@ -111,8 +112,20 @@ public class FunctionSignatureGenerator {
      */
     public FunctionSignatureNode generateRemoteFunctionSignature(ExtendedOperationDefinition queryDefinition,
                                                                  GraphQLSchema graphQLSchema) {
+        return generateRemoteFunctionSignature(queryDefinition, SchemaIndex.getInstance(graphQLSchema));
+    }
+
+    /**
+     * Generates the client class remote function signature using the index of the GraphQL schema.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @return                      the node which represent the remote function signature
+     */
+    public FunctionSignatureNode generateRemoteFunctionSignature(ExtendedOperationDefinition queryDefinition,
+                                                                 SchemaIndex schemaIndex) {
         SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
-                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(graphQLSchema)));
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(schemaIndex)));
 
         BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
                 createIdentifierToken(
@@ -124,6 +137,103 @@ public class FunctionSignatureGenerator {
                 createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
     }
 
+    /**
+     * Generates the client class remote function signature of a subscription.
+     * <pre>
+     *     (string id) returns stream<ProductUpdatedResponse, error?>|graphql:ClientError
+     * </pre>
+     *
+     * @param queryDefinition       the object instance of a single subscription definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @return                      the node which represent the subscription remote function signature
+     */
+    public FunctionSignatureNode generateSubscriptionFunctionSignature(ExtendedOperationDefinition queryDefinition,
+                                                                       SchemaIndex schemaIndex) {
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(schemaIndex)));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(
+                        CodeGeneratorUtils.getSubscriptionFunctionSignatureReturnTypeName(queryDefinition.getName())));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the signature of the client class function which creates the batch operation of an operation. The
+     * function takes the same parameters as the remote function of the operation.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @return                      the node which represent the batch operation function signature
+     */
+    public FunctionSignatureNode generateBatchOperationFunctionSignature(ExtendedOperationDefinition queryDefinition,
+                                                                         SchemaIndex schemaIndex) {
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(schemaIndex)));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the signature of the client class remote function which streams the nodes of the Relay connection
+     * of an operation. The function takes the same parameters as the remote function of the operation.
+     * <pre>
+     *     (int first, string? after = ()) returns stream<ProductsNode, error?>
+     * </pre>
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param schemaIndex           the index of the GraphQL schema (SDL)
+     * @return                      the node which represent the connection stream function signature
+     */
+    public FunctionSignatureNode generateConnectionStreamFunctionSignature(
+            ExtendedOperationDefinition queryDefinition, SchemaIndex schemaIndex) {
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(schemaIndex)));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(String.format("stream<%s, error?>",
+                        CodeGeneratorUtils.getConnectionNodeTypeName(queryDefinition.getName()))));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the client class {@code executeBatch} remote function signature.
+     * <pre>
+     *     (BatchOperation[] operations) returns BatchOperationResponse[]|graphql:ClientError
+     * </pre>
+     *
+     * @return                      the node which represent the {@code executeBatch} remote function signature
+     */
+    public FunctionSignatureNode generateExecuteBatchFunctionSignature() {
+        BuiltinSimpleNameReferenceNode operationsTypeName = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME + "[]"));
+        RequiredParameterNode operationsNode = createRequiredParameterNode(createEmptyNodeList(),
+                operationsTypeName, createIdentifierToken(BATCH_OPERATIONS_PARAM_NAME));
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(operationsNode);
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(EXECUTE_BATCH_RETURN_TYPE));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
     /**
      * Generates the client class init function parameters.
      *
@@ -21,9 +21,9 @@ package io.ballerina.graphql.generator.client.generator.ballerina;
 import graphql.language.Field;
 import graphql.language.FragmentSpread;
 import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
 import graphql.language.Selection;
 import graphql.language.SelectionSet;
-import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
@@ -31,14 +31,17 @@ import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.DocumentRegistry;
+import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
-import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFieldDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFragmentDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.client.generator.graphql.components.RelayConnection;
 import io.ballerina.graphql.generator.client.generator.graphql.components.SelectionData;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -46,6 +49,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -68,9 +72,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.FRAGMENT;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.MUTATION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.NEW_LINE;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
@@ -80,62 +82,67 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
  */
 public class TypesGenerator {
     private static final Log log = LogFactory.getLog(TypesGenerator.class);
-    private static TypesGenerator typesGenerator = null;
+    private static final TypesGenerator typesGenerator = new TypesGenerator();
 
     public static TypesGenerator getInstance() {
-        if (typesGenerator == null) {
-            typesGenerator = new TypesGenerator();
-        }
         return typesGenerator;
     }
 
     /**
      * Create query response records.
      *
-     * @param schema                    the object instance of the GraphQL schema (SDL)
-     * @param documents                 the list of documents of a given GraphQL project
+     * @param schemaIndex               the index of the GraphQL schema (SDL)
+     * @param documentRegistry          the registry of the parsed query documents of a given GraphQL project
      * @param typeDefinitionNodeList    the list of TypeDefinitionNodes
+     * @param responseExtensions        whether the response records have the {@code __extensions} field
      * @throws IOException              If an I/O error occurs
+     * @throws ClientTypesGenerationException   If an operation selects a root field undefined in the schema
      */
-    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents, List<TypeDefinitionNode>
-            typeDefinitionNodeList) throws IOException {
-        String queryObjectTypeName = QUERY;
-        String mutationObjectTypeName = MUTATION;
-        if (schema.getQueryType() != null) {
-            queryObjectTypeName = schema.getQueryType().getName();
-        }
-        if (schema.getMutationType() != null) {
-            mutationObjectTypeName = schema.getMutationType().getName();
-        }
-        Map<String, FieldType> queryFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, queryObjectTypeName);
-        Map<String, FieldType> mutationFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, mutationObjectTypeName);
-        queryFieldsMap.putAll(mutationFieldsMap);
+    protected void addQueryResponseRecords(SchemaIndex schemaIndex, DocumentRegistry documentRegistry,
+                                           List<TypeDefinitionNode> typeDefinitionNodeList, boolean responseExtensions)
+            throws IOException, ClientTypesGenerationException {
+        Map<String, FieldType> queryFieldsMap =
+                new HashMap<>(schemaIndex.getObjectTypeFieldsMap(schemaIndex.getQueryTypeName()));
+        queryFieldsMap.putAll(schemaIndex.getObjectTypeFieldsMap(schemaIndex.getMutationTypeName()));
+        // The root fields of the subscriptions are kept apart as they may share the names of the query root fields
+        Map<String, FieldType> subscriptionFieldsMap =
+                schemaIndex.getObjectTypeFieldsMap(schemaIndex.getSubscriptionTypeName());
         RecordFieldNode extensionsFieldNode = getExtensionsRecField();
         Map<String, String> fragmentRecordsMap = new HashMap<>();
 
-        for (String document: documents) {
-            QueryReader queryReader = new QueryReader(Utils.getGraphQLQueryDocument(document));
+        for (String document: documentRegistry.getDocuments()) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
             for (ExtendedOperationDefinition definition: queryReader.getExtendedOperationDefinitions()) {
                 String queryName = definition.getName();
+                Map<String, FieldType> rootFieldsMap =
+                        OperationDefinition.Operation.SUBSCRIPTION.name().equals(definition.getOperationType()) ?
+                                subscriptionFieldsMap : queryFieldsMap;
                 // Record field nodes of the Query record
                 List<Node> queryRecordFieldList = new ArrayList<>();
 
                 // Add record field for extensions - map<json?> __extensions?;
-                queryRecordFieldList.add(extensionsFieldNode);
+                if (responseExtensions) {
+                    queryRecordFieldList.add(extensionsFieldNode);
+                }
 
                 for (ExtendedFieldDefinition extendedFieldDefinition: definition.getExtendedFieldDefinitions()) {
                     String fieldName = extendedFieldDefinition.getName(); // countries
-                    String selectionType = queryFieldsMap.get(fieldName).getName(); // Country
+                    FieldType rootFieldType = rootFieldsMap.get(fieldName);
+                    if (rootFieldType == null) {
+                        throw new ClientTypesGenerationException(String.format(
+                                "Field '%s' of the %s '%s' is undefined in the schema.", fieldName,
+                                definition.getOperationType().toLowerCase(Locale.ENGLISH), queryName));
+                    }
+                    String selectionType = rootFieldType.getName(); // Country
                     String recordFieldName = fieldName;
                     if (extendedFieldDefinition.getAlias() != null) {
                         recordFieldName = extendedFieldDefinition.getAlias();
                     }
-                    Map<String, FieldType> fieldsOfSelectionType = SpecReader.getObjectTypeFieldsMap(schema,
-                            selectionType);
+                    Map<String, FieldType> fieldsOfSelectionType = schemaIndex.getObjectTypeFieldsMap(selectionType);
                     // Record field nodes of the Inline record
                     List<Node> fieldsOfInlineRecord = new ArrayList<>();
 
-                    SelectionData selectionData = new SelectionData(selectionType, fieldsOfSelectionType, schema,
+                    SelectionData selectionData = new SelectionData(selectionType, fieldsOfSelectionType, schemaIndex,
                             queryReader, fieldsOfInlineRecord, typeDefinitionNodeList, fragmentRecordsMap);
                     for (Selection selection: extendedFieldDefinition.getSelectionSet().getSelections()) {
                         handleSelection(selection, selectionData);
@@ -148,7 +155,7 @@ public class TypesGenerator {
                             createToken(CLOSE_BRACE_PIPE_TOKEN));
 
                     RecordFieldNode queryRecordFieldNode = createRecordFieldNode(null, null,
-                            createIdentifierToken(inlineRecord + queryFieldsMap.get(fieldName).getTokens()),
+                            createIdentifierToken(inlineRecord + rootFieldType.getTokens()),
                             createIdentifierToken(escapeIdentifier(recordFieldName)),
                             null,
                             createToken(SEMICOLON_TOKEN));
@@ -169,11 +176,63 @@ public class TypesGenerator {
                         queryResponseRecord,
                         createToken(SEMICOLON_TOKEN));
                 typeDefinitionNodeList.add(typeDefNode);
+
+                RelayConnection relayConnection = definition.getRelayConnection();
+                if (relayConnection != null) {
+                    String connectionType =
+                            queryFieldsMap.get(relayConnection.getConnectionField().getName()).getName();
+                    SelectionData connectionData = new SelectionData(connectionType,
+                            schemaIndex.getObjectTypeFieldsMap(connectionType), schemaIndex, queryReader,
+                            new ArrayList<>(), typeDefinitionNodeList, fragmentRecordsMap);
+                    typeDefinitionNodeList.add(getConnectionNodeRecord(queryName, relayConnection, connectionData));
+                }
             }
         }
     }
 
 
+    /**
+     * Create the record of the nodes of the Relay connection an operation paginates through, which is the element
+     * type of the stream the connection stream function of the client returns.
+     * <pre>
+     *     public type ProductsNode record {|
+     *         string id;
+     *         string name;
+     *     |};
+     * </pre>
+     *
+     * @param queryName         the name of the operation
+     * @param relayConnection   the Relay connection of the operation
+     * @param connectionData    the selection data of the connection type
+     * @return                  the node which represent the node record
+     */
+    private TypeDefinitionNode getConnectionNodeRecord(String queryName, RelayConnection relayConnection,
+                                                       SelectionData connectionData) {
+        SchemaIndex schemaIndex = connectionData.getSchemaIndex();
+        String edgeType = connectionData.getFieldsOfSelectionType().get(RelayConnection.EDGES).getName();
+        String nodeType = schemaIndex.getObjectTypeFieldsMap(edgeType).get(RelayConnection.NODE).getName();
+        List<Node> fieldsOfNodeRecord = new ArrayList<>();
+
+        SelectionData nodeData = new SelectionData(nodeType, schemaIndex.getObjectTypeFieldsMap(nodeType),
+                schemaIndex, connectionData.getQueryReader(), fieldsOfNodeRecord,
+                connectionData.getTypeDefinitionNodeList(), connectionData.getFragmentRecordsMap());
+        for (Selection selection: relayConnection.getNodeField().getSelectionSet().getSelections()) {
+            handleSelection(selection, nodeData);
+        }
+
+        RecordTypeDescriptorNode nodeRecord = createRecordTypeDescriptorNode(
+                createToken(RECORD_KEYWORD),
+                createToken(OPEN_BRACE_PIPE_TOKEN), createNodeList(fieldsOfNodeRecord), null,
+                createToken(CLOSE_BRACE_PIPE_TOKEN));
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+        return createTypeDefinitionNode(metadataNode,
+                createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD),
+                createIdentifierToken(CodeGeneratorUtils.getConnectionNodeTypeName(queryName)),
+                nodeRecord,
+                createToken(SEMICOLON_TOKEN));
+    }
+
     /**
      * Handle a Selection and create record field nodes according to its type.
      *
@@ -246,31 +305,31 @@ public class TypesGenerator {
     private void addFragmentRecord(FragmentSpread fragmentSpread, SelectionData selectionData) {
         List<Node> recordFieldList = new ArrayList<>();
         String fragmentName = fragmentSpread.getName();
-        for (ExtendedFragmentDefinition fragmentDef: selectionData.getQueryReader().getExtendedFragmentDefinitions()) {
-            if (fragmentName.equals(fragmentDef.getName())) {
-                SelectionData fragmentSelData = new SelectionData(selectionData.getSelectionType(),
-                        selectionData.getFieldsOfSelectionType(), selectionData.getSchema(),
-                        selectionData.getQueryReader(), recordFieldList, selectionData.getTypeDefinitionNodeList(),
-                        selectionData.getFragmentRecordsMap());
-                for (Selection selection: fragmentDef.getSelectionSet().getSelections()) {
-                    if (selection instanceof Field) {
-                        Field field = (Field) selection;
-                        if (field.getSelectionSet() != null) {
-                            createInlineRecordField(field, fragmentSelData);
-                        } else {
-                            String fieldName = field.getName();
-                            String typeOfField = fragmentSelData.getFieldsOfSelectionType().get(fieldName)
-                                    .getFieldTypeAsString();
-                            recordFieldList.add(createRecordFieldNode(null, null,
-                                    createIdentifierToken(typeOfField + WHITESPACE),
-                                    createIdentifierToken(fieldName),
-                                    null,
-                                    createToken(SEMICOLON_TOKEN)
-                            ));
-                        }
+        ExtendedFragmentDefinition fragmentDef =
+                selectionData.getQueryReader().getExtendedFragmentDefinition(fragmentName);
+        if (fragmentDef != null) {
+            SelectionData fragmentSelData = new SelectionData(selectionData.getSelectionType(),
+                    selectionData.getFieldsOfSelectionType(), selectionData.getSchemaIndex(),
+                    selectionData.getQueryReader(), recordFieldList, selectionData.getTypeDefinitionNodeList(),
+                    selectionData.getFragmentRecordsMap());
+            for (Selection selection: fragmentDef.getSelectionSet().getSelections()) {
+                if (selection instanceof Field) {
+                    Field field = (Field) selection;
+                    if (field.getSelectionSet() != null) {
+                        createInlineRecordField(field, fragmentSelData);
                     } else {
-                        handleSelection(selection, fragmentSelData);
+                        String fieldName = field.getName();
+                        String typeOfField = fragmentSelData.getFieldsOfSelectionType().get(fieldName)
+                                .getFieldTypeAsString();
+                        recordFieldList.add(createRecordFieldNode(null, null,
+                                createIdentifierToken(typeOfField + WHITESPACE),
+                                createIdentifierToken(fieldName),
+                                null,
+                                createToken(SEMICOLON_TOKEN)
+                        ));
                     }
+                } else {
+                    handleSelection(selection, fragmentSelData);
                 }
             }
         }
@@ -310,18 +369,16 @@ public class TypesGenerator {
      */
     private void createInlineRecordField(Field inlineRecordField, SelectionData selectionData) {
         String inlineRecordFieldName = inlineRecordField.getName(); // continent
-        Map<String, FieldType> objectFieldsMap = SpecReader.getObjectTypeFieldsMap(
-                selectionData.getSchema(),
-                selectionData.getSelectionType());
+        SchemaIndex schemaIndex = selectionData.getSchemaIndex();
+        Map<String, FieldType> objectFieldsMap = schemaIndex.getObjectTypeFieldsMap(selectionData.getSelectionType());
         String selectionType = objectFieldsMap.get(inlineRecordFieldName).getName(); // Continent
-        Map<String, FieldType> fieldsOfSelectionType = SpecReader.getObjectTypeFieldsMap(
-                selectionData.getSchema(), selectionType);
+        Map<String, FieldType> fieldsOfSelectionType = schemaIndex.getObjectTypeFieldsMap(selectionType);
 
         SelectionSet selectionSet = inlineRecordField.getSelectionSet();
         List<Node> fieldList = new ArrayList<>();
 
         SelectionData inlineRecFieldData = new SelectionData(selectionType, fieldsOfSelectionType,
-                selectionData.getSchema(), selectionData.getQueryReader(),
+                schemaIndex, selectionData.getQueryReader(),
                 fieldList, selectionData.getTypeDefinitionNodeList(), selectionData.getFragmentRecordsMap());
 
         for (Selection selection: selectionSet.getSelections()) {
@@ -348,14 +405,13 @@ public class TypesGenerator {
     /**
      * Create Input records and add it to the typeDefinitionNodeList.
      *
-     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param schemaIndex                   the index of the GraphQL schema (SDL)
      * @param typeDefinitionNodeList        the list of typeDefinitionNodes
      */
-    protected void addInputRecords(GraphQLSchema schema, List<TypeDefinitionNode> typeDefinitionNodeList) {
-        List<String> inputObjectTypes = SpecReader.getInputObjectTypeNames(schema);
-        for (String inputObjectType: inputObjectTypes) {
+    protected void addInputRecords(SchemaIndex schemaIndex, List<TypeDefinitionNode> typeDefinitionNodeList) {
+        for (String inputObjectType: schemaIndex.getInputObjectTypeNames()) {
             List<Node> recordFieldList = new ArrayList<>();
-            Map<String, FieldType> inputTypeFieldsMap = SpecReader.getInputTypeFieldsMap(schema, inputObjectType);
+            Map<String, FieldType> inputTypeFieldsMap = schemaIndex.getInputTypeFieldsMap(inputObjectType);
 
             for (Map.Entry<String, FieldType> inputTypeFields: inputTypeFieldsMap.entrySet()) {
                 String typeName = inputTypeFields.getValue().getFieldTypeAsString();
@@ -19,10 +19,12 @@
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
 import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
@@ -30,28 +32,20 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.GenerationContext;
+import io.ballerina.graphql.generator.client.pojo.Generation;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.graphql.generator.utils.TemplateCache;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -69,13 +63,24 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING
  * This class is used to generate utility functions in the ballerina utils file.
  */
 public class UtilsGenerator {
-    private static final Log log = LogFactory.getLog(UtilsGenerator.class);
-    private static UtilsGenerator utilsGenerator = null;
+    private static final UtilsGenerator utilsGenerator = new UtilsGenerator();
+    private static final Set<String> HTTP_CLIENT_MEMBERS = Set.of("getHttpClient", "postGraphqlRequest",
+            "handleGraphqlErrors");
+    private static final Set<String> PERSISTED_QUERY_MEMBERS = Set.of("executePersistedQuery",
+            "PersistedQueryError", "getPersistedQueryError");
+    private static final Set<String> BATCH_MEMBERS = Set.of("BatchOperation", "BatchOperationResponse",
+            "performBatchRequest");
+    private static final Set<String> REQUEST_COALESCING_MEMBERS = Set.of("QueryCoalescer", "InFlightQuery");
+    private static final Set<String> RESPONSE_CACHE_MEMBERS = Set.of("ResponseCacheEntry", "ResponseCache",
+            "getResponseCacheKey", "getCanonicalJsonString");
+    private static final Set<String> GET_QUERY_MEMBERS = Set.of("executeGetQuery", "PersistedQueryError",
+            "getPersistedQueryError");
+    private static final Set<String> RELAY_CONNECTION_MEMBERS = Set.of("ConnectionNodeIterator",
+            "handleGraphqlErrors");
+    private static final Set<String> SUBSCRIPTION_MEMBERS = Set.of("SubscriptionConfig", "getSubscriptionConfig",
+            "startSubscription", "SubscriptionIterator", "handleGraphqlErrors");
 
     public static UtilsGenerator getInstance() {
-        if (utilsGenerator == null) {
-            utilsGenerator = new UtilsGenerator();
-        }
         return utilsGenerator;
     }
 
@@ -83,26 +88,30 @@ public class UtilsGenerator {
      * Generates the utils file content.
      *
      * @param authConfig                        the object instance representing authentication config information
+     * @param context                           the options the client is generated with
      * @return                                  the client file content
      * @throws UtilsGenerationException         when an utils code generation error occurs
      */
-    public String generateSrc(AuthConfig authConfig) throws UtilsGenerationException {
+    public String generateSrc(AuthConfig authConfig, GenerationContext context) throws UtilsGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(authConfig)).toString();
+            return Formatter.format(generateSyntaxTree(authConfig, context)).toString();
         } catch (FormatterException | IOException e) {
             throw new UtilsGenerationException(e.getMessage());
         }
     }
 
     /**
-     * Generates the utils syntax tree.
+     * Generates the utils syntax tree. The context decides the utilities of the client generation options, of the
+     * connection stream functions and of the subscriptions the utils file has.
      *
      * @param authConfig        the object instance representing authentication config information
+     * @param context           the options the client is generated with
      * @return                  Syntax tree for the Ballerina utils file code
      * @throws IOException      If an I/O error occurs
      */
-    public SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
-        NodeList<ImportDeclarationNode> importsList = generateImports();
+    public SyntaxTree generateSyntaxTree(AuthConfig authConfig, GenerationContext context) throws IOException {
+        Generation generation = context.getGeneration();
+        NodeList<ImportDeclarationNode> importsList = generateImports(generation, context.hasSubscriptions());
 
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
         if (authConfig.isApiKeysConfig()) {
@@ -111,13 +120,14 @@ public class UtilsGenerator {
         members.add(getOperationResponseTypeDefinitionNode());
         members.add(getDataResponseTypeDefinitionNode());
 
-        Path path = getResourceFilePath();
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree utilSyntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode utilModulePartNode = utilSyntaxTree.rootNode();
+        Set<String> generationMembers = getGenerationMemberNames(generation);
+        if (context.hasRelayConnections()) {
+            generationMembers.addAll(RELAY_CONNECTION_MEMBERS);
+        }
+        if (context.hasSubscriptions()) {
+            generationMembers.addAll(SUBSCRIPTION_MEMBERS);
+        }
+        ModulePartNode utilModulePartNode = TemplateCache.getModulePartNode(TemplateCache.UTILS_TEMPLATE);
         NodeList<ModuleMemberDeclarationNode> memberDeclarationNodes = utilModulePartNode.members();
         for (ModuleMemberDeclarationNode node : memberDeclarationNodes) {
             if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
@@ -129,13 +139,26 @@ public class UtilsGenerator {
                             }
                         }
                         if (childNodeEntry.node().get().toString().equals("performDataBinding")) {
+                            members.add(generation.isResponseExtensions() ? node : getDataOnlyBindingFunctionNode());
+                        }
+                        if (generationMembers.contains(childNodeEntry.node().get().toString())) {
                             members.add(node);
                         }
                     }
                 }
+            } else if (node.kind().equals(SyntaxKind.TYPE_DEFINITION) &&
+                    generationMembers.contains(((TypeDefinitionNode) node).typeName().text())) {
+                members.add(node);
+            } else if (node.kind().equals(SyntaxKind.CLASS_DEFINITION) &&
+                    generationMembers.contains(((ClassDefinitionNode) node).className().text())) {
+                members.add(node);
             }
         }
 
+        if (generation.isRequestCoalescing()) {
+            members.add(getExecuteQueryFunctionNode(generation));
+        }
+
         ModulePartNode modulePartNode =
                 createModulePartNode(importsList, createNodeList(members), createToken(EOF_TOKEN));
 
@@ -144,16 +167,134 @@ public class UtilsGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Returns the names of the template members the given client generation options need in the utils file.
+     *
+     * @param generation                the client generation options of the GraphQL project
+     * @return                          the names of the functions, types and classes in the utils template
+     */
+    private Set<String> getGenerationMemberNames(Generation generation) {
+        Set<String> memberNames = new HashSet<>();
+        if (generation.usesHttpClient()) {
+            memberNames.addAll(HTTP_CLIENT_MEMBERS);
+        }
+        if (generation.isPersistedQueries()) {
+            memberNames.addAll(PERSISTED_QUERY_MEMBERS);
+        }
+        if (generation.isBatching()) {
+            memberNames.addAll(BATCH_MEMBERS);
+        }
+        if (generation.isRequestCoalescing()) {
+            memberNames.addAll(REQUEST_COALESCING_MEMBERS);
+        }
+        if (generation.getCache() != null) {
+            memberNames.addAll(RESPONSE_CACHE_MEMBERS);
+        }
+        if (generation.isGetQueries()) {
+            memberNames.addAll(GET_QUERY_MEMBERS);
+        }
+        return memberNames;
+    }
+
+    /**
+     * Generates the `performDataBinding` function which binds only the data of a GraphQL response, for the response
+     * records without the `__extensions` field. Unlike the template function, the extensions are not merged into the
+     * data, which would fail the binding to the closed response records. The template function is used only when the
+     * extensions of the responses are requested.
+     * <pre>
+     *     isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
+     *                                          returns DataResponse|graphql:RequestError {
+     *         do {
+     *             map<json> responseMap = <map<json>> graphqlResponse;
+     *             DataResponse response = check responseMap.get("data").cloneWithType(targetType);
+     *             return response;
+     *         } on fail var e {
+     *             return error graphql:RequestError("GraphQL Client Error", e);
+     *         }
+     *     }
+     * </pre>
+     *
+     * @return                          the `performDataBinding` function definition node
+     */
+    private ModuleMemberDeclarationNode getDataOnlyBindingFunctionNode() {
+        return NodeParser.parseModuleMemberDeclaration("isolated function performDataBinding(json graphqlResponse, " +
+                "typedesc<DataResponse> targetType) returns DataResponse|graphql:RequestError {\n" +
+                "    do {\n" +
+                "        map<json> responseMap = <map<json>> graphqlResponse;\n" +
+                "        DataResponse response = check responseMap.get(\"data\").cloneWithType(targetType);\n" +
+                "        return response;\n" +
+                "    } on fail var e {\n" +
+                "        return error graphql:RequestError(\"GraphQL Client Error\", e);\n" +
+                "    }\n" +
+                "}");
+    }
+
+    /**
+     * Generates the `executeQuery` function, which sends the queries of the query coalescer the way the client
+     * generation options select. The function only refers to the template members of the selected options, as the
+     * utils file has no other template members.
+     * <pre>
+     *     isolated function executeQuery(graphql:Client graphqlClient, http:Client? httpClient, string query,
+     *                                    map<anydata> variables, map<string|string[]>? headers, string? sha256Hash)
+     *                                    returns json|graphql:ClientError {
+     *         if httpClient is http:Client && sha256Hash is string {
+     *             return executePersistedQuery(httpClient, sha256Hash, query, variables, headers);
+     *         }
+     *         return graphqlClient->executeWithType(query, variables, headers = headers);
+     *     }
+     * </pre>
+     *
+     * @param generation                the client generation options of the GraphQL project
+     * @return                          the `executeQuery` function definition node
+     */
+    private ModuleMemberDeclarationNode getExecuteQueryFunctionNode(Generation generation) {
+        String transportStatement = EMPTY_STRING;
+        if (generation.isGetQueries()) {
+            transportStatement = "    if httpClient is http:Client {\n" +
+                    "        return executeGetQuery(httpClient, query, variables, headers, sha256Hash);\n" +
+                    "    }\n";
+        } else if (generation.isPersistedQueries()) {
+            transportStatement = "    if httpClient is http:Client && sha256Hash is string {\n" +
+                    "        return executePersistedQuery(httpClient, sha256Hash, query, variables, headers);\n" +
+                    "    }\n";
+        }
+        return NodeParser.parseModuleMemberDeclaration("isolated function executeQuery(graphql:Client " +
+                "graphqlClient, http:Client? httpClient, string query, map<anydata> variables, " +
+                "map<string|string[]>? headers, string? sha256Hash) returns json|graphql:ClientError {\n" +
+                transportStatement +
+                "    return graphqlClient->executeWithType(query, variables, headers = headers);\n" +
+                "}");
+    }
+
     /**
      * Generates the imports in the utils file.
      *
+     * @param generation                the client generation options of the GraphQL project
+     * @param subscriptions             whether an operation is a subscription
      * @return                          the node list which represent imports in the utils file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(Generation generation, boolean subscriptions) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
                 CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
         imports.add(importForGraphql);
+        // The query coalescer takes the HTTP client of the persisted and GET queries, if the client has one
+        if (generation.usesHttpClient() || generation.isRequestCoalescing()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.HTTP));
+        }
+        if (generation.getCache() != null) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.TIME));
+        }
+        if (generation.isGetQueries()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.URL));
+        }
+        if (subscriptions) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.WEBSOCKET));
+        }
         return createNodeList(imports);
     }
 
@@ -214,32 +355,4 @@ public class UtilsGenerator {
                 createToken(TYPE_KEYWORD), createIdentifierToken("DataResponse"), typeDescriptorNode,
                 createToken(SEMICOLON_TOKEN));
     }
-
-    /**
-     * Gets the path of the utils.bal template at the time of execution.
-     *
-     * @return                  Path to utils.bal file in the temporary directory created
-     * @throws  IOException     When failed to get the templates/utils.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_graphql.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    log.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
 }
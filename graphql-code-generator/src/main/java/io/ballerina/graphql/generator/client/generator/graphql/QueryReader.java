@@ -19,22 +19,50 @@
 package io.ballerina.graphql.generator.client.generator.graphql;
 
 import graphql.language.Document;
+import graphql.language.Field;
 import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
 import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFragmentDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class implements the IQueryReader.
+ * The fragment definitions of the document are indexed by name once, together with the fragments each of them
+ * spreads, so that fragment lookups do not scan the document.
  */
 public class QueryReader {
     private final Document document;
+    private final List<ExtendedFragmentDefinition> extendedFragmentDefinitions = new ArrayList<>();
+    private final Map<String, ExtendedFragmentDefinition> extendedFragmentDefinitionsMap = new HashMap<>();
+    private final Map<String, Set<String>> fragmentDependencies = new HashMap<>();
 
     public QueryReader(Document document) {
         this.document = document;
+        for (FragmentDefinition definition: document.getDefinitionsOfType(FragmentDefinition.class)) {
+            ExtendedFragmentDefinition fragmentDefinition = new ExtendedFragmentDefinition(definition);
+            extendedFragmentDefinitions.add(fragmentDefinition);
+            // Fragment names are unique in a validated document, the first definition is kept otherwise
+            if (!extendedFragmentDefinitionsMap.containsKey(definition.getName())) {
+                extendedFragmentDefinitionsMap.put(definition.getName(), fragmentDefinition);
+                Set<String> spreadFragmentNames = new LinkedHashSet<>();
+                addFragmentSpreadNames(definition.getSelectionSet(), spreadFragmentNames);
+                fragmentDependencies.put(definition.getName(), Collections.unmodifiableSet(spreadFragmentNames));
+            }
+        }
     }
 
     public List<ExtendedOperationDefinition> getExtendedOperationDefinitions() {
@@ -42,19 +70,71 @@ public class QueryReader {
         List<ExtendedOperationDefinition> extendedOperationDefinitions = new ArrayList<>();
         for (OperationDefinition definition: operationDefinitions) {
             ExtendedOperationDefinition extendedOperationDefinition =
-                    new ExtendedOperationDefinition(this.document, definition);
+                    new ExtendedOperationDefinition(this, this.document, definition);
             extendedOperationDefinitions.add(extendedOperationDefinition);
         }
         return extendedOperationDefinitions;
     }
 
     public List<ExtendedFragmentDefinition> getExtendedFragmentDefinitions() {
-        List<FragmentDefinition> fragmentDefinitions = document.getDefinitionsOfType(FragmentDefinition.class);
-        List<ExtendedFragmentDefinition> extendedFragmentDefinitions = new ArrayList<>();
-        for (FragmentDefinition definition: fragmentDefinitions) {
-            ExtendedFragmentDefinition fragmentDefinition = new ExtendedFragmentDefinition(definition);
-            extendedFragmentDefinitions.add(fragmentDefinition);
+        return Collections.unmodifiableList(extendedFragmentDefinitions);
+    }
+
+    /**
+     * Gets the fragment definition of a given fragment name.
+     *
+     * @param fragmentName      the fragment name
+     * @return                  the fragment definition, or {@code null} if the document has no such fragment
+     */
+    public ExtendedFragmentDefinition getExtendedFragmentDefinition(String fragmentName) {
+        return extendedFragmentDefinitionsMap.get(fragmentName);
+    }
+
+    /**
+     * Gets the names of the fragments directly spread by a given fragment, including the spreads nested in its
+     * fields and inline fragments.
+     *
+     * @param fragmentName      the fragment name
+     * @return                  the read-only set of the spread fragment names, empty if there is no such fragment
+     */
+    public Set<String> getFragmentDependencies(String fragmentName) {
+        return fragmentDependencies.getOrDefault(fragmentName, Collections.emptySet());
+    }
+
+    /**
+     * Gets the names of the fragments transitively reachable from a given selection set, in the order they are
+     * first reached. Fragments which are not defined in the document are not included.
+     *
+     * @param selectionSet      the selection set, such as the selection set of an operation
+     * @return                  the set of the reachable fragment names
+     */
+    public Set<String> getReachableFragmentNames(SelectionSet selectionSet) {
+        Set<String> spreadFragmentNames = new LinkedHashSet<>();
+        addFragmentSpreadNames(selectionSet, spreadFragmentNames);
+        Set<String> reachableFragmentNames = new LinkedHashSet<>();
+        Deque<String> pendingFragmentNames = new ArrayDeque<>(spreadFragmentNames);
+        while (!pendingFragmentNames.isEmpty()) {
+            String fragmentName = pendingFragmentNames.poll();
+            // A fragment is visited only once, which also stops at fragment cycles
+            if (extendedFragmentDefinitionsMap.containsKey(fragmentName) && reachableFragmentNames.add(fragmentName)) {
+                pendingFragmentNames.addAll(getFragmentDependencies(fragmentName));
+            }
+        }
+        return reachableFragmentNames;
+    }
+
+    private static void addFragmentSpreadNames(SelectionSet selectionSet, Set<String> fragmentNames) {
+        if (selectionSet == null) {
+            return;
+        }
+        for (Selection<?> selection: selectionSet.getSelections()) {
+            if (selection instanceof FragmentSpread) {
+                fragmentNames.add(((FragmentSpread) selection).getName());
+            } else if (selection instanceof Field) {
+                addFragmentSpreadNames(((Field) selection).getSelectionSet(), fragmentNames);
+            } else if (selection instanceof InlineFragment) {
+                addFragmentSpreadNames(((InlineFragment) selection).getSelectionSet(), fragmentNames);
+            }
         }
-        return extendedFragmentDefinitions;
     }
 }
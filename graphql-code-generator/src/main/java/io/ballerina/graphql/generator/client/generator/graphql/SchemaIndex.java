@@ -0,0 +1,468 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql;
+
+import graphql.language.EnumTypeDefinition;
+import graphql.language.FieldDefinition;
+import graphql.language.InputObjectTypeDefinition;
+import graphql.language.InputValueDefinition;
+import graphql.language.ListType;
+import graphql.language.NonNullType;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.OperationTypeDefinition;
+import graphql.language.ScalarTypeDefinition;
+import graphql.language.SchemaDefinition;
+import graphql.language.Type;
+import graphql.language.TypeDefinition;
+import graphql.language.TypeName;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_BOOLEAN_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_FLOAT_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_ID_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_INT_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_STRING_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.MUTATION;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION;
+import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_ANYDATA_TYPE;
+import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_BOOLEAN_TYPE;
+import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_FLOAT_TYPE;
+import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_INT_TYPE;
+import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_STRING_TYPE;
+
+/**
+ * This class represents a precomputed, read-only index of the type information of a GraphQL schema (SDL).
+ * The index is built in a single pass over the schema types and shared by every lookup made against the same
+ * schema instance. It can be built from an executable {@code GraphQLSchema} or straight from a parsed
+ * {@code TypeDefinitionRegistry}, so that the client generation does not need to build an executable schema.
+ * The fields map of a type is resolved on its first lookup and memoized for every later lookup, so that the types
+ * never selected by a query document are not resolved at all.
+ */
+public class SchemaIndex {
+    private static final Map<GraphQLSchema, SchemaIndex> schemaIndexes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<TypeDefinitionRegistry, SchemaIndex> registryIndexes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private String queryTypeName = QUERY;
+    private String mutationTypeName = MUTATION;
+    private String subscriptionTypeName = SUBSCRIPTION;
+    private final List<String> inputObjectTypeNames = new ArrayList<>();
+    private final List<String> objectTypeNames = new ArrayList<>();
+    private final List<String> customScalarTypeNames = new ArrayList<>();
+    private final List<String> enumTypeNames = new ArrayList<>();
+    private final Set<String> customScalarTypeNameSet = new HashSet<>();
+    private final Set<String> enumTypeNameSet = new HashSet<>();
+    private final Map<String, List<InputValueDefinition>> inputTypeFieldDefinitions = new HashMap<>();
+    private final Map<String, List<FieldDefinition>> objectTypeFieldDefinitions = new HashMap<>();
+    private final Map<String, Map<String, FieldType>> inputTypeFieldsMaps = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, FieldType>> objectTypeFieldsMaps = new ConcurrentHashMap<>();
+    private final LongAdder fieldsMapHitCount = new LongAdder();
+    private final LongAdder fieldsMapMissCount = new LongAdder();
+
+    /**
+     * Gets the index of a given GraphQL schema, building it on the first request.
+     *
+     * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
+     * @return                  the index of the given GraphQL schema
+     */
+    public static SchemaIndex getInstance(GraphQLSchema graphQLSchema) {
+        return schemaIndexes.computeIfAbsent(graphQLSchema, SchemaIndex::new);
+    }
+
+    /**
+     * Gets the index of a given parsed GraphQL schema (SDL), building it on the first request.
+     * The index holds the same type information as the index of the executable schema built from the registry.
+     *
+     * @param typeDefinitionRegistry    the registry of the parsed GraphQL schema (SDL)
+     * @return                          the index of the given GraphQL schema
+     */
+    public static SchemaIndex getInstance(TypeDefinitionRegistry typeDefinitionRegistry) {
+        return registryIndexes.computeIfAbsent(typeDefinitionRegistry, SchemaIndex::new);
+    }
+
+    private SchemaIndex(GraphQLSchema graphQLSchema) {
+        if (graphQLSchema.getQueryType() != null) {
+            queryTypeName = graphQLSchema.getQueryType().getName();
+        }
+        if (graphQLSchema.getMutationType() != null) {
+            mutationTypeName = graphQLSchema.getMutationType().getName();
+        }
+        if (graphQLSchema.getSubscriptionType() != null) {
+            subscriptionTypeName = graphQLSchema.getSubscriptionType().getName();
+        }
+        List<GraphQLNamedType> namedTypes = graphQLSchema.getAllTypesAsList();
+        for (GraphQLNamedType graphQLNamedType : namedTypes) {
+            String typeName = graphQLNamedType.getName();
+            if (graphQLNamedType instanceof GraphQLInputObjectType) {
+                inputObjectTypeNames.add(typeName);
+            } else if (typeName.startsWith("__")) {
+                continue;
+            } else if (graphQLNamedType instanceof GraphQLObjectType) {
+                objectTypeNames.add(typeName);
+            } else if (graphQLNamedType instanceof GraphQLScalarType && !Utils.isPrimitiveScalarType(typeName)) {
+                customScalarTypeNames.add(typeName);
+                customScalarTypeNameSet.add(typeName);
+            } else if (graphQLNamedType instanceof GraphQLEnumType) {
+                enumTypeNames.add(typeName);
+                enumTypeNameSet.add(typeName);
+            }
+        }
+        for (GraphQLNamedType graphQLNamedType : namedTypes) {
+            if (graphQLNamedType instanceof GraphQLInputObjectType) {
+                List<InputValueDefinition> fields = new ArrayList<>();
+                for (GraphQLInputObjectField field : ((GraphQLInputObjectType) graphQLNamedType).getFields()) {
+                    if (field.getDefinition() != null) {
+                        fields.add(field.getDefinition());
+                    }
+                }
+                inputTypeFieldDefinitions.put(graphQLNamedType.getName(), fields);
+            } else if (graphQLNamedType instanceof GraphQLObjectType) {
+                List<FieldDefinition> fields = new ArrayList<>();
+                for (GraphQLFieldDefinition field : ((GraphQLObjectType) graphQLNamedType).getFields()) {
+                    // Fields of the built-in introspection types are not backed by an SDL definition
+                    if (field.getDefinition() != null) {
+                        fields.add(field.getDefinition());
+                    }
+                }
+                objectTypeFieldDefinitions.put(graphQLNamedType.getName(), fields);
+            }
+        }
+    }
+
+    private SchemaIndex(TypeDefinitionRegistry typeDefinitionRegistry) {
+        Optional<SchemaDefinition> schemaDefinition = typeDefinitionRegistry.schemaDefinition();
+        if (schemaDefinition.isPresent()) {
+            for (OperationTypeDefinition operationTypeDefinition :
+                    schemaDefinition.get().getOperationTypeDefinitions()) {
+                if ("query".equals(operationTypeDefinition.getName())) {
+                    queryTypeName = operationTypeDefinition.getTypeName().getName();
+                } else if ("mutation".equals(operationTypeDefinition.getName())) {
+                    mutationTypeName = operationTypeDefinition.getTypeName().getName();
+                } else if ("subscription".equals(operationTypeDefinition.getName())) {
+                    subscriptionTypeName = operationTypeDefinition.getTypeName().getName();
+                }
+            }
+        }
+        // Sorted by name to list the types in the same order as an executable schema does
+        Map<String, TypeDefinition> typeDefinitions = new TreeMap<>(typeDefinitionRegistry.types());
+        typeDefinitions.putAll(typeDefinitionRegistry.scalars());
+        for (TypeDefinition<?> typeDefinition : typeDefinitions.values()) {
+            String typeName = typeDefinition.getName();
+            if (typeDefinition instanceof InputObjectTypeDefinition) {
+                inputObjectTypeNames.add(typeName);
+            } else if (typeDefinition instanceof ObjectTypeDefinition) {
+                objectTypeNames.add(typeName);
+            } else if (typeDefinition instanceof ScalarTypeDefinition && !Utils.isPrimitiveScalarType(typeName)) {
+                customScalarTypeNames.add(typeName);
+                customScalarTypeNameSet.add(typeName);
+            } else if (typeDefinition instanceof EnumTypeDefinition) {
+                enumTypeNames.add(typeName);
+                enumTypeNameSet.add(typeName);
+            }
+        }
+        for (TypeDefinition<?> typeDefinition : typeDefinitions.values()) {
+            String typeName = typeDefinition.getName();
+            if (typeDefinition instanceof InputObjectTypeDefinition) {
+                List<InputValueDefinition> fields =
+                        new ArrayList<>(((InputObjectTypeDefinition) typeDefinition).getInputValueDefinitions());
+                typeDefinitionRegistry.inputObjectTypeExtensions().getOrDefault(typeName, Collections.emptyList())
+                        .forEach(extension -> fields.addAll(extension.getInputValueDefinitions()));
+                inputTypeFieldDefinitions.put(typeName, fields);
+            } else if (typeDefinition instanceof ObjectTypeDefinition) {
+                List<FieldDefinition> fields =
+                        new ArrayList<>(((ObjectTypeDefinition) typeDefinition).getFieldDefinitions());
+                typeDefinitionRegistry.objectTypeExtensions().getOrDefault(typeName, Collections.emptyList())
+                        .forEach(extension -> fields.addAll(extension.getFieldDefinitions()));
+                objectTypeFieldDefinitions.put(typeName, fields);
+            }
+        }
+    }
+
+    /**
+     * Gets the name of the query root type of the schema.
+     *
+     * @return                  the query root type name
+     */
+    public String getQueryTypeName() {
+        return queryTypeName;
+    }
+
+    /**
+     * Gets the name of the mutation root type of the schema.
+     *
+     * @return                  the mutation root type name
+     */
+    public String getMutationTypeName() {
+        return mutationTypeName;
+    }
+
+    /**
+     * Gets the name of the subscription root type of the schema.
+     *
+     * @return                  the subscription root type name
+     */
+    public String getSubscriptionTypeName() {
+        return subscriptionTypeName;
+    }
+
+    /**
+     * Gets the input object type names of the schema.
+     *
+     * @return                  the list of the input object type names
+     */
+    public List<String> getInputObjectTypeNames() {
+        return Collections.unmodifiableList(inputObjectTypeNames);
+    }
+
+    /**
+     * Gets the object type names of the schema, excluding the introspection types.
+     *
+     * @return                  the list of the object type names
+     */
+    public List<String> getObjectTypeNames() {
+        return Collections.unmodifiableList(objectTypeNames);
+    }
+
+    /**
+     * Gets the custom scalar type names of the schema.
+     *
+     * @return                  the list of the custom scalar type names
+     */
+    public List<String> getCustomScalarTypeNames() {
+        return Collections.unmodifiableList(customScalarTypeNames);
+    }
+
+    /**
+     * Gets the enum type names of the schema, excluding the introspection types.
+     *
+     * @return                  the list of the enum type names
+     */
+    public List<String> getEnumTypeNames() {
+        return Collections.unmodifiableList(enumTypeNames);
+    }
+
+    /**
+     * Gets the input object type fields map of a given input object type name.
+     *
+     * @param inputObjectTypeName   the input object type name
+     * @return                      the read-only input object type fields map, empty if there is no such type
+     */
+    public Map<String, FieldType> getInputTypeFieldsMap(String inputObjectTypeName) {
+        return getFieldsMap(inputObjectTypeName, inputTypeFieldDefinitions, inputTypeFieldsMaps,
+                InputValueDefinition::getName, InputValueDefinition::getType);
+    }
+
+    /**
+     * Gets the object type fields map of a given object type name.
+     *
+     * @param objectTypeName    the object type name
+     * @return                  the read-only object type fields map, empty if there is no such type
+     */
+    public Map<String, FieldType> getObjectTypeFieldsMap(String objectTypeName) {
+        return getFieldsMap(objectTypeName, objectTypeFieldDefinitions, objectTypeFieldsMaps,
+                FieldDefinition::getName, FieldDefinition::getType);
+    }
+
+    /**
+     * Gets the number of fields map lookups served by an already resolved fields map.
+     *
+     * @return                  the number of memoized fields map lookups
+     */
+    public long getFieldsMapHitCount() {
+        return fieldsMapHitCount.sum();
+    }
+
+    /**
+     * Gets the number of fields map lookups which resolved the fields map of a type for the first time.
+     *
+     * @return                  the number of resolved fields maps
+     */
+    public long getFieldsMapMissCount() {
+        return fieldsMapMissCount.sum();
+    }
+
+    /**
+     * Gets the fields map of a given type, resolving and memoizing it on the first lookup.
+     * Field types can only be resolved once every custom scalar and enum type name is known, which always holds
+     * after the index is built.
+     *
+     * @param typeName          the type name
+     * @param fieldDefinitions  the field definitions of the types of the same kind
+     * @param fieldsMaps        the memoized fields maps of the types of the same kind
+     * @param nameFunction      the function to get the name of a field definition
+     * @param typeFunction      the function to get the type of a field definition
+     * @return                  the read-only fields map, empty if there is no such type
+     */
+    private <T> Map<String, FieldType> getFieldsMap(String typeName, Map<String, List<T>> fieldDefinitions,
+                                                    Map<String, Map<String, FieldType>> fieldsMaps,
+                                                    Function<T, String> nameFunction,
+                                                    Function<T, Type<?>> typeFunction) {
+        List<T> fields = fieldDefinitions.get(typeName);
+        if (fields == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, FieldType> fieldsMap = fieldsMaps.get(typeName);
+        if (fieldsMap != null) {
+            fieldsMapHitCount.increment();
+            return fieldsMap;
+        }
+        return fieldsMaps.computeIfAbsent(typeName, key -> {
+            fieldsMapMissCount.increment();
+            Map<String, FieldType> resolvedFieldsMap = new HashMap<>();
+            for (T field : fields) {
+                resolvedFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(nameFunction.apply(field)),
+                        getFieldType(typeFunction.apply(field)));
+            }
+            return Collections.unmodifiableMap(resolvedFieldsMap);
+        });
+    }
+
+    /**
+     * Checks whether a given GraphQL type name is an input object type.
+     *
+     * @param graphqlTypeName   the GraphQL type name
+     * @return                  whether a given GraphQL type name is an input object type
+     */
+    public boolean isInputObjectType(String graphqlTypeName) {
+        return inputTypeFieldDefinitions.containsKey(graphqlTypeName);
+    }
+
+    /**
+     * Checks whether a given GraphQL type name is a custom scalar type.
+     *
+     * @param graphqlTypeName   the GraphQL type name
+     * @return                  whether a given GraphQL type name is a custom scalar type
+     */
+    public boolean isCustomScalarType(String graphqlTypeName) {
+        return customScalarTypeNameSet.contains(graphqlTypeName);
+    }
+
+    /**
+     * Checks whether a given GraphQL type name is an enum type.
+     *
+     * @param graphqlTypeName   the GraphQL type name
+     * @return                  whether a given GraphQL type name is an enum type
+     */
+    public boolean isEnumType(String graphqlTypeName) {
+        return enumTypeNameSet.contains(graphqlTypeName);
+    }
+
+    /**
+     * Gets the Ballerina type name for a given GraphQL type name.
+     *
+     * @param graphqlTypeName   the GraphQL type name
+     * @return                  the Ballerina type name for a given GraphQL type name
+     */
+    public String getBallerinaTypeName(String graphqlTypeName) {
+        String ballerinaTypeName;
+        if (isCustomScalarType(graphqlTypeName)) {
+            ballerinaTypeName = BALLERINA_ANYDATA_TYPE;
+        } else if (isEnumType(graphqlTypeName)) {
+            ballerinaTypeName = BALLERINA_STRING_TYPE;
+        } else {
+            switch (graphqlTypeName) {
+                case GRAPHQL_ID_TYPE:
+                case GRAPHQL_STRING_TYPE:
+                    ballerinaTypeName = BALLERINA_STRING_TYPE;
+                    break;
+                case GRAPHQL_INT_TYPE:
+                    ballerinaTypeName = BALLERINA_INT_TYPE;
+                    break;
+                case GRAPHQL_FLOAT_TYPE:
+                    ballerinaTypeName = BALLERINA_FLOAT_TYPE;
+                    break;
+                case GRAPHQL_BOOLEAN_TYPE:
+                    ballerinaTypeName = BALLERINA_BOOLEAN_TYPE;
+                    break;
+                default:
+                    ballerinaTypeName = graphqlTypeName;
+            }
+        }
+        return ballerinaTypeName;
+    }
+
+    /**
+     * Gets the representation of Ballerina field type for a given GraphQL field type.
+     *
+     * @param type              the field type
+     * @return                  the representation of Ballerina type for a given GraphQL field type
+     */
+    public FieldType getFieldType(Type<?> type) {
+        FieldType fieldType = new FieldType();
+        if (type instanceof TypeName) {
+            fieldType.setName(getBallerinaTypeName(((TypeName) type).getName()));
+            fieldType.setTokens("?");
+        } else if (type instanceof NonNullType) {
+            Type<?> wrappedType = ((NonNullType) type).getType();
+            if (wrappedType instanceof TypeName) {
+                fieldType.setName(getBallerinaTypeName(((TypeName) wrappedType).getName()));
+                fieldType.setTokens("");
+            } else if (wrappedType instanceof ListType) {
+                Type<?> elementType = ((ListType) wrappedType).getType();
+                if (elementType instanceof TypeName) {
+                    fieldType.setName(getBallerinaTypeName(((TypeName) elementType).getName()));
+                    fieldType.setTokens("?[]");
+                } else if (elementType instanceof NonNullType
+                        && ((NonNullType) elementType).getType() instanceof TypeName) {
+                    fieldType.setName(getBallerinaTypeName(((TypeName) ((NonNullType) elementType).getType())
+                            .getName()));
+                    fieldType.setTokens("[]");
+                }
+            }
+        } else if (type instanceof ListType) {
+            Type<?> elementType = ((ListType) type).getType();
+            if (elementType instanceof TypeName) {
+                fieldType.setName(getBallerinaTypeName(((TypeName) elementType).getName()));
+                fieldType.setTokens("?[]?");
+            } else if (elementType instanceof NonNullType
+                    && ((NonNullType) elementType).getType() instanceof TypeName) {
+                fieldType.setName(getBallerinaTypeName(((TypeName) ((NonNullType) elementType).getType())
+                        .getName()));
+                fieldType.setTokens("[]?");
+            }
+        }
+        return fieldType;
+    }
+}
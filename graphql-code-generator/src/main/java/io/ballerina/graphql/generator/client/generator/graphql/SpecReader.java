@@ -18,24 +18,15 @@
 
 package io.ballerina.graphql.generator.client.generator.graphql;
 
-import graphql.schema.GraphQLEnumType;
-import graphql.schema.GraphQLFieldDefinition;
-import graphql.schema.GraphQLInputObjectField;
-import graphql.schema.GraphQLInputObjectType;
-import graphql.schema.GraphQLNamedType;
-import graphql.schema.GraphQLObjectType;
-import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
-import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * This class represents the GraphQL Schema (SDL) reader.
+ * The lookups are served from the {@link SchemaIndex} of the given schema, which is built once per schema instance.
  */
 public class SpecReader {
 
@@ -46,13 +37,7 @@ public class SpecReader {
      * @return                      the list of the input object type names
      */
     public static List<String> getInputObjectTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> inputObjectTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLInputObjectType) {
-                inputObjectTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return inputObjectTypeNames;
+        return SchemaIndex.getInstance(graphQLSchema).getInputObjectTypeNames();
     }
 
     /**
@@ -60,22 +45,11 @@ public class SpecReader {
      *
      * @param graphQLSchema         the instance of the Graphql schema file
      * @param inputObjectTypeName   the input object type name
-     * @return                      the input object type fields map
+     * @return                      the read-only input object type fields map
      */
     public static Map<String, FieldType> getInputTypeFieldsMap(GraphQLSchema graphQLSchema,
                                                                String inputObjectTypeName) {
-        Map<String, FieldType> inputTypeFieldsMap = new HashMap<>();
-        if (graphQLSchema.getType(inputObjectTypeName) instanceof GraphQLInputObjectType) {
-            GraphQLInputObjectType inputObjectType =
-                    ((GraphQLInputObjectType) graphQLSchema.getType(inputObjectTypeName));
-            if (inputObjectType != null) {
-                for (GraphQLInputObjectField field : inputObjectType.getFields()) {
-                    inputTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
-                            Utils.getFieldType(graphQLSchema, field.getDefinition().getType()));
-                }
-            }
-        }
-        return inputTypeFieldsMap;
+        return SchemaIndex.getInstance(graphQLSchema).getInputTypeFieldsMap(inputObjectTypeName);
     }
 
     /**
@@ -85,13 +59,7 @@ public class SpecReader {
      * @return                      the list of the object type names
      */
     public static List<String> getObjectTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> objectTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLObjectType && !graphQLNamedType.getName().startsWith("__")) {
-                objectTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return objectTypeNames;
+        return SchemaIndex.getInstance(graphQLSchema).getObjectTypeNames();
     }
 
     /**
@@ -99,21 +67,10 @@ public class SpecReader {
      *
      * @param graphQLSchema         the instance of the Graphql schema file
      * @param objectTypeName        the object type name
-     * @return                      the object type fields map
+     * @return                      the read-only object type fields map
      */
     public static Map<String, FieldType> getObjectTypeFieldsMap(GraphQLSchema graphQLSchema, String objectTypeName) {
-        Map<String, FieldType> objectTypeFieldsMap = new HashMap<>();
-        if (graphQLSchema.getType(objectTypeName) instanceof GraphQLObjectType) {
-            GraphQLObjectType objectType =
-                    ((GraphQLObjectType) graphQLSchema.getType(objectTypeName));
-            if (objectType != null) {
-                for (GraphQLFieldDefinition field : objectType.getFields()) {
-                    objectTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
-                            Utils.getFieldType(graphQLSchema, field.getDefinition().getType()));
-                }
-            }
-        }
-        return objectTypeFieldsMap;
+        return SchemaIndex.getInstance(graphQLSchema).getObjectTypeFieldsMap(objectTypeName);
     }
 
     /**
@@ -123,14 +80,7 @@ public class SpecReader {
      * @return                      the list of the custom scalar type names
      */
     public static List<String> getCustomScalarTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> scalarTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLScalarType && !graphQLNamedType.getName().startsWith("__")
-                    && !Utils.isPrimitiveScalarType(graphQLNamedType.getName())) {
-                scalarTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return scalarTypeNames;
+        return SchemaIndex.getInstance(graphQLSchema).getCustomScalarTypeNames();
     }
 
     /**
@@ -140,12 +90,6 @@ public class SpecReader {
      * @return                      the list of the enum type names
      */
     public static List<String> getEnumTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> enumTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLEnumType && !graphQLNamedType.getName().startsWith("__")) {
-                enumTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return enumTypeNames;
+        return SchemaIndex.getInstance(graphQLSchema).getEnumTypeNames();
     }
 }
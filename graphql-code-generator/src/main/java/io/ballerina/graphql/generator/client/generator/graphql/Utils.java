@@ -18,10 +18,7 @@
 
 package io.ballerina.graphql.generator.client.generator.graphql;
 
-import graphql.language.ListType;
-import graphql.language.NonNullType;
 import graphql.language.Type;
-import graphql.language.TypeName;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
@@ -30,11 +27,6 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_FLOA
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_ID_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_INT_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_STRING_TYPE;
-import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_ANYDATA_TYPE;
-import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_BOOLEAN_TYPE;
-import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_FLOAT_TYPE;
-import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_INT_TYPE;
-import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_STRING_TYPE;
 
 /**
  * Utility class for GraphQL schema (SDL) reader & GraphQL query reader.
@@ -49,31 +41,7 @@ public class Utils {
      * @return                  the Ballerina type name for a given GraphQL scalar type name
      */
     public static String getBallerinaTypeName(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        String ballerinaTypeName;
-        if (isCustomScalarType(graphQLSchema, graphqlTypeName)) {
-            ballerinaTypeName = BALLERINA_ANYDATA_TYPE;
-        } else if (isEnumType(graphQLSchema, graphqlTypeName)) {
-            ballerinaTypeName = BALLERINA_STRING_TYPE;
-        } else {
-            switch (graphqlTypeName) {
-                case GRAPHQL_ID_TYPE:
-                case GRAPHQL_STRING_TYPE:
-                    ballerinaTypeName = BALLERINA_STRING_TYPE;
-                    break;
-                case GRAPHQL_INT_TYPE:
-                    ballerinaTypeName = BALLERINA_INT_TYPE;
-                    break;
-                case GRAPHQL_FLOAT_TYPE:
-                    ballerinaTypeName = BALLERINA_FLOAT_TYPE;
-                    break;
-                case GRAPHQL_BOOLEAN_TYPE:
-                    ballerinaTypeName = BALLERINA_BOOLEAN_TYPE;
-                    break;
-                default:
-                    ballerinaTypeName = graphqlTypeName;
-            }
-        }
-        return ballerinaTypeName;
+        return SchemaIndex.getInstance(graphQLSchema).getBallerinaTypeName(graphqlTypeName);
     }
 
     /**
@@ -84,49 +52,7 @@ public class Utils {
      * @return                  the string representation of Ballerina type for a given GraphQL field type
      */
     public static FieldType getFieldType(GraphQLSchema graphQLSchema, Type<?> type) {
-        FieldType fieldType = new FieldType();
-        if (type instanceof TypeName) {
-            fieldType.setName(getBallerinaTypeName(graphQLSchema, ((TypeName) type).getName()));
-            fieldType.setTokens("?");
-        }
-        if (type instanceof NonNullType) {
-            if (((NonNullType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                        ((TypeName) ((NonNullType) type).getType()).getName()));
-                fieldType.setTokens("");
-            }
-            if (((NonNullType) type).getType() instanceof ListType) {
-                if (((ListType) ((NonNullType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                            ((TypeName) ((ListType) ((NonNullType) type).getType()).getType()).getName()));
-                    fieldType.setTokens("?[]");
-                }
-                if (((ListType) ((NonNullType) type).getType()).getType() instanceof NonNullType) {
-                    if (((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
-                            .getType() instanceof TypeName) {
-                        fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                                ((TypeName) ((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
-                                        .getType()).getName()));
-                        fieldType.setTokens("[]");
-                    }
-                }
-            }
-        }
-        if (type instanceof ListType) {
-            if (((ListType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                        ((TypeName) ((ListType) type).getType()).getName()));
-                fieldType.setTokens("?[]?");
-            }
-            if (((ListType) type).getType() instanceof NonNullType) {
-                if (((NonNullType) ((ListType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                            ((TypeName) ((NonNullType) ((ListType) type).getType()).getType()).getName()));
-                    fieldType.setTokens("[]?");
-                }
-            }
-        }
-        return fieldType;
+        return SchemaIndex.getInstance(graphQLSchema).getFieldType(type);
     }
 
     /**
@@ -159,7 +85,7 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isCustomScalarType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getCustomScalarTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.getInstance(graphQLSchema).isCustomScalarType(graphqlTypeName);
     }
 
     /**
@@ -170,6 +96,6 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isEnumType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getEnumTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.getInstance(graphQLSchema).isEnumType(graphqlTypeName);
     }
 }
@@ -27,13 +27,15 @@ import graphql.language.OperationDefinition;
 import graphql.language.Selection;
 import graphql.language.VariableDefinition;
 import graphql.schema.GraphQLSchema;
-import io.ballerina.graphql.generator.client.generator.graphql.Utils;
+import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ExtendedOperationDefinition class to extract necessary components from an GraphQL OperationDefinition.
@@ -41,10 +43,17 @@ import java.util.Map;
 public class ExtendedOperationDefinition {
     private final OperationDefinition definition;
     private final Document queryFileAst;
+    private final QueryReader queryReader;
 
     public ExtendedOperationDefinition(Document queryFileAst, OperationDefinition definition) {
+        this(null, queryFileAst, definition);
+    }
+
+    public ExtendedOperationDefinition(QueryReader queryReader, Document queryFileAst,
+                                       OperationDefinition definition) {
         this.definition = definition;
         this.queryFileAst = queryFileAst;
+        this.queryReader = queryReader;
     }
 
     public String getOperationType() {
@@ -64,10 +73,14 @@ public class ExtendedOperationDefinition {
     }
 
     public Map<String, FieldType> getVariableDefinitionsMap(GraphQLSchema graphQLSchema) {
+        return getVariableDefinitionsMap(SchemaIndex.getInstance(graphQLSchema));
+    }
+
+    public Map<String, FieldType> getVariableDefinitionsMap(SchemaIndex schemaIndex) {
         Map<String, FieldType> variableDefinitionsMap = new HashMap<>();
         for (VariableDefinition variableDefinition:this.definition.getVariableDefinitions()) {
             variableDefinitionsMap.put(variableDefinition.getName(),
-                    Utils.getFieldType(graphQLSchema, variableDefinition.getType()));
+                    schemaIndex.getFieldType(variableDefinition.getType()));
         }
         return variableDefinitionsMap;
     }
@@ -82,9 +95,31 @@ public class ExtendedOperationDefinition {
         return fieldDefinitionList;
     }
 
+    /**
+     * Gets the Relay connection the operation paginates through.
+     *
+     * @return                  the Relay connection, or {@code null} if the operation does not paginate through one
+     */
+    public RelayConnection getRelayConnection() {
+        return RelayConnection.getRelayConnection(this.definition);
+    }
+
+    /**
+     * Gets the compact query string of the operation, together with the fragments the operation transitively spreads.
+     * The other fragments of the query file are left out, so that they are not sent with every request.
+     *
+     * @return                  the compact query string of the operation
+     */
     public String getQueryString() {
-        List<FragmentDefinition> fragmentDefinitions = this.queryFileAst.getDefinitionsOfType(FragmentDefinition.class);
-        List<Definition> definitionArrayList = new ArrayList<>(fragmentDefinitions);
+        QueryReader reader = this.queryReader != null ? this.queryReader : new QueryReader(this.queryFileAst);
+        Set<String> reachableFragmentNames = reader.getReachableFragmentNames(this.definition.getSelectionSet());
+        List<Definition> definitionArrayList = new ArrayList<>();
+        // Kept in the order of the query file so that the query string does not depend on the spread order
+        for (FragmentDefinition fragmentDefinition: this.queryFileAst.getDefinitionsOfType(FragmentDefinition.class)) {
+            if (reachableFragmentNames.contains(fragmentDefinition.getName())) {
+                definitionArrayList.add(fragmentDefinition);
+            }
+        }
         Document document = Document.newDocument().definitions(definitionArrayList).definition(this.definition).build();
         return AstPrinter.printAstCompact(document);
     }
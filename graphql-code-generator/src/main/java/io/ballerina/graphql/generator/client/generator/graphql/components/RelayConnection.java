@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql.components;
+
+import graphql.language.Argument;
+import graphql.language.Field;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.VariableReference;
+
+import java.util.List;
+
+/**
+ * RelayConnection class to extract the Relay-style connection a GraphQL query operation paginates through.
+ * The operation must select a single field which takes the {@code first} and {@code after} arguments, with the
+ * cursor given through a variable, and selects {@code edges { node { ... } }} and
+ * {@code pageInfo { hasNextPage endCursor }} of the connection.
+ */
+public class RelayConnection {
+    public static final String EDGES = "edges";
+    public static final String NODE = "node";
+    private static final String FIRST = "first";
+    private static final String AFTER = "after";
+    private static final String PAGE_INFO = "pageInfo";
+    private static final String HAS_NEXT_PAGE = "hasNextPage";
+    private static final String END_CURSOR = "endCursor";
+
+    private final Field connectionField;
+    private final Field nodeField;
+    private final String cursorVariableName;
+
+    private RelayConnection(Field connectionField, Field nodeField, String cursorVariableName) {
+        this.connectionField = connectionField;
+        this.nodeField = nodeField;
+        this.cursorVariableName = cursorVariableName;
+    }
+
+    /**
+     * Gets the Relay connection a given operation paginates through.
+     *
+     * @param definition        the GraphQL operation definition
+     * @return                  the Relay connection, or {@code null} if the operation does not paginate through one
+     */
+    public static RelayConnection getRelayConnection(OperationDefinition definition) {
+        if (definition.getOperation() != OperationDefinition.Operation.QUERY) {
+            return null;
+        }
+        List<Selection> selections = definition.getSelectionSet().getSelections();
+        if (selections.size() != 1 || !(selections.get(0) instanceof Field)) {
+            return null;
+        }
+        Field connectionField = (Field) selections.get(0);
+        String cursorVariableName = getCursorVariableName(connectionField);
+        if (cursorVariableName == null || connectionField.getSelectionSet() == null) {
+            return null;
+        }
+        Field edgesField = getField(connectionField.getSelectionSet(), EDGES);
+        Field pageInfoField = getField(connectionField.getSelectionSet(), PAGE_INFO);
+        if (edgesField == null || edgesField.getSelectionSet() == null || pageInfoField == null ||
+                pageInfoField.getSelectionSet() == null) {
+            return null;
+        }
+        Field nodeField = getField(edgesField.getSelectionSet(), NODE);
+        if (nodeField == null || nodeField.getSelectionSet() == null ||
+                getField(pageInfoField.getSelectionSet(), HAS_NEXT_PAGE) == null ||
+                getField(pageInfoField.getSelectionSet(), END_CURSOR) == null) {
+            return null;
+        }
+        return new RelayConnection(connectionField, nodeField, cursorVariableName);
+    }
+
+    /**
+     * Gets the name of the variable given to the {@code after} argument of a connection field, when the field also
+     * takes the {@code first} argument.
+     *
+     * @param connectionField   the connection field
+     * @return                  the cursor variable name, or {@code null} if the field is not paginated by a variable
+     */
+    private static String getCursorVariableName(Field connectionField) {
+        boolean hasFirstArgument = false;
+        String cursorVariableName = null;
+        for (Argument argument : connectionField.getArguments()) {
+            if (FIRST.equals(argument.getName())) {
+                hasFirstArgument = true;
+            } else if (AFTER.equals(argument.getName()) && argument.getValue() instanceof VariableReference) {
+                cursorVariableName = ((VariableReference) argument.getValue()).getName();
+            }
+        }
+        return hasFirstArgument ? cursorVariableName : null;
+    }
+
+    /**
+     * Gets the field of a given name selected without an alias in a selection set.
+     *
+     * @param selectionSet      the selection set
+     * @param fieldName         the name of the field
+     * @return                  the field, or {@code null} if the field is not selected
+     */
+    private static Field getField(SelectionSet selectionSet, String fieldName) {
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field && fieldName.equals(((Field) selection).getName()) &&
+                    ((Field) selection).getAlias() == null) {
+                return (Field) selection;
+            }
+        }
+        return null;
+    }
+
+    public Field getConnectionField() {
+        return connectionField;
+    }
+
+    public Field getNodeField() {
+        return nodeField;
+    }
+
+    public String getCursorVariableName() {
+        return cursorVariableName;
+    }
+
+    /**
+     * Gets the key of the connection in the data of the GraphQL response, which is the alias of the connection field
+     * if one is given.
+     *
+     * @return                  the response key of the connection
+     */
+    public String getResponseKey() {
+        return connectionField.getAlias() != null ? connectionField.getAlias() : connectionField.getName();
+    }
+}
@@ -1,9 +1,9 @@
 package io.ballerina.graphql.generator.client.generator.graphql.components;
 
-import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
 import java.util.List;
@@ -15,18 +15,18 @@ import java.util.Map;
 public class SelectionData {
     private String selectionType;
     private Map<String, FieldType> fieldsOfSelectionType;
-    private GraphQLSchema schema;
+    private SchemaIndex schemaIndex;
     private QueryReader queryReader;
     private List<Node> fieldsOfInlineRecord;
     private List<TypeDefinitionNode> typeDefinitionNodeList;
     private Map<String, String> fragmentRecordsMap;
 
-    public SelectionData(String selectionType, Map<String, FieldType> fieldsOfSelectionType, GraphQLSchema schema,
+    public SelectionData(String selectionType, Map<String, FieldType> fieldsOfSelectionType, SchemaIndex schemaIndex,
                          QueryReader queryReader, List<Node> fieldsOfInlineRecord, List<TypeDefinitionNode>
                                  typeDefinitionNodeList, Map<String, String> fragmentRecordsMap) {
         this.selectionType = selectionType;
         this.fieldsOfSelectionType = fieldsOfSelectionType;
-        this.schema = schema;
+        this.schemaIndex = schemaIndex;
         this.queryReader = queryReader;
         this.fieldsOfInlineRecord = fieldsOfInlineRecord;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
@@ -41,8 +41,8 @@ public class SelectionData {
         return fieldsOfSelectionType;
     }
 
-    public GraphQLSchema getSchema() {
-        return schema;
+    public SchemaIndex getSchemaIndex() {
+        return schemaIndex;
     }
 
     public QueryReader getQueryReader() {
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.model;
+
+import io.ballerina.graphql.generator.client.DocumentRegistry;
+import io.ballerina.graphql.generator.client.pojo.Generation;
+import io.ballerina.graphql.generator.client.pojo.Performance;
+
+import java.io.IOException;
+
+/**
+ * Model class representing the options a client is generated with: the client generation and performance options of
+ * the GraphQL project, together with the features its query documents need.
+ */
+public class GenerationContext {
+    private final Generation generation;
+    private final Performance performance;
+    private final boolean relayConnections;
+    private final boolean subscriptions;
+
+    /**
+     * Creates the context of a client generated with the default options, for query documents without Relay
+     * connections or subscriptions.
+     */
+    public GenerationContext() {
+        this(new Generation(), new Performance(), false, false);
+    }
+
+    public GenerationContext(Generation generation, Performance performance, boolean relayConnections,
+                             boolean subscriptions) {
+        this.generation = generation;
+        this.performance = performance;
+        this.relayConnections = relayConnections;
+        this.subscriptions = subscriptions;
+    }
+
+    /**
+     * Creates the context of a client generated with the given options for the given query documents.
+     *
+     * @param documentRegistry      the registry of the parsed query documents
+     * @param generation            the client generation options of the GraphQL project
+     * @param performance           the performance options of the GraphQL project
+     * @return                      the context of the client generation
+     * @throws IOException          If an I/O error occurs
+     */
+    public static GenerationContext from(DocumentRegistry documentRegistry, Generation generation,
+                                         Performance performance) throws IOException {
+        return new GenerationContext(generation, performance, documentRegistry.hasRelayConnections(),
+                documentRegistry.hasSubscriptions());
+    }
+
+    public Generation getGeneration() {
+        return generation;
+    }
+
+    public Performance getPerformance() {
+        return performance;
+    }
+
+    /**
+     * Returns `true` if an operation of the query documents paginates through a Relay connection.
+     *
+     * @return {@link boolean}    value of the flag relayConnections
+     */
+    public boolean hasRelayConnections() {
+        return relayConnections;
+    }
+
+    /**
+     * Returns `true` if an operation of the query documents is a subscription.
+     *
+     * @return {@link boolean}    value of the flag subscriptions
+     */
+    public boolean hasSubscriptions() {
+        return subscriptions;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.pojo;
+
+import java.util.Map;
+
+/**
+ * POJO class representing the response cache options of a project in GraphQL config file.
+ * The TTLs are given in seconds, either per operation name or per document. The TTL of an operation takes precedence
+ * over the TTL of its document.
+ */
+public class Cache {
+    private static final int DEFAULT_MAX_ENTRIES = 100;
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private Map<String, Integer> operations;
+    private Map<String, Integer> documents;
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Map<String, Integer> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(Map<String, Integer> operations) {
+        this.operations = operations;
+    }
+
+    public Map<String, Integer> getDocuments() {
+        return documents;
+    }
+
+    public void setDocuments(Map<String, Integer> documents) {
+        this.documents = documents;
+    }
+
+    /**
+     * Returns the TTL of the cached responses of an operation.
+     *
+     * @param document          the document value of the Graphql config file, which has the operation
+     * @param operationName     the name of the operation
+     * @return                  the TTL in seconds, or {@code null} if the responses are not cached
+     */
+    public Integer getTimeToLive(String document, String operationName) {
+        if (operations != null && operations.containsKey(operationName)) {
+            return operations.get(operationName);
+        }
+        if (documents != null && document != null) {
+            return documents.get(document);
+        }
+        return null;
+    }
+}
@@ -23,6 +23,8 @@ package io.ballerina.graphql.generator.client.pojo;
  */
 public class Extension {
     private Endpoints endpoints;
+    private Generation generation;
+    private Performance performance;
 
     public Endpoints getEndpoints() {
         return endpoints;
@@ -31,4 +33,20 @@ public class Extension {
     public void setEndpoints(Endpoints endpoints) {
         this.endpoints = endpoints;
     }
+
+    public Generation getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(Generation generation) {
+        this.generation = generation;
+    }
+
+    public Performance getPerformance() {
+        return performance;
+    }
+
+    public void setPerformance(Performance performance) {
+        this.performance = performance;
+    }
 }
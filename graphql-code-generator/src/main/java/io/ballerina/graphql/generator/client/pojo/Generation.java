@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.pojo;
+
+/**
+ * POJO class representing client generation options of a project in GraphQL config file.
+ */
+public class Generation {
+    private boolean queryConstants;
+    private boolean persistedQueries;
+    private boolean batching;
+    private boolean requestCoalescing;
+    private boolean getQueries;
+    private boolean responseExtensions;
+    private Cache cache;
+
+    public boolean isQueryConstants() {
+        return queryConstants;
+    }
+
+    public void setQueryConstants(boolean queryConstants) {
+        this.queryConstants = queryConstants;
+    }
+
+    public boolean isPersistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public boolean isRequestCoalescing() {
+        return requestCoalescing;
+    }
+
+    public void setRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
+
+    public boolean isGetQueries() {
+        return getQueries;
+    }
+
+    public void setGetQueries(boolean getQueries) {
+        this.getQueries = getQueries;
+    }
+
+    public boolean isResponseExtensions() {
+        return responseExtensions;
+    }
+
+    public void setResponseExtensions(boolean responseExtensions) {
+        this.responseExtensions = responseExtensions;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns whether the generated client needs an HTTP client besides the GraphQL client, to send the requests the
+     * GraphQL client can not send.
+     *
+     * @return          {@code true} if persisted queries, batching or GET queries is enabled
+     */
+    public boolean usesHttpClient() {
+        return persistedQueries || batching || getQueries;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.pojo;
+
+/**
+ * POJO class representing the performance options of a project in GraphQL config file.
+ * Every option is optional and only the given ones change the defaults of the generated `ConnectionConfig`.
+ */
+public class Performance {
+    private Integer maxActiveConnections;
+    private Integer maxIdleConnections;
+    private Double waitTime;
+    private Integer maxActiveStreamsPerConnection;
+    private Boolean keepAlive;
+    private Boolean gzip;
+    private boolean http2PriorKnowledge;
+
+    public Integer getMaxActiveConnections() {
+        return maxActiveConnections;
+    }
+
+    public void setMaxActiveConnections(Integer maxActiveConnections) {
+        this.maxActiveConnections = maxActiveConnections;
+    }
+
+    public Integer getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(Integer maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public Double getWaitTime() {
+        return waitTime;
+    }
+
+    public void setWaitTime(Double waitTime) {
+        this.waitTime = waitTime;
+    }
+
+    public Integer getMaxActiveStreamsPerConnection() {
+        return maxActiveStreamsPerConnection;
+    }
+
+    public void setMaxActiveStreamsPerConnection(Integer maxActiveStreamsPerConnection) {
+        this.maxActiveStreamsPerConnection = maxActiveStreamsPerConnection;
+    }
+
+    public Boolean getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public Boolean getGzip() {
+        return gzip;
+    }
+
+    public void setGzip(Boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public boolean isHttp2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
+    public void setHttp2PriorKnowledge(boolean http2PriorKnowledge) {
+        this.http2PriorKnowledge = http2PriorKnowledge;
+    }
+
+    /**
+     * Checks whether any of the connection pool options is given.
+     *
+     * @return {@code true} if the connection pool of the client is configured
+     */
+    public boolean hasPoolConfig() {
+        return maxActiveConnections != null || maxIdleConnections != null || waitTime != null ||
+                maxActiveStreamsPerConnection != null;
+    }
+}
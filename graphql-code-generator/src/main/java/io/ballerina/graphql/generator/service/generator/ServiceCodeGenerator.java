@@ -92,6 +92,11 @@ public class ServiceCodeGenerator extends CodeGenerator {
         this.serviceTypesGenerator.setUseRecordsForObjects(true);
     }
 
+    public void enableSinglePassFormatting() {
+        this.serviceGenerator.setSinglePassFormatting(true);
+        this.serviceTypesGenerator.setSinglePassFormatting(true);
+    }
+
     public void setServiceMethodDeclarations(List<MethodDeclarationNode> serviceMethodDeclarations) {
         this.serviceMethodDeclarations = serviceMethodDeclarations;
     }
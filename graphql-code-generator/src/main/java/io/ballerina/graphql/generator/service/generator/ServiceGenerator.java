@@ -51,7 +51,6 @@ import io.ballerina.graphql.generator.service.exception.ServiceGenerationExcepti
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
@@ -92,6 +91,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SERVICE_KEYWORD;
 public class ServiceGenerator {
     private String fileName;
     private List<MethodDeclarationNode> methodDeclarations;
+    private boolean singlePassFormatting;
 
     public ModulePartNode generateContentNode() {
         NodeList<ImportDeclarationNode> imports = CodeGeneratorUtils.generateImports();
@@ -238,10 +238,13 @@ public class ServiceGenerator {
         this.methodDeclarations = methodDeclarations;
     }
 
+    public void setSinglePassFormatting(boolean singlePassFormatting) {
+        this.singlePassFormatting = singlePassFormatting;
+    }
+
     public String generateSrc() throws ServiceGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree()).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return CodeGeneratorUtils.formatSyntaxTree(this.generateSyntaxTree(), this.singlePassFormatting);
         } catch (FormatterException | IOException e) {
             throw new ServiceGenerationException(ServiceDiagnosticMessages.GRAPHQL_SERVICE_GEN_101, null,
                     e.getMessage());
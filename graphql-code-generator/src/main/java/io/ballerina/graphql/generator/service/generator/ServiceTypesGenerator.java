@@ -91,7 +91,6 @@ import io.ballerina.graphql.generator.service.exception.ServiceGenerationExcepti
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.util.ArrayList;
@@ -156,6 +155,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescr
 public class ServiceTypesGenerator extends TypesGenerator {
     private String fileName;
     private boolean useRecordsForObjects;
+    private boolean singlePassFormatting;
     private HashMap<GraphQLObjectType, Boolean> canRecordFromObject;
 
     private List<MethodDeclarationNode> serviceMethodDeclarations;
@@ -167,6 +167,14 @@ public class ServiceTypesGenerator extends TypesGenerator {
     private List<ModuleMemberDeclarationNode> objectTypesModuleMembers;
 
     public ServiceTypesGenerator() {
+        initModuleMembers();
+    }
+
+    /**
+     * Starts the module members of a new generation, so that the members of a previous schema are not carried over
+     * when the generator is reused.
+     */
+    private void initModuleMembers() {
         this.moduleMembers = new LinkedList<>();
         this.inputObjectTypesModuleMembers = new ArrayList<>();
         this.interfaceTypesModuleMembers = new ArrayList<>();
@@ -179,10 +187,13 @@ public class ServiceTypesGenerator extends TypesGenerator {
         this.useRecordsForObjects = useRecordsForObjects;
     }
 
+    public void setSinglePassFormatting(boolean singlePassFormatting) {
+        this.singlePassFormatting = singlePassFormatting;
+    }
+
     public String generateSrc(GraphQLSchema schema) throws ServiceGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema)).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return CodeGeneratorUtils.formatSyntaxTree(this.generateSyntaxTree(schema), this.singlePassFormatting);
         } catch (FormatterException e) {
             throw new ServiceGenerationException(ServiceDiagnosticMessages.GRAPHQL_SERVICE_GEN_102, null,
                     e.getMessage());
@@ -202,6 +213,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
     }
 
     public SyntaxTree generateSyntaxTree(GraphQLSchema schema) throws ServiceGenerationException {
+        initModuleMembers();
         NodeList<ImportDeclarationNode> imports = CodeGeneratorUtils.generateImports();
         addServiceType(schema);
         addTypeDefinitions(schema);
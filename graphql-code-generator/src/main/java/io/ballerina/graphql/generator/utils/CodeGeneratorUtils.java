@@ -30,16 +30,22 @@ import io.ballerina.compiler.syntax.tree.MinutiaeList;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -64,11 +70,13 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.ESCAPE_PATTE
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.IMPORT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.LINE_SEPARATOR;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODULES_PATH;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_CONSTANT_SUFFIX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SEMICOLON;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SLASH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SPECIAL_CHAR_REGEX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.WRITE_STRING_FORMAT;
 
 /**
  * Utility class for GraphQL code generation.
@@ -106,21 +114,27 @@ public class CodeGeneratorUtils {
      * @return                 the client file name of the client file to be generated
      */
     public static Path getAbsoluteFilePath(SrcFilePojo file, Path outputPath) {
-        Path filePath;
-        if (file.getModuleName().equals(ROOT_PROJECT_NAME)) {
-            File theDir = new File(outputPath.toString());
-            if (!theDir.exists()) {
-                theDir.mkdirs();
-            }
-            filePath = outputPath.resolve(file.getFileName());
-        } else {
-            File theDir = new File(outputPath + MODULES_PATH + file.getModuleName());
-            if (!theDir.exists()) {
-                theDir.mkdirs();
-            }
-            filePath = outputPath.resolve(outputPath + MODULES_PATH + file.getModuleName() + "/" + file.getFileName());
+        Path moduleDirectoryPath = getModuleDirectoryPath(file.getModuleName(), outputPath);
+        File theDir = moduleDirectoryPath.toFile();
+        if (!theDir.exists()) {
+            theDir.mkdirs();
+        }
+        return moduleDirectoryPath.resolve(file.getFileName());
+    }
+
+    /**
+     * Gets the directory the source files of a given module are generated into. The source files of the root project
+     * are generated into the target output path, and the others into their module directory.
+     *
+     * @param moduleName       the name of the module
+     * @param outputPath       the target output path
+     * @return                 the directory of the source files of the module
+     */
+    public static Path getModuleDirectoryPath(String moduleName, Path outputPath) {
+        if (moduleName.equals(ROOT_PROJECT_NAME)) {
+            return outputPath;
         }
-        return filePath;
+        return Path.of(outputPath + MODULES_PATH + moduleName);
     }
 
     /**
@@ -183,6 +197,51 @@ public class CodeGeneratorUtils {
         }
     }
 
+    /**
+     * Gets the name of the client class function which creates the batch operation of an operation, such as
+     * {@code countryBatchOperation} for {@code country}.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the batch operation function name
+     */
+    public static String getBatchOperationFunctionName(String operationName) {
+        return operationName + CodeGeneratorConstants.BATCH_OPERATION_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the client class remote function which streams the nodes of the Relay connection of an
+     * operation, such as {@code productsStream} for {@code products}.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the connection stream function name
+     */
+    public static String getConnectionStreamFunctionName(String operationName) {
+        return operationName + CodeGeneratorConstants.CONNECTION_STREAM_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the node type of the Relay connection of an operation, such as {@code ProductsNode} for
+     * {@code products}.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the connection node type name
+     */
+    public static String getConnectionNodeTypeName(String operationName) {
+        return operationName.substring(0, 1).toUpperCase() + operationName.substring(1) +
+                CodeGeneratorConstants.CONNECTION_NODE_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the response type of an operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the response type name
+     */
+    public static String getResponseTypeName(String operationName) {
+        return operationName.substring(0, 1).toUpperCase() + operationName.substring(1) +
+                CodeGeneratorConstants.RESPONSE;
+    }
+
     /**
      * Gets the remote function signature return type name.
      *
@@ -194,6 +253,17 @@ public class CodeGeneratorUtils {
                 operationName.substring(1).concat("Response|graphql:ClientError");
     }
 
+    /**
+     * Gets the subscription remote function signature return type name, such as
+     * {@code stream<ProductUpdatedResponse, error?>|graphql:ClientError} for {@code productUpdated}.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the subscription remote function return type name
+     */
+    public static String getSubscriptionFunctionSignatureReturnTypeName(String operationName) {
+        return String.format("stream<%s, error?>|graphql:ClientError", getResponseTypeName(operationName));
+    }
+
     /**
      * Gets the remote function body return type name.
      *
@@ -207,6 +277,49 @@ public class CodeGeneratorUtils {
                 operationName.substring(1) + "Response)";
     }
 
+    /**
+     * Gets the name of the module-level constant holding the query string of an operation. The name is the upper
+     * snake case form of the operation name, such as {@code GET_COUNTRY_QUERY} for {@code getCountry}.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the query string constant name
+     */
+    public static String getQueryConstantName(String operationName) {
+        return operationName.replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                .replaceAll("([A-Z])([A-Z][a-z])", "$1_$2")
+                .toUpperCase(Locale.ROOT) + QUERY_CONSTANT_SUFFIX;
+    }
+
+    /**
+     * Gets the Ballerina string literal of a given value, escaping the characters which can not appear as is.
+     *
+     * @param value            the string value
+     * @return                 the Ballerina string literal
+     */
+    public static String getStringLiteral(String value) {
+        return String.format(WRITE_STRING_FORMAT, value.replace("\\", "\\\\").replace("\"", "\\\""));
+    }
+
+    /**
+     * Gets the hex encoded SHA-256 hash of a given query string, which identifies the query as a persisted query.
+     *
+     * @param query            the query string
+     * @return                 the hex encoded SHA-256 hash of the query string
+     */
+    public static String getPersistedQueryHash(String query) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder();
+            for (byte hashByte : hash) {
+                hexString.append(String.format("%02x", hashByte));
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static MetadataNode getMetadataNode(String comment) {
         List<Node> docs = new ArrayList<>(CodeGeneratorUtils.createAPIDescriptionDoc(comment, false));
         MarkdownDocumentationNode authDocumentationNode = createMarkdownDocumentationNode(
@@ -321,4 +434,53 @@ public class CodeGeneratorUtils {
         }
         return identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1);
     }
+
+    /**
+     * Formats the given syntax tree and returns the formatted source code.
+     * The default mode formats the syntax tree and then formats the resulting source once more, so that the code
+     * embedded as raw text within identifier tokens gets formatted as well. The single pass mode serializes the
+     * syntax tree compactly instead of running the first formatter pass, and formats the parsed source only once.
+     *
+     * @param syntaxTree                the syntax tree to be formatted
+     * @param singlePassFormatting      whether to run the formatter only once
+     * @return                          the formatted source code
+     * @throws FormatterException       when a formatting error occurs
+     */
+    public static String formatSyntaxTree(SyntaxTree syntaxTree, boolean singlePassFormatting)
+            throws FormatterException {
+        if (singlePassFormatting) {
+            StringBuilder sourceBuilder = new StringBuilder();
+            appendCompactSource(syntaxTree.rootNode(), sourceBuilder);
+            return Formatter.format(sourceBuilder.toString());
+        }
+        String formattedSource = Formatter.format(syntaxTree).toString();
+        return Formatter.format(formattedSource);
+    }
+
+    /**
+     * Appends the source code of the given node, separating only the adjacent tokens which would otherwise be
+     * lexed as a single token.
+     *
+     * @param node              the node to be serialized
+     * @param sourceBuilder     the builder which accumulates the source code
+     */
+    private static void appendCompactSource(Node node, StringBuilder sourceBuilder) {
+        if (node instanceof Token) {
+            String tokenSource = node.toSourceCode();
+            if (!tokenSource.isEmpty() && sourceBuilder.length() > 0
+                    && isIdentifierChar(sourceBuilder.charAt(sourceBuilder.length() - 1))
+                    && isIdentifierChar(tokenSource.charAt(0))) {
+                sourceBuilder.append(WHITESPACE);
+            }
+            sourceBuilder.append(tokenSource);
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            appendCompactSource(child, sourceBuilder);
+        }
+    }
+
+    private static boolean isIdentifierChar(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '\\' || character == '\'';
+    }
 }
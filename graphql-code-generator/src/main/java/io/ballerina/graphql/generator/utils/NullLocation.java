@@ -28,15 +28,12 @@ import io.ballerina.tools.text.TextRange;
  */
 public final class NullLocation implements Location {
 
-    private static NullLocation nullLocation = null;
+    private static final NullLocation nullLocation = new NullLocation();
 
     private NullLocation() {
     }
 
     public static NullLocation getInstance() {
-        if (nullLocation == null) {
-            nullLocation = new NullLocation();
-        }
         return nullLocation;
     }
 
@@ -35,10 +35,12 @@ public class SrcFilePojo {
         IMPL_SRC,
         CONFIG_SRC,
         TEST_SRC,
-        RES;
+        RES,
+        MANIFEST;
 
         public boolean isOverwritable() {
-            if (this == GEN_SRC || this == RES || this == MODEL_SRC || this == UTIL_SRC ||  this == CONFIG_SRC) {
+            if (this == GEN_SRC || this == RES || this == MODEL_SRC || this == UTIL_SRC ||  this == CONFIG_SRC ||
+                    this == MANIFEST) {
                 return true;
             }
 
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.utils;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of the Ballerina source templates bundled as classpath resources.
+ * A template is parsed once and the resulting (immutable) module part node is shared by every generation.
+ */
+public class TemplateCache {
+    public static final String UTILS_TEMPLATE = "templates/utils_graphql.bal";
+    public static final String CONFIG_TYPES_TEMPLATE = "templates/config_types_graphql.bal";
+
+    private static final Map<String, ModulePartNode> templates = new ConcurrentHashMap<>();
+
+    private TemplateCache() {
+    }
+
+    /**
+     * Gets the root node of the parsed template in the given resource path.
+     *
+     * @param templatePath          the classpath resource path of the template
+     * @return                      the module part node of the parsed template
+     * @throws IOException          If the template cannot be found or read
+     */
+    public static ModulePartNode getModulePartNode(String templatePath) throws IOException {
+        ModulePartNode modulePartNode = templates.get(templatePath);
+        if (modulePartNode == null) {
+            modulePartNode = parseTemplate(templatePath);
+            ModulePartNode cachedNode = templates.putIfAbsent(templatePath, modulePartNode);
+            if (cachedNode != null) {
+                modulePartNode = cachedNode;
+            }
+        }
+        return modulePartNode;
+    }
+
+    private static ModulePartNode parseTemplate(String templatePath) throws IOException {
+        ClassLoader classLoader = TemplateCache.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(templatePath)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the template: " + templatePath);
+            }
+            String templateContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(templateContent));
+            return syntaxTree.rootNode();
+        }
+    }
+}
@@ -38,6 +38,7 @@ module io.ballerina.graphql.generator {
     exports io.ballerina.graphql.generator.service.exception;
     exports io.ballerina.graphql.generator.service.generator;
     exports io.ballerina.graphql.generator.client.generator;
+    exports io.ballerina.graphql.generator.client.generator.graphql;
     exports io.ballerina.graphql.generator.service.diagnostic;
     exports io.ballerina.graphql.generator.client.diagnostic;
 